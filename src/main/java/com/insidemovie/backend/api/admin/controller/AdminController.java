@@ -4,7 +4,11 @@ import com.insidemovie.backend.api.admin.dto.AdminDashboardDTO;
 import com.insidemovie.backend.api.admin.dto.AdminMemberDTO;
 import com.insidemovie.backend.api.admin.dto.AdminReportDTO;
 import com.insidemovie.backend.api.admin.service.AdminService;
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeBackfillStatusDTO;
+import com.insidemovie.backend.api.movie.service.BoxOfficeBackfillService;
 import com.insidemovie.backend.api.report.service.ReportService;
+import com.insidemovie.backend.api.review.service.EmotionAnalysisService;
 import com.insidemovie.backend.common.response.ApiResponse;
 import com.insidemovie.backend.common.response.PageResult;
 import com.insidemovie.backend.common.response.SuccessStatus;
@@ -13,9 +17,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/admin")
@@ -24,6 +31,8 @@ public class AdminController {
 
     private final AdminService adminService;
     private final ReportService reportService;
+    private final BoxOfficeBackfillService boxOfficeBackfillService;
+    private final EmotionAnalysisService emotionAnalysisService;
 
     @Operation(
             summary = "회원 목록 조회 API", description = "회원 목록을 조회합니다.")
@@ -92,5 +101,30 @@ public class AdminController {
         return ApiResponse.success(SuccessStatus.SEND_DASHBOARD_SUCCESS, dto);
     }
 
+    @Operation(summary = "박스오피스 과거 데이터 백필",
+            description = "기간(yyyyMMdd) 내 KOBIS 일간/주간 박스오피스를 수집합니다. 같은 기간은 마지막 완료 날짜 다음부터 이어서 수행합니다.")
+    @PostMapping("/boxoffice/backfill")
+    public ResponseEntity<ApiResponse<BoxOfficeBackfillStatusDTO>> startBoxOfficeBackfill(
+            @RequestParam BoxOfficeType type,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate to,
+            @RequestParam(defaultValue = "false") boolean restart
+    ) {
+        BoxOfficeBackfillStatusDTO dto = boxOfficeBackfillService.start(type, from, to, restart);
+        return ApiResponse.success(SuccessStatus.START_BOXOFFICE_BACKFILL_SUCCESS, dto);
+    }
+
+    @Operation(summary = "박스오피스 백필 진행 상황", description = "현재(또는 마지막) 백필의 진행률과 처리 속도(days/s)를 반환합니다.")
+    @GetMapping("/boxoffice/backfill")
+    public ResponseEntity<ApiResponse<BoxOfficeBackfillStatusDTO>> getBoxOfficeBackfillStatus() {
+        return ApiResponse.success(SuccessStatus.SEND_BOXOFFICE_BACKFILL_STATUS_SUCCESS, boxOfficeBackfillService.status());
+    }
+
+    @Operation(summary = "실패한 감정 분석 재처리", description = "재시도 한도를 넘겨 보관된(DEAD) 리뷰 감정 분석 작업을 다시 대기열에 넣고 건수를 반환합니다.")
+    @PostMapping("/emotion-tasks/requeue")
+    public ResponseEntity<ApiResponse<Integer>> requeueEmotionTasks() {
+        return ApiResponse.success(SuccessStatus.REQUEUE_EMOTION_TASK_SUCCESS, emotionAnalysisService.requeueDead());
+    }
+
 
 }
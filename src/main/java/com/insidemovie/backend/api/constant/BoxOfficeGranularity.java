@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum BoxOfficeGranularity {
+    DAILY,      // 일별 (daily_box_office 원본)
+    WEEKLY,     // ISO 주 (월요일 시작)
+    MONTHLY     // 월
+}
@@ -0,0 +1,6 @@
+package com.insidemovie.backend.api.constant;
+
+public enum BoxOfficeType {
+    DAILY,      // 일간
+    WEEKLY      // 주간
+}
@@ -0,0 +1,6 @@
+package com.insidemovie.backend.api.constant;
+
+public enum CreditRole {
+    ACTOR,      // 출연
+    DIRECTOR    // 감독
+}
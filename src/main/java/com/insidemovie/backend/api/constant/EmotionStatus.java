@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum EmotionStatus {
+    PENDING,    // 감정 분석 대기 / 진행 중
+    DONE,       // 분석 완료 (emotion 저장됨)
+    FAILED      // 재시도 한도 초과 (emotion_analysis_task 에 DEAD 로 남음)
+}
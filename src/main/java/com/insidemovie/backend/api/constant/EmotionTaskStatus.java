@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.constant;
+
+public enum EmotionTaskStatus {
+    PENDING,        // next_attempt_at 이후 처리 대상
+    PROCESSING,     // 워커가 가져가 처리 중 (locked_until 이 지나면 다시 처리 대상)
+    DEAD            // 재시도 한도 초과, 관리자 재처리 전까지 보관
+}
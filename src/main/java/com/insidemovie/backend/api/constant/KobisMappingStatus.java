@@ -0,0 +1,6 @@
+package com.insidemovie.backend.api.constant;
+
+public enum KobisMappingStatus {
+    RESOLVED,       // TMDB 영화와 매칭 완료
+    UNRESOLVED      // 매칭 실패 (retry_after 이후 재검색)
+}
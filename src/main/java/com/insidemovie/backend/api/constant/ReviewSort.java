@@ -8,16 +8,20 @@ public enum ReviewSort {
     OLDEST,    // 오래된순
     POPULAR;   // 좋아요 많은 순
 
+    // 같은 값끼리 순서가 흔들리지 않도록 마지막에 id 로 정렬 (커서 페이지네이션 기준과 동일)
     public Sort toSort() {
         switch (this) {
             case OLDEST:
-                return Sort.by("createdAt").ascending();
+                return Sort.by("createdAt").ascending()
+                        .and(Sort.by("id").ascending());
             case POPULAR:
                 return Sort.by("likeCount").descending()
-                        .and(Sort.by("createdAt").descending());
+                        .and(Sort.by("createdAt").descending())
+                        .and(Sort.by("id").descending());
             case LATEST:
             default:
-                return Sort.by("createdAt").descending();
+                return Sort.by("createdAt").descending()
+                        .and(Sort.by("id").descending());
         }
     }
 }
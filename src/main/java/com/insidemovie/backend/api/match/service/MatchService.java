@@ -15,7 +15,7 @@ import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.common.exception.InternalServerException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
@@ -25,12 +25,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 @Slf4j
@@ -44,7 +45,7 @@ public class MatchService {
     private final VoteRepository voteRepository;
     private final MemberRepository memberRepository;
     private final Random random = new Random();
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
 
     // 대결 생성
     @Transactional
@@ -158,19 +159,14 @@ public class MatchService {
 
         // 매치 내역 조회
         List<MovieMatch> movieMatch = movieMatchRepository.findByMatchId(lastMatch.getId());
+        Map<Long, BigDecimal> ratings = movieRatingStatsService.averages(
+                movieMatch.stream().map(mm -> mm.getMovie().getId()).toList());
 
         for (MovieMatch mm : movieMatch) {
             Movie movie = mm.getMovie();
             MovieEmotionSummary movieEmotion = movie.getEmotions();
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
 
             MovieEmotionResDTO emotionDto = MovieEmotionResDTO.builder()
                     .joy(movieEmotion.getJoy())
@@ -198,20 +194,15 @@ public class MatchService {
     public List<WinnerHistoryDto> getWinnerHistory() {
         List<Match> matches = matchRepository.findAll();
         List<WinnerHistoryDto> response = new ArrayList<>();
+        Map<Long, BigDecimal> ratings = movieRatingStatsService.averages(
+                matches.stream().map(Match::getWinnerId).filter(Objects::nonNull).toList());
 
         for (Match match : matches) {
             if (match.getWinnerId() == null) continue;
             Movie movie = movieRepository.findById(match.getWinnerId())
                     .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
 
             MovieEmotionSummary movieEmotion = movie.getEmotions();
             MovieEmotionResDTO emotionDto = MovieEmotionResDTO.builder()
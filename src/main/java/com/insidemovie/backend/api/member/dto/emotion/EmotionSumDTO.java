@@ -0,0 +1,32 @@
+package com.insidemovie.backend.api.member.dto.emotion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 영화 하나에 달린 리뷰 감정의 합계 / 개수 (movie_emotion_summary 누적값 초기화 / 검증용)
+ */
+@Getter
+@AllArgsConstructor
+public class EmotionSumDTO {
+
+    private Long movieId;
+    private Long count;
+    private Double joy;
+    private Double sadness;
+    private Double anger;
+    private Double fear;
+    private Double disgust;
+
+    public static EmotionSumDTO empty(Long movieId) {
+        return new EmotionSumDTO(movieId, 0L, 0.0, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    // 합계 / 개수 기준 평균 (대표 감정은 호출 측에서 계산)
+    public EmotionAvgDTO averages() {
+        if (count == null || count == 0) {
+            return new EmotionAvgDTO(0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        return new EmotionAvgDTO(joy / count, sadness / count, anger / count, fear / count, disgust / count);
+    }
+}
@@ -0,0 +1,38 @@
+package com.insidemovie.backend.api.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 요약 재계산이 필요한 회원 (회원당 한 행).
+ * 좋아요한 영화의 감정 요약이 바뀔 때마다 표시만 해 두고(같은 회원은 dirty_at 만 갱신, first_dirty_at 은 유지),
+ * MemberEmotionSummaryScheduler 가 모아서 일괄 재계산한다.
+ * 쓰기는 MemberEmotionDirtyJdbcRepository 에서만 하고, 엔티티는 테이블 생성용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "member_emotion_dirty",
+    indexes = {
+        @Index(name = "idx_member_emotion_dirty_at", columnList = "dirty_at"),
+        @Index(name = "idx_member_emotion_first_dirty_at", columnList = "first_dirty_at")
+    }
+)
+public class MemberEmotionDirty {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "dirty_at", nullable = false)
+    private LocalDateTime dirtyAt;  // 마지막으로 표시된 시각
+
+    // 마지막 재계산 이후 처음 표시된 시각 (표시가 계속 이어져도 max-delay 안에는 계산되도록, 컬럼 추가 전 행은 null)
+    @Column(name = "first_dirty_at")
+    private LocalDateTime firstDirtyAt;
+}
@@ -0,0 +1,62 @@
+package com.insidemovie.backend.api.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * member_emotion_dirty 조작 (JDBC).
+ * 표시는 회원 ID 기준 INSERT ... ON DUPLICATE KEY UPDATE 라 같은 회원이 여러 번 표시되어도 한 행만 남고,
+ * 다시 표시되면 dirty_at 만 갱신하고 first_dirty_at 은 그대로 둔다.
+ * 처리 후에는 읽을 때의 dirty_at 과 같은 행만 지우고, 처리 중 다시 표시된 회원은 행을 남겨 다음 차례에 한 번 더 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberEmotionDirtyJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record DirtyMember(Long memberId, LocalDateTime dirtyAt) {
+    }
+
+    /**
+     * 영화를 좋아요한 모든 회원 표시 (좋아요 목록을 애플리케이션으로 가져오지 않고 한 문장으로 처리)
+     */
+    public int markLikersOf(Long movieId) {
+        return jdbcTemplate.update("INSERT INTO member_emotion_dirty (member_id, dirty_at, first_dirty_at) "
+                + "SELECT DISTINCT ml.member_id, NOW(6), NOW(6) FROM movie_like ml "
+                + "WHERE ml.movie_id = ? AND ml.member_id IS NOT NULL "
+                + "ON DUPLICATE KEY UPDATE dirty_at = NOW(6), first_dirty_at = COALESCE(first_dirty_at, NOW(6))", movieId);
+    }
+
+    /**
+     * 마지막 표시 후 settle 이상 지났거나(연속 리뷰가 끝난 뒤 한 번만 계산되도록),
+     * 처음 표시 후 maxDelay 이상 지난 회원 (표시가 settle 보다 자주 이어져도 계산이 무한히 밀리지 않도록)
+     */
+    public List<DirtyMember> findSettled(Duration settle, Duration maxDelay, int limit) {
+        return jdbcTemplate.query("SELECT member_id, dirty_at FROM member_emotion_dirty "
+                        + "WHERE dirty_at <= DATE_SUB(NOW(6), INTERVAL ? SECOND) "
+                        + "OR first_dirty_at <= DATE_SUB(NOW(6), INTERVAL ? SECOND) "
+                        + "ORDER BY first_dirty_at LIMIT ?",
+                (rs, i) -> new DirtyMember(rs.getLong("member_id"), rs.getObject("dirty_at", LocalDateTime.class)),
+                settle.toSeconds(), maxDelay.toSeconds(), limit);
+    }
+
+    /**
+     * 처리한 회원 정리. 읽은 뒤 다시 표시된 행(dirty_at 이 바뀜)은 지우지 않고 first_dirty_at 을 지금으로 돌려
+     * 방금 계산한 시점부터 다시 settle / max-delay 를 센다 (같은 차례에 곧바로 다시 뽑히지 않도록).
+     */
+    public void clear(List<DirtyMember> members) {
+        jdbcTemplate.batchUpdate("DELETE FROM member_emotion_dirty WHERE member_id = ? AND dirty_at = ?",
+                members, members.size(), (ps, m) -> {
+                    ps.setLong(1, m.memberId());
+                    ps.setObject(2, m.dirtyAt());
+                });
+        jdbcTemplate.batchUpdate("UPDATE member_emotion_dirty SET first_dirty_at = NOW(6) WHERE member_id = ?",
+                members, members.size(), (ps, m) -> ps.setLong(1, m.memberId()));
+    }
+}
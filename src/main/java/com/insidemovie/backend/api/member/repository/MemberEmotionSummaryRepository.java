@@ -3,7 +3,6 @@ package com.insidemovie.backend.api.member.repository;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
 
 import java.util.Optional;
 
@@ -0,0 +1,56 @@
+package com.insidemovie.backend.api.member.scheduler;
+
+import com.insidemovie.backend.api.member.repository.MemberEmotionDirtyJdbcRepository;
+import com.insidemovie.backend.api.member.repository.MemberEmotionDirtyJdbcRepository.DirtyMember;
+import com.insidemovie.backend.api.member.service.MemberEmotionSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재계산 대상으로 표시된 회원(member_emotion_dirty)의 감정 요약을 batch-size 명씩 일괄 재계산.
+ * 한 영화에 리뷰가 몰려도 표시는 회원당 한 행이고, 마지막 표시 후 settle 이 지나야 처리하므로
+ * 회원마다 한 번만 계산된다. 표시가 settle 보다 자주 이어지는 회원도 처음 표시 후 max-delay 가 지나면 계산한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.emotion-recalc-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MemberEmotionSummaryScheduler {
+    private final MemberEmotionDirtyJdbcRepository dirtyRepository;
+    private final MemberEmotionSummaryService memberEmotionSummaryService;
+
+    @Value("${member.emotion-recalc.batch-size:200}")
+    private int batchSize;
+
+    @Value("${member.emotion-recalc.settle:5s}")
+    private Duration settle;
+
+    @Value("${member.emotion-recalc.max-delay:1m}")
+    private Duration maxDelay;
+
+    @Scheduled(fixedDelayString = "${member.emotion-recalc.delay-ms:10000}", initialDelay = 20_000)
+    public void recalcDirtyMembers() {
+        int total = 0;
+        try {
+            List<DirtyMember> batch;
+            while (!(batch = dirtyRepository.findSettled(settle, maxDelay, batchSize)).isEmpty()) {
+                memberEmotionSummaryService.recalcMemberSummaries(
+                        batch.stream().map(DirtyMember::memberId).toList());
+                dirtyRepository.clear(batch);
+                total += batch.size();
+            }
+        } catch (Exception e) {
+            log.error("[회원 감정 요약] 일괄 재계산 실패: {}", e.getMessage(), e);
+        }
+        if (total > 0) {
+            log.info("[회원 감정 요약] {}명 재계산 완료", total);
+        }
+    }
+}
@@ -2,22 +2,19 @@ package com.insidemovie.backend.api.member.service;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
-import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
 import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
-import com.insidemovie.backend.api.movie.entity.MovieLike;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,49 +27,64 @@ public class MemberEmotionSummaryService {
     private final MovieLikeRepository movieLikeRepository;
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
 
+    private static final EmotionAvgDTO ZERO = EmotionAvgDTO.builder()
+        .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
+        .repEmotionType(EmotionType.NONE)
+        .build();
+
     @Transactional
     public void recalcMemberSummary(Long memberId) {
-        // 회원 조회
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new NotFoundException("Member not found: " + memberId));
+        if (!memberRepository.existsById(memberId)) {
+            throw new NotFoundException("Member not found: " + memberId);
+        }
+        recalcMemberSummaries(List.of(memberId));
+    }
 
-        // 기존 요약 or 새로 생성
-        MemberEmotionSummary summary = memberEmotionSummaryRepository
-            .findByMember(member)
-            .orElseGet(() -> MemberEmotionSummary.builder()
-                .member(member)
-                .build()
-            );
+    /**
+     * 여러 회원의 감정 요약 일괄 재계산.
+     * 회원 수와 무관하게 좋아요 / 영화 감정 요약 / 회원 감정 요약을 각각 한 번씩만 조회한다.
+     */
+    @Transactional
+    public void recalcMemberSummaries(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
 
-        // 좋아요한 영화들의 감정 요약을 모아서 평균내기
-        // Pageable.unpaged() 로 전체를 가져옴
-        List<EmotionAvgDTO> dtos = movieLikeRepository
-            .findByMember(member, Pageable.unpaged())
-            .getContent().stream()
-            .map(MovieLike::getMovie)
-            .map(movie -> movieEmotionSummaryRepository
-                .findByMovieId(movie.getId())
-                .map(mes -> EmotionAvgDTO.builder()
-                    .joy(mes.getJoy().doubleValue())
-                    .sadness(mes.getSadness().doubleValue())
-                    .anger(mes.getAnger().doubleValue())
-                    .fear(mes.getFear().doubleValue())
-                    .disgust(mes.getDisgust().doubleValue())
-                    .repEmotionType(mes.getDominantEmotion())
-                    .build()
-                ).orElseGet(() -> EmotionAvgDTO.builder()
-                    .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
-                    .repEmotionType(EmotionType.NONE)
-                    .build()
-                )
-            )
-            .collect(Collectors.toList());
+        // 회원별 좋아요한 영화 ID
+        Map<Long, List<Long>> likedMovieIds = new HashMap<>();
+        for (Object[] row : movieLikeRepository.findMovieIdsByMemberIds(memberIds)) {
+            likedMovieIds.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+        Set<Long> movieIds = likedMovieIds.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toSet());
+        Map<Long, EmotionAvgDTO> movieEmotions = movieIds.isEmpty()
+            ? Map.of()
+            : movieEmotionSummaryRepository.findAllById(movieIds).stream()
+                .collect(Collectors.toMap(MovieEmotionSummary::getMovieId, MovieEmotionSummary::toAvgDTO));
+
+        // 기존 요약 (없는 회원만 Member 를 읽어 새로 생성)
+        Map<Long, MemberEmotionSummary> summaries = memberEmotionSummaryRepository.findAllById(memberIds).stream()
+            .collect(Collectors.toMap(MemberEmotionSummary::getMemberId, s -> s));
+        List<Long> missing = memberIds.stream()
+            .filter(id -> !summaries.containsKey(id))
+            .toList();
+        if (!missing.isEmpty()) {
+            memberRepository.findAllById(missing).forEach(member -> summaries.put(member.getId(),
+                memberEmotionSummaryRepository.save(MemberEmotionSummary.builder()
+                    .member(member)
+                    .build())));
+        }
 
-        EmotionAvgDTO aggregated = aggregateEmotionAverages(dtos);
+        for (MemberEmotionSummary summary : summaries.values()) {
+            // 좋아요한 영화들의 감정 요약 평균 (요약이 없는 영화는 0 으로 포함)
+            List<EmotionAvgDTO> dtos = likedMovieIds.getOrDefault(summary.getMemberId(), List.of()).stream()
+                .map(movieId -> movieEmotions.getOrDefault(movieId, ZERO))
+                .toList();
 
-        // 요약 엔티티에 반영 후 저장
-        summary.updateFromDTO(aggregated);
-        memberEmotionSummaryRepository.save(summary);
+            // 요약 엔티티에 반영 (변경 감지로 저장)
+            summary.updateFromDTO(aggregateEmotionAverages(dtos));
+        }
     }
 
     /** 좋아요한 영화들의 감정 DTO 리스트를 평균내는 헬퍼 */
@@ -18,14 +18,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.member.dto.KakaoUserInfoDto;
 import com.insidemovie.backend.common.exception.BadRequestException;
 import com.insidemovie.backend.common.exception.InternalServerException;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
 import com.insidemovie.backend.common.response.ErrorStatus;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OAuthService {
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate kakaoRestTemplate;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${kakao.client.id}")
     private String clientId;
@@ -56,7 +60,8 @@ public class OAuthService {
 
         // HTTP 요청 생성 및 전송
         HttpEntity<?> request = new HttpEntity<>(body, headers);
-        ResponseEntity<String> response = restTemplate.postForEntity(tokenUri, request, String.class);
+        ResponseEntity<String> response = resilienceRegistry.guard("kakao")
+                .call(() -> kakaoRestTemplate.postForEntity(tokenUri, request, String.class));
 
         // 예외처리
         if (!response.getStatusCode().is2xxSuccessful()) {
@@ -84,7 +89,8 @@ public class OAuthService {
 
         // HTTP 요청 생성 및 전송
         HttpEntity<?> request = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(userInfoUri, HttpMethod.GET, request, String.class);
+        ResponseEntity<String> response = resilienceRegistry.guard("kakao")
+                .call(() -> kakaoRestTemplate.exchange(userInfoUri, HttpMethod.GET, request, String.class));
 
         // 예외처리
         if (!response.getStatusCode().is2xxSuccessful()) {
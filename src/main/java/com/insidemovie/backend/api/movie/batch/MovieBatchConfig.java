@@ -0,0 +1,176 @@
+package com.insidemovie.backend.api.movie.batch;
+
+import com.insidemovie.backend.api.movie.client.TmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.service.MovieIngestStats;
+import com.insidemovie.backend.api.movie.service.MovieIngestStats.Stage;
+import com.insidemovie.backend.api.movie.service.MovieIngestionService;
+import com.insidemovie.backend.api.movie.service.MovieService;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TMDB 카탈로그 시딩 / 정기 갱신 Spring Batch 잡.
+ *
+ * movieSeedJob    : 전체 목록을 끝까지 수집 (지문 비교 없이 상세 조회)
+ * movieRefreshJob : 목록 지문이 바뀐 영화만 상세 조회
+ *
+ * 두 잡 모두 목록 타입별 파티션을 병렬로 실행하고,
+ * 파티션마다 reader 위치가 step execution context 에 저장되어 재시작 시 이어서 진행된다.
+ * 여러 목록에 함께 있는 영화는 잡 실행마다 한 파티션만 처리한다 (claimedTmdbIds).
+ * 상세 조회는 writer 가 청크 단위로 MovieIngestionService.fetchDetails 에 맡겨 fetch-concurrency 한도 안에서 병렬로 하고,
+ * 처리량 / 단계별 지연은 잡 실행마다 MovieIngestStats 로 모아 잡 종료 시 로그로 남긴다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MovieBatchConfig {
+
+    public static final String SEED_JOB = "movieSeedJob";
+    public static final String REFRESH_JOB = "movieRefreshJob";
+    public static final String SKIP_UNCHANGED_PARAM = "skipUnchanged";
+
+    private static final List<String> TYPES = List.of("popular", "top_rated", "now_playing", "upcoming");
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TmdbClient tmdbClient;
+    private final MovieService movieService;
+    private final MovieIngestionService movieIngestionService;
+
+    @Value("${movie.batch.chunk-size:20}")
+    private int chunkSize;
+
+    @Value("${movie.batch.skip-limit:200}")
+    private int skipLimit;
+
+    @Value("${movie.batch.retry-limit:3}")
+    private int retryLimit;
+
+    @Value("${movie.ingest.max-pages:499}")
+    private int maxPages;
+
+    // 잡 실행 ID → 파티션들이 이미 가져간 TMDB ID (잡 종료 시 제거)
+    private final Map<Long, Set<Long>> claimedTmdbIds = new ConcurrentHashMap<>();
+
+    // 잡 실행 ID → 파티션 전체의 조회 / 저장 통계 (잡 종료 시 로그 후 제거)
+    private final Map<Long, MovieIngestStats> ingestStats = new ConcurrentHashMap<>();
+
+    @Bean
+    public Job movieSeedJob() {
+        return new JobBuilder(SEED_JOB, jobRepository)
+                .listener(new MovieBatchJobListener(ingestStats::remove, claimedTmdbIds::remove))
+                .start(movieListPartitionStep())
+                .build();
+    }
+
+    @Bean
+    public Job movieRefreshJob() {
+        return new JobBuilder(REFRESH_JOB, jobRepository)
+                .listener(new MovieBatchJobListener(ingestStats::remove, claimedTmdbIds::remove))
+                .start(movieListPartitionStep())
+                .build();
+    }
+
+    @Bean
+    public Step movieListPartitionStep() {
+        return new StepBuilder("movieListPartitionStep", jobRepository)
+                .partitioner("movieListStep", new MovieListTypePartitioner(TYPES))
+                .step(movieListStep())
+                .gridSize(TYPES.size())
+                .taskExecutor(movieBatchTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step movieListStep() {
+        return new StepBuilder("movieListStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(tmdbMoviePageReader(null, null, null))
+                .writer(movieDetailWriter(null))
+                .faultTolerant()
+                // 일시적 오류(타임아웃, 5xx, 서킷 차단, DB 교착 / 잠금 대기)는 재시도 후에도 실패하면 해당 ID 만 건너뜀
+                // (상세 조회 실패는 fetchDetails 가 MovieIngestStats 에 집계하고 빼므로 여기까지 오는 것은 주로 저장 오류)
+                .retry(ResourceAccessException.class)
+                .retry(HttpServerErrorException.class)
+                .retry(ExternalServiceException.class)
+                .retry(DeadlockLoserDataAccessException.class)
+                .retry(CannotAcquireLockException.class)
+                .retryLimit(retryLimit)
+                // 존재하지 않는 ID(404), 알 수 없는 장르 등 잘못된 데이터는 바로 건너뜀
+                .skip(HttpClientErrorException.class)
+                .skip(NotFoundException.class)
+                .skip(ResourceAccessException.class)
+                .skip(HttpServerErrorException.class)
+                .skip(ExternalServiceException.class)
+                .skip(DeadlockLoserDataAccessException.class)
+                .skip(CannotAcquireLockException.class)
+                .skipLimit(skipLimit)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public TmdbMoviePageReader tmdbMoviePageReader(
+            @Value("#{stepExecutionContext['type']}") String type,
+            @Value("#{jobParameters['skipUnchanged']}") String skipUnchanged,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId
+    ) {
+        Set<Long> claimed = claimedTmdbIds.computeIfAbsent(jobExecutionId, id -> ConcurrentHashMap.newKeySet());
+        return new TmdbMoviePageReader(tmdbClient, movieService, type, maxPages,
+                Boolean.parseBoolean(skipUnchanged), claimed);
+    }
+
+    /**
+     * 청크의 TMDB ID → 상세 병렬 조회 → 일괄 저장 (저장은 청크 트랜잭션 안, 실패 시 재시도 / 건별 스캔 대상)
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<Long> movieDetailWriter(@Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        MovieIngestStats stats = ingestStats.computeIfAbsent(jobExecutionId, id -> movieIngestionService.newStats());
+        return chunk -> {
+            List<MovieDetailDTO> details = movieIngestionService.fetchDetails(chunk.getItems(), stats);
+            if (details.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                int changed = movieService.saveMovieDetailsBulk(details);
+                stats.written(changed);
+                stats.unchanged(details.size() - changed);
+            } finally {
+                stats.record(Stage.WRITE, start);
+            }
+        };
+    }
+
+    @Bean
+    public TaskExecutor movieBatchTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("movie-batch-");
+        executor.setConcurrencyLimit(TYPES.size());
+        return executor;
+    }
+}
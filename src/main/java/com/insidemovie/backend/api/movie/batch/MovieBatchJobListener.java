@@ -0,0 +1,58 @@
+package com.insidemovie.backend.api.movie.batch;
+
+import com.insidemovie.backend.api.movie.service.MovieIngestStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 잡 종료 시 스텝(파티션)별 처리 / 변경 없음 건수 / 잡 전체 수집 통계(처리량, 단계별 지연) 로그 + 잡 실행 단위 자원 정리
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MovieBatchJobListener implements JobExecutionListener {
+
+    // 잡 실행 ID → 해당 실행의 수집 통계 (꺼내면서 제거)
+    private final Function<Long, MovieIngestStats> takeStats;
+
+    // 잡 실행 ID → 종료 시 정리 (파티션 공유 claimed 집합 등)
+    private final Consumer<Long> onJobEnd;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        onJobEnd.accept(jobExecution.getId());
+        long totalRead = 0;
+        long totalUnchanged = 0;
+        for (StepExecution step : jobExecution.getStepExecutions()) {
+            // 목록 지문이 같아 reader 가 건너뛴 수 (파티션 스텝에만 있음, 관리 스텝은 read 합계만 가짐)
+            boolean partition = step.getExecutionContext().containsKey(TmdbMoviePageReader.UNCHANGED_KEY);
+            long unchanged = partition ? step.getExecutionContext().getLong(TmdbMoviePageReader.UNCHANGED_KEY) : 0L;
+            if (partition) {
+                totalRead += step.getReadCount();
+                totalUnchanged += unchanged;
+            }
+            log.info("[Batch] {} status={} read={} unchanged={} filtered={} written={} skipped(read/process/write)={}/{}/{} commits={}",
+                    step.getStepName(), step.getStatus(), step.getReadCount(), unchanged, step.getFilterCount(),
+                    step.getWriteCount(), step.getReadSkipCount(), step.getProcessSkipCount(),
+                    step.getWriteSkipCount(), step.getCommitCount());
+        }
+        long total = totalRead + totalUnchanged;
+        log.info("[Batch] 목록 지문 동일로 건너뜀 {}/{} (skip ratio={})", totalUnchanged, total,
+                String.format("%.2f", total == 0 ? 0.0 : totalUnchanged / (double) total));
+        Duration elapsed = jobExecution.getStartTime() == null || jobExecution.getEndTime() == null
+                ? Duration.ZERO
+                : Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime());
+        log.info("[Batch] {} 종료 status={} elapsed={}s",
+                jobExecution.getJobInstance().getJobName(), jobExecution.getStatus(), elapsed.toSeconds());
+        MovieIngestStats stats = takeStats.apply(jobExecution.getId());
+        if (stats != null) {
+            stats.logSummary(jobExecution.getJobInstance().getJobName());
+        }
+    }
+}
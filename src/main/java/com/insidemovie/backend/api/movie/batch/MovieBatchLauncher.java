@@ -0,0 +1,72 @@
+package com.insidemovie.backend.api.movie.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄러에서 배치 잡을 실행하는 공통 진입점.
+ * 같은 identifying 파라미터로 실행하면 실패한 인스턴스는 체크포인트부터 재시작되고,
+ * 이미 완료된 인스턴스는 다시 실행되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieBatchLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+
+    private final Set<String> recoveredJobs = ConcurrentHashMap.newKeySet();
+
+    public void run(Job job, JobParameters parameters) {
+        recoverAbandoned(job.getName());
+        try {
+            JobExecution execution = jobLauncher.run(job, parameters);
+            log.info("[Batch] {} 실행 결과 status={}", job.getName(), execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("[Batch] {} 이미 완료된 인스턴스 → 건너뜀 params={}", job.getName(), parameters);
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn("[Batch] {} 이미 실행 중 → 건너뜀", job.getName());
+        } catch (JobExecutionException e) {
+            log.error("[Batch] {} 실행 실패: {}", job.getName(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 프로세스 기동 후 첫 실행 시, 이전 프로세스가 종료되며 STARTED 로 남긴 실행을 FAILED 로 정리
+     * (그래야 같은 파라미터로 재시작 가능)
+     */
+    private void recoverAbandoned(String jobName) {
+        if (!recoveredJobs.add(jobName)) {
+            return;
+        }
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+            LocalDateTime now = LocalDateTime.now();
+            for (StepExecution step : execution.getStepExecutions()) {
+                if (step.getStatus().isRunning()) {
+                    step.setStatus(BatchStatus.FAILED);
+                    step.setExitStatus(ExitStatus.FAILED);
+                    step.setEndTime(now);
+                    jobRepository.update(step);
+                }
+            }
+            execution.setStatus(BatchStatus.FAILED);
+            execution.setExitStatus(ExitStatus.FAILED);
+            execution.setEndTime(now);
+            jobRepository.update(execution);
+            log.warn("[Batch] {} 중단된 실행(id={}) → FAILED 처리", jobName, execution.getId());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.insidemovie.backend.api.movie.batch;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 타입(popular, top_rated, now_playing, upcoming)마다 파티션 하나
+ */
+public class MovieListTypePartitioner implements Partitioner {
+
+    static final String TYPE_KEY = "type";
+
+    private final List<String> types;
+
+    public MovieListTypePartitioner(List<String> types) {
+        this.types = types;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (String type : types) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(TYPE_KEY, type);
+            partitions.put(type, context);
+        }
+        return partitions;
+    }
+}
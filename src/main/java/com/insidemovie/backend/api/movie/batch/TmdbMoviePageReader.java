@@ -0,0 +1,127 @@
+package com.insidemovie.backend.api.movie.batch;
+
+import com.insidemovie.backend.api.movie.client.TmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieResponseDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieWrapperDTO;
+import com.insidemovie.backend.api.movie.service.MovieFingerprint;
+import com.insidemovie.backend.api.movie.service.MovieService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TMDB 목록(type) 을 페이지 단위로 읽어 수집 대상 TMDB ID 를 하나씩 내보내는 reader.
+ * 현재 페이지 / 페이지 내 위치를 ExecutionContext 에 저장하므로
+ * 재시작 시 마지막 커밋된 청크 다음부터 이어서 읽는다.
+ * 여러 목록 타입에 함께 등장하는 영화는 같은 잡 실행의 파티션끼리 공유하는 claimed 집합에
+ * 먼저 넣은 파티션만 내보낸다 (같은 영화를 동시에 쓰다 장르 중복 / 크레딧 교착이 나지 않도록).
+ * 목록 지문이 같아 건너뛴 영화 수는 item 으로 나가지 않으므로 UNCHANGED_KEY 로 ExecutionContext 에 따로 남긴다.
+ */
+@Slf4j
+public class TmdbMoviePageReader implements ItemStreamReader<Long> {
+
+    static final String PAGE_KEY = "tmdb.reader.page";
+    static final String INDEX_KEY = "tmdb.reader.index";
+    static final String UNCHANGED_KEY = "tmdb.reader.unchanged";
+
+    private final TmdbClient tmdbClient;
+    private final MovieService movieService;
+    private final String type;
+    private final int maxPages;
+    private final boolean skipUnchanged;
+    private final Set<Long> claimed;
+
+    private int page = 1;
+    private int index = 0;           // 현재 페이지 results 내 다음 읽을 위치
+    private int totalPages = -1;
+    private long unchanged = 0;     // 목록 지문이 같아 상세 조회 없이 건너뛴 영화 수
+    private List<SearchMovieResponseDTO> results = Collections.emptyList();
+    private Map<Long, String> storedFingerprints = Collections.emptyMap();
+
+    public TmdbMoviePageReader(TmdbClient tmdbClient, MovieService movieService,
+                               String type, int maxPages, boolean skipUnchanged, Set<Long> claimed) {
+        this.tmdbClient = tmdbClient;
+        this.movieService = movieService;
+        this.type = type;
+        this.maxPages = maxPages;
+        this.skipUnchanged = skipUnchanged;
+        this.claimed = claimed;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(PAGE_KEY)) {
+            page = executionContext.getInt(PAGE_KEY);
+            index = executionContext.getInt(INDEX_KEY, 0);
+            unchanged = executionContext.getLong(UNCHANGED_KEY, 0L);
+            log.info("[Batch 재시작] type={} page={} index={} 부터 이어서 읽기", type, page, index);
+        }
+        loadPage();
+    }
+
+    @Override
+    public Long read() {
+        while (true) {
+            if (index >= results.size()) {
+                if (page >= lastPage()) {
+                    return null;
+                }
+                page++;
+                index = 0;
+                loadPage();
+                continue;
+            }
+
+            SearchMovieResponseDTO dto = results.get(index++);
+            if (!movieService.isIngestible(dto)) {
+                continue;
+            }
+            if (skipUnchanged && MovieFingerprint.ofList(dto).equals(storedFingerprints.get(dto.getId()))) {
+                unchanged++;
+                continue;
+            }
+            if (!claimed.add(dto.getId())) {
+                continue;   // 다른 파티션이 이미 가져감
+            }
+            return dto.getId();
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(PAGE_KEY, page);
+        executionContext.putInt(INDEX_KEY, index);
+        executionContext.putLong(UNCHANGED_KEY, unchanged);
+    }
+
+    private int lastPage() {
+        return Math.min(totalPages, maxPages);
+    }
+
+    private void loadPage() {
+        SearchMovieWrapperDTO body = tmdbClient.fetchMoviePage(type, page)
+                .orElseThrow(() -> new ItemStreamException("TMDB 목록 조회 실패: type=" + type + " page=" + page));
+        totalPages = body.getTotalPages();
+        results = body.getResults() == null ? Collections.emptyList() : body.getResults();
+        storedFingerprints = skipUnchanged
+                ? movieService.findListFingerprints(results.stream().map(SearchMovieResponseDTO::getId).toList())
+                : Collections.emptyMap();
+        if (skipUnchanged) {
+            // read() 에서 건너뛸 영화도 지문에 없는 popularity / vote_count 는 목록 값으로 갱신
+            List<SearchMovieResponseDTO> skipped = results.stream()
+                    .filter(movieService::isIngestible)
+                    .filter(dto -> MovieFingerprint.ofList(dto).equals(storedFingerprints.get(dto.getId())))
+                    .toList();
+            if (!skipped.isEmpty()) {
+                movieService.updateSkippedListFields(skipped);
+            }
+        }
+        log.debug("[Batch] type={} page={}/{} results={}", type, page, lastPage(), results.size());
+    }
+}
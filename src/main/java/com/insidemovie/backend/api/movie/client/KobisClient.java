@@ -0,0 +1,67 @@
+package com.insidemovie.backend.api.movie.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * KOBIS(영화진흥위원회) 박스오피스 API 비동기 클라이언트.
+ * 공용 커넥션 풀을 쓰는 kobisWebClient 로 호출하고, 모든 요청은 KobisRateLimiter 와 "kobis" ResilienceGuard 를 거친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KobisClient {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final WebClient kobisWebClient;
+    private final KobisRateLimiter rateLimiter;
+    private final ResilienceRegistry resilienceRegistry;
+
+    @Value("${kobis.api.key}")
+    private String kobisApiKey;
+
+    /**
+     * 일간 박스오피스 목록 (boxOfficeResult.dailyBoxOfficeList)
+     */
+    public Mono<JsonNode> fetchDailyBoxOffice(LocalDate targetDate, int itemPerPage) {
+        return get(uri -> uri.path("/boxoffice/searchDailyBoxOfficeList.json")
+                        .queryParam("key", kobisApiKey)
+                        .queryParam("targetDt", targetDate.format(FMT))
+                        .queryParam("itemPerPage", itemPerPage)
+                        .build())
+                .map(body -> body.path("boxOfficeResult").path("dailyBoxOfficeList"));
+    }
+
+    /**
+     * 주간/주말 박스오피스 목록 (boxOfficeResult.weeklyBoxOfficeList)
+     */
+    public Mono<JsonNode> fetchWeeklyBoxOffice(LocalDate targetDate, String weekGb, int itemPerPage) {
+        return get(uri -> uri.path("/boxoffice/searchWeeklyBoxOfficeList.json")
+                        .queryParam("key", kobisApiKey)
+                        .queryParam("targetDt", targetDate.format(FMT))
+                        .queryParam("weekGb", weekGb)
+                        .queryParam("itemPerPage", itemPerPage)
+                        .build())
+                .map(body -> body.path("boxOfficeResult").path("weeklyBoxOfficeList"));
+    }
+
+    private Mono<JsonNode> get(Function<UriBuilder, URI> uriFunction) {
+        return Mono.defer(() -> Mono.delay(Duration.ofNanos(rateLimiter.reserve())))
+                .then(resilienceRegistry.guard("kobis").mono(() -> kobisWebClient.get()
+                        .uri(uriFunction)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)));
+    }
+}
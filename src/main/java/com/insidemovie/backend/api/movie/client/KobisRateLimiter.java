@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.movie.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * KOBIS 호출 전체가 공유하는 토큰 버킷 (KOBIS 는 키당 일일 호출량도 제한되므로 낮게 유지).
+ */
+@Component
+public class KobisRateLimiter extends TokenBucketRateLimiter {
+
+    public KobisRateLimiter(
+            @Value("${kobis.api.rate-limit.permits-per-second:5}") double permitsPerSecond,
+            @Value("${kobis.api.rate-limit.burst:5}") int burst
+    ) {
+        super("KOBIS", permitsPerSecond, burst);
+    }
+}
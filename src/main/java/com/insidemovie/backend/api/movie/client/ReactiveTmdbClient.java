@@ -0,0 +1,116 @@
+package com.insidemovie.backend.api.movie.client;
+
+import com.insidemovie.backend.api.movie.client.TmdbResponseCache.Endpoint;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieResponseDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieWrapperDTO;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * TMDB API 비동기 클라이언트 (WebClient / Reactor Netty).
+ * TmdbClient 와 같은 토큰 버킷 / 응답 캐시를 공유하며,
+ * 토큰 대기는 스레드를 막지 않고 Mono.delay 로 처리한다.
+ * 호출은 "tmdb" ResilienceGuard 를 거치고, 차단 / 장애 시 stale 캐시 응답으로 대신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveTmdbClient {
+
+    private final WebClient tmdbWebClient;
+    private final TmdbRateLimiter rateLimiter;
+    private final TmdbResponseCache responseCache;
+    private final TmdbUrlBuilder urls;
+    private final ResilienceRegistry resilienceRegistry;
+
+    public Mono<SearchMovieWrapperDTO> fetchMoviePage(String type, int page) {
+        return cached(Endpoint.LIST, urls.moviePage(type, page), SearchMovieWrapperDTO.class, body -> false);
+    }
+
+    /**
+     * 404(없는 ID)는 empty 로 완료
+     */
+    public Mono<MovieDetailDTO> fetchMovieDetail(Long tmdbId) {
+        return detail(tmdbId, cached(Endpoint.DETAIL, urls.movieDetail(tmdbId), MovieDetailDTO.class, body -> false));
+    }
+
+    /**
+     * 캐시를 읽지 않고 TMDB 에서 바로 조회한 상세정보 (결과는 캐시에 덮어씀).
+     * 변경 피드처럼 "바뀌었다"는 신호를 받고 조회할 때 사용 → 12시간 상세 캐시의 변경 전 응답을 쓰지 않도록.
+     * 장애 시에도 stale 응답으로 대신하지 않는다(변경 전 값으로 저장하고 넘어가지 않도록). 404 는 empty 로 완료
+     */
+    public Mono<MovieDetailDTO> fetchMovieDetailFresh(Long tmdbId) {
+        return detail(tmdbId, fresh(Endpoint.DETAIL, urls.movieDetail(tmdbId), MovieDetailDTO.class));
+    }
+
+    private Mono<MovieDetailDTO> detail(Long tmdbId, Mono<MovieDetailDTO> response) {
+        return response
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .doOnNext(detail -> {
+                    if (detail.getId() == null) {
+                        detail.setId(tmdbId);
+                    }
+                });
+    }
+
+    /**
+     * 제목 + 개봉연도 검색 (결과 목록 전체)
+     */
+    public Mono<SearchMovieWrapperDTO> search(String title, int year) {
+        return cached(Endpoint.SEARCH, urls.searchMovie(title, year), SearchMovieWrapperDTO.class, TmdbClient.EMPTY_SEARCH);
+    }
+
+    /**
+     * 제목 + 개봉연도 검색 후 첫 번째 결과 (없으면 empty)
+     */
+    public Mono<SearchMovieResponseDTO> searchFirst(String title, int year) {
+        return search(title, year)
+                .flatMap(body -> Mono.justOrEmpty(
+                        body.getResults() == null ? null : body.getResults().stream().findFirst().orElse(null)));
+    }
+
+    private <T> Mono<T> cached(Endpoint endpoint, String url, Class<T> type, Predicate<T> isEmpty) {
+        if (!responseCache.isActive()) {
+            return get(url, type);
+        }
+        // Redis 조회/저장은 blocking 이므로 boundedElastic 에서 수행
+        return Mono.fromCallable(() -> responseCache.lookup(endpoint, url, type, isEmpty))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(hit -> hit.map(Mono::just).orElseGet(() -> get(url, type)
+                        .flatMap(value -> Mono.fromRunnable(() -> responseCache.store(endpoint, url, value, isEmpty))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(value))))
+                .onErrorResume(ResilienceGuard::isDependencyFailure, e ->
+                        Mono.fromCallable(() -> responseCache.lookupStale(endpoint, url, type))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .flatMap(stale -> stale.map(Mono::just).orElseGet(() -> Mono.error(e))));
+    }
+
+    private <T> Mono<T> fresh(Endpoint endpoint, String url, Class<T> type) {
+        if (!responseCache.isActive()) {
+            return get(url, type);
+        }
+        return get(url, type)
+                .flatMap(value -> Mono.fromRunnable(() -> responseCache.store(endpoint, url, value, body -> false))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(value));
+    }
+
+    private <T> Mono<T> get(String url, Class<T> type) {
+        return Mono.defer(() -> Mono.delay(Duration.ofNanos(rateLimiter.reserve())))
+                .then(resilienceRegistry.guard("tmdb").mono(() -> tmdbWebClient.get()
+                        .uri(URI.create(url))
+                        .retrieve()
+                        .bodyToMono(type)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.insidemovie.backend.api.movie.client;
+
+import com.insidemovie.backend.api.movie.client.TmdbResponseCache.Endpoint;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieChangesDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieWrapperDTO;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * TMDB API 호출 전용 클라이언트 (blocking).
+ * 모든 요청은 공유 토큰 버킷(TmdbRateLimiter)을 거치고,
+ * 목록 / 상세 / 검색 응답은 TmdbResponseCache 에 먼저 조회한다.
+ * 호출은 "tmdb" ResilienceGuard 를 거치고, 차단 / 장애 시 캐시된 응답은 만료된 값(stale)이라도 돌려준다.
+ * 많은 요청을 동시에 보내야 하는 곳은 ReactiveTmdbClient 를 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TmdbClient {
+
+    static final Predicate<SearchMovieWrapperDTO> EMPTY_SEARCH =
+        body -> body.getResults() == null || body.getResults().isEmpty();
+
+    private final RestTemplate restTemplate;
+    private final TmdbRateLimiter rateLimiter;
+    private final TmdbResponseCache responseCache;
+    private final TmdbUrlBuilder urls;
+    private final ResilienceRegistry resilienceRegistry;
+
+    /**
+     * 목록 타입(popular, top_rated ...)의 한 페이지 조회
+     */
+    public Optional<SearchMovieWrapperDTO> fetchMoviePage(String type, int page) {
+        return cached(Endpoint.LIST, urls.moviePage(type, page), SearchMovieWrapperDTO.class, body -> false);
+    }
+
+    /**
+     * 단일 영화 상세 조회 (credits, release_dates, watch/providers 포함)
+     */
+    public Optional<MovieDetailDTO> fetchMovieDetail(Long tmdbId) {
+        return cached(Endpoint.DETAIL, urls.movieDetail(tmdbId), MovieDetailDTO.class, body -> false);
+    }
+
+    /**
+     * 제목 + 개봉연도로 영화 검색
+     */
+    public Optional<SearchMovieWrapperDTO> searchMovie(String title, int year) {
+        // 검색 결과가 없는 경우도 짧게 캐시 (매일 같은 제목으로 재검색하지 않도록)
+        return cached(Endpoint.SEARCH, urls.searchMovie(title, year), SearchMovieWrapperDTO.class, EMPTY_SEARCH);
+    }
+
+    /**
+     * 기간 내 변경된 영화 ID 목록 한 페이지 조회 (TMDB 제한: 최대 14일 구간, 캐시하지 않음)
+     */
+    public Optional<MovieChangesDTO> fetchChangedMovies(LocalDate startDate, LocalDate endDate, int page) {
+        return get(urls.changedMovies(startDate, endDate, page), MovieChangesDTO.class);
+    }
+
+    private <T> Optional<T> cached(Endpoint endpoint, String url, Class<T> type, Predicate<T> isEmpty) {
+        return responseCache.getOrLoad(endpoint, url, type, () -> get(url, type), isEmpty);
+    }
+
+    private <T> Optional<T> get(String url, Class<T> type) {
+        rateLimiter.acquire();
+        ResponseEntity<T> response = resilienceRegistry.guard("tmdb").call(() -> restTemplate.getForEntity(url, type));
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            log.warn("[TMDB] 응답 실패 status={} type={}", response.getStatusCode(), type.getSimpleName());
+            return Optional.empty();
+        }
+        return Optional.of(response.getBody());
+    }
+}
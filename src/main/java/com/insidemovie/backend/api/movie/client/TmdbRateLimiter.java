@@ -0,0 +1,18 @@
+package com.insidemovie.backend.api.movie.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TMDB 호출 전체가 공유하는 토큰 버킷.
+ */
+@Component
+public class TmdbRateLimiter extends TokenBucketRateLimiter {
+
+    public TmdbRateLimiter(
+            @Value("${tmdb.api.rate-limit.permits-per-second:40}") double permitsPerSecond,
+            @Value("${tmdb.api.rate-limit.burst:40}") int burst
+    ) {
+        super("TMDB", permitsPerSecond, burst);
+    }
+}
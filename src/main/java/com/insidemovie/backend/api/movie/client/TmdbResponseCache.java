@@ -0,0 +1,218 @@
+package com.insidemovie.backend.api.movie.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * TMDB 응답 Redis 캐시.
+ *
+ * - 키: api_key 를 뺀 정규화 URL (쿼리 파라미터 정렬)
+ * - 값: 우리가 매핑하는 필드만 남긴 DTO 를 null 제외 JSON 으로 재직렬화
+ * - 엔드포인트별 TTL, 빈 검색 결과는 negative TTL 로 짧게 보관
+ * - Redis 장애 시 잠시 캐시를 끄고 TMDB 를 직접 호출 (서비스는 그대로 동작)
+ * - 같은 값을 stale 키에 더 길게 보관해 TMDB 장애 / 차단 중에는 만료된 응답으로 대신함
+ */
+@Slf4j
+@Component
+public class TmdbResponseCache {
+
+    private static final String KEY_PREFIX = "tmdb:";
+    private static final String STALE_PREFIX = "tmdb:stale:";
+    private static final Duration BACKOFF = Duration.ofSeconds(30);
+
+    public enum Endpoint { LIST, DETAIL, SEARCH }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper compactMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final Map<Endpoint, Duration> ttls;
+    private final Duration negativeTtl;
+    private final Duration staleTtl;
+
+    private volatile long disabledUntil = 0L;
+
+    public TmdbResponseCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${tmdb.cache.enabled:true}") boolean enabled,
+            @Value("${tmdb.cache.ttl.list:1h}") Duration listTtl,
+            @Value("${tmdb.cache.ttl.detail:12h}") Duration detailTtl,
+            @Value("${tmdb.cache.ttl.search:1d}") Duration searchTtl,
+            @Value("${tmdb.cache.ttl.negative:6h}") Duration negativeTtl,
+            @Value("${tmdb.cache.ttl.stale:7d}") Duration staleTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.compactMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttls = Map.of(Endpoint.LIST, listTtl, Endpoint.DETAIL, detailTtl, Endpoint.SEARCH, searchTtl);
+        this.negativeTtl = negativeTtl;
+        this.staleTtl = staleTtl;
+    }
+
+    /**
+     * 캐시에 있으면 캐시 값을, 없으면 loader 결과를 저장 후 반환.
+     * isEmpty 가 true 인 응답은 negative TTL 로 저장된다.
+     */
+    public <T> Optional<T> getOrLoad(Endpoint endpoint, String url, Class<T> type,
+                                     Supplier<Optional<T>> loader, Predicate<T> isEmpty) {
+        if (!isActive()) {
+            return loader.get();
+        }
+        Optional<T> cached = lookup(endpoint, url, type, isEmpty);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<T> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            if (!ResilienceGuard.isDependencyFailure(e)) {
+                throw e;
+            }
+            Optional<T> stale = lookupStale(endpoint, url, type);
+            if (stale.isEmpty()) {
+                throw e;
+            }
+            return stale;
+        }
+        loaded.ifPresent(value -> store(endpoint, url, value, isEmpty));
+        return loaded;
+    }
+
+    /**
+     * TMDB 장애 / 차단 시 대체용 만료된 응답 (없으면 empty). Redis 호출이므로 blocking.
+     */
+    public <T> Optional<T> lookupStale(Endpoint endpoint, String url, Class<T> type) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+        String cached = read(staleKey(url));
+        if (cached == null) {
+            return Optional.empty();
+        }
+        try {
+            T value = compactMapper.readValue(cached, type);
+            count(endpoint, "stale_hit");
+            return Optional.of(value);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시 조회만 수행 (없으면 empty, miss 로 집계). Redis 호출이므로 blocking.
+     */
+    public <T> Optional<T> lookup(Endpoint endpoint, String url, Class<T> type, Predicate<T> isEmpty) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+        String key = key(url);
+        String cached = read(key);
+        if (cached != null) {
+            try {
+                T value = compactMapper.readValue(cached, type);
+                count(endpoint, isEmpty.test(value) ? "negative_hit" : "hit");
+                return Optional.of(value);
+            } catch (Exception e) {
+                log.warn("[TMDB 캐시] 역직렬화 실패 key={} → 재조회", key);
+            }
+        }
+        count(endpoint, "miss");
+        return Optional.empty();
+    }
+
+    /**
+     * 응답 저장. Redis 호출이므로 blocking.
+     */
+    public <T> void store(Endpoint endpoint, String url, T value, Predicate<T> isEmpty) {
+        if (!isActive()) {
+            return;
+        }
+        if (isEmpty.test(value)) {
+            write(key(url), value, negativeTtl);
+            return;
+        }
+        write(key(url), value, ttls.get(endpoint));
+        write(staleKey(url), value, staleTtl);
+    }
+
+    public boolean isActive() {
+        return enabled && System.currentTimeMillis() >= disabledUntil;
+    }
+
+    /**
+     * api_key 를 제외하고 쿼리 파라미터를 정렬한 캐시 키
+     */
+    static String key(String url) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+        MultiValueMap<String, String> params = uri.getQueryParams();
+        Map<String, String> sorted = new TreeMap<>();
+        params.forEach((name, values) -> {
+            if (!"api_key".equals(name)) {
+                sorted.put(name, String.join(",", values));
+            }
+        });
+        StringBuilder sb = new StringBuilder(KEY_PREFIX).append(uri.getPath());
+        sorted.forEach((name, value) -> sb.append(sb.indexOf("?") < 0 ? '?' : '&').append(name).append('=').append(value));
+        return sb.toString();
+    }
+
+    private static String staleKey(String url) {
+        return STALE_PREFIX + key(url).substring(KEY_PREFIX.length());
+    }
+
+    private String read(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            degrade(e);
+            return null;
+        }
+    }
+
+    private void write(String key, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, compactMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            degrade(e);
+        }
+    }
+
+    private void degrade(Exception e) {
+        disabledUntil = System.currentTimeMillis() + BACKOFF.toMillis();
+        count(null, "error");
+        log.warn("[TMDB 캐시] Redis 사용 불가 → {}초 동안 캐시 우회 : {}", BACKOFF.toSeconds(), e.getMessage());
+    }
+
+    private void count(Endpoint endpoint, String result) {
+        String endpointTag = endpoint == null ? "all" : endpoint.name().toLowerCase();
+        counters.computeIfAbsent(endpointTag + ":" + result, k -> Counter.builder("tmdb.cache.requests")
+                .tag("endpoint", endpointTag)
+                .tag("result", result)
+                .register(meterRegistry)
+        ).increment();
+    }
+}
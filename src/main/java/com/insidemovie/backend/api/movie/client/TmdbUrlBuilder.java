@@ -0,0 +1,53 @@
+package com.insidemovie.backend.api.movie.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * TMDB 요청 URL 생성 (blocking / reactive 클라이언트 공용)
+ */
+@Component
+class TmdbUrlBuilder {
+
+    @Value("${tmdb.api.base-url}")
+    private String baseUrl;
+
+    @Value("${tmdb.api.key}")
+    private String apiKey;
+
+    @Value("${tmdb.api.language}")
+    private String language;
+
+    String moviePage(String type, int page) {
+        return String.format(
+            "%s/movie/%s?api_key=%s&language=%s&page=%d",
+            baseUrl, type, apiKey, language, page
+        );
+    }
+
+    String movieDetail(Long tmdbId) {
+        return String.format(
+            "%s/movie/%d?api_key=%s&language=%s&append_to_response=credits,release_dates,watch/providers",
+            baseUrl, tmdbId, apiKey, language
+        );
+    }
+
+    String searchMovie(String title, int year) {
+        String encoded = URLEncoder.encode(title, StandardCharsets.UTF_8);
+        return String.format(
+            "%s/search/movie?api_key=%s&language=%s&query=%s&primary_release_year=%d",
+            baseUrl, apiKey, language, encoded, year
+        );
+    }
+
+    String changedMovies(LocalDate startDate, LocalDate endDate, int page) {
+        return String.format(
+            "%s/movie/changes?api_key=%s&start_date=%s&end_date=%s&page=%d",
+            baseUrl, apiKey, startDate, endDate, page
+        );
+    }
+}
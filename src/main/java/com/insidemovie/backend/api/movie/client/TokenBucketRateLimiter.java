@@ -0,0 +1,61 @@
+package com.insidemovie.backend.api.movie.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출용 토큰 버킷.
+ * 초당 permitsPerSecond 개의 토큰이 채워지고, 최대 burst 개까지 쌓인다.
+ * 토큰이 모자라면 미리 예약(음수 잔고)해 두고 그만큼 대기한다.
+ */
+@Slf4j
+public abstract class TokenBucketRateLimiter {
+
+    private final String name;
+    private final double permitsPerSecond;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    protected TokenBucketRateLimiter(String name, double permitsPerSecond, int burst) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        double refill = (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond;
+        tokens = Math.min(burst, tokens + refill);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0L;
+        }
+        return (long) (-tokens / permitsPerSecond * 1_000_000_000L);
+    }
+
+    /**
+     * 토큰을 얻을 때까지 현재 스레드를 대기
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[{} RateLimiter] 대기 중 인터럽트 발생", name);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.insidemovie.backend.api.movie.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 박스오피스 숫자 항목(순위 / 관객수 / 매출 / 스크린수) varchar → 숫자 컬럼 변환.
+ * ddl-auto: update 는 기존 컬럼 타입을 바꾸지 않으므로 기동 시 한 번 직접 ALTER 한다.
+ * 이미 숫자 타입인 컬럼은 건너뛰므로 변환이 끝난 뒤에는 information_schema 조회만 수행.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "boxoffice.schema-migration-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BoxOfficeSchemaMigration implements ApplicationRunner {
+
+    private static final List<String> TABLES = List.of("daily_box_office", "weekly_box_office");
+
+    // 컬럼 → 목표 타입 (엔티티 필드 타입과 맞춤)
+    private static final Map<String, String> COLUMN_TYPES = new LinkedHashMap<>();
+
+    static {
+        COLUMN_TYPES.put("rnum", "INT");
+        COLUMN_TYPES.put("movie_rank", "INT");
+        COLUMN_TYPES.put("rank_inten", "INT");
+        COLUMN_TYPES.put("sales_amt", "BIGINT");
+        COLUMN_TYPES.put("sales_share", "DECIMAL(12,2)");
+        COLUMN_TYPES.put("sales_inten", "BIGINT");
+        COLUMN_TYPES.put("sales_change", "DECIMAL(12,2)");
+        COLUMN_TYPES.put("sales_acc", "BIGINT");
+        COLUMN_TYPES.put("audi_cnt", "BIGINT");
+        COLUMN_TYPES.put("audi_inten", "BIGINT");
+        COLUMN_TYPES.put("audi_change", "DECIMAL(12,2)");
+        COLUMN_TYPES.put("audi_acc", "BIGINT");
+        COLUMN_TYPES.put("scrn_cnt", "INT");
+        COLUMN_TYPES.put("show_cnt", "INT");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String table : TABLES) {
+            try {
+                migrate(table);
+            } catch (Exception e) {
+                log.error("[박스오피스 스키마] {} 변환 실패: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void migrate(String table) {
+        Map<String, String> currentTypes = new HashMap<>();
+        jdbcTemplate.query("SELECT COLUMN_NAME, DATA_TYPE FROM information_schema.COLUMNS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", rs -> {
+            currentTypes.put(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT),
+                    rs.getString("DATA_TYPE").toLowerCase(Locale.ROOT));
+        }, table);
+
+        List<String> pending = COLUMN_TYPES.keySet().stream()
+                .filter(c -> isText(currentTypes.get(c)))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 숫자로 바꿀 수 없는 값("", "-" 등)은 NULL 로 정리해야 ALTER 가 실패하지 않음
+        for (String column : pending) {
+            jdbcTemplate.update("UPDATE " + table + " SET " + column + " = TRIM(REPLACE(" + column + ", ',', '')) "
+                    + "WHERE " + column + " IS NOT NULL");
+            jdbcTemplate.update("UPDATE " + table + " SET " + column + " = NULL "
+                    + "WHERE " + column + " NOT REGEXP '^-?[0-9]+([.][0-9]+)?$'");
+        }
+        String modify = pending.stream()
+                .map(c -> "MODIFY COLUMN " + c + " " + COLUMN_TYPES.get(c) + " NULL")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + table + " " + modify);
+        log.info("[박스오피스 스키마] {} 숫자 컬럼 변환 완료: {}", table, pending);
+    }
+
+    private boolean isText(String dataType) {
+        return dataType != null && (dataType.contains("char") || dataType.contains("text"));
+    }
+}
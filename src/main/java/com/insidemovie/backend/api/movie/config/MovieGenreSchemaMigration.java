@@ -0,0 +1,49 @@
+package com.insidemovie.backend.api.movie.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * movie_genre (movie_id, genre) 유니크 키 보장.
+ * 병렬 파티션이 같은 영화를 동시에 반영하며 생긴 중복 행이 있으면 ddl-auto: update 가 키를 추가하지 못하므로
+ * 기동 시 중복을 지운 뒤 직접 추가한다. 키가 이미 있으면 information_schema 조회만 수행.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.genre-schema-migration-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MovieGenreSchemaMigration implements ApplicationRunner {
+
+    static final String UNIQUE_KEY = "uk_movie_genre_movie_genre";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasUniqueKey()) {
+            return;
+        }
+        try {
+            // 같은 (영화, 장르) 중 가장 먼저 생긴 행만 남김
+            int removed = jdbcTemplate.update("DELETE dup FROM movie_genre dup "
+                    + "JOIN movie_genre keep ON keep.movie_id = dup.movie_id AND keep.genre = dup.genre "
+                    + "AND keep.movie_genre_id < dup.movie_genre_id");
+            jdbcTemplate.execute("ALTER TABLE movie_genre ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (movie_id, genre)");
+            log.info("[영화 장르 스키마] 중복 {}건 정리 후 {} 추가", removed, UNIQUE_KEY);
+        } catch (Exception e) {
+            log.error("[영화 장르 스키마] {} 추가 실패: {}", UNIQUE_KEY, e.getMessage(), e);
+        }
+    }
+
+    private boolean hasUniqueKey() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'movie_genre' "
+                + "AND INDEX_NAME = ? AND NON_UNIQUE = 0", Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
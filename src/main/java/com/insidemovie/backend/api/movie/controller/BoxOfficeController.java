@@ -1,10 +1,13 @@
 package com.insidemovie.backend.api.movie.controller;
 
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
 import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTrendDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
 import com.insidemovie.backend.api.movie.service.BoxOfficeService;
+import com.insidemovie.backend.api.movie.service.BoxOfficeTrendService;
 import com.insidemovie.backend.common.response.ApiResponse;
 import com.insidemovie.backend.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +32,7 @@ import java.time.format.DateTimeFormatter;
 public class BoxOfficeController {
 
     private final BoxOfficeService boxOfficeService;
+    private final BoxOfficeTrendService boxOfficeTrendService;
     private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     /**
@@ -225,4 +230,27 @@ public class BoxOfficeController {
         MovieDetailResDto dto = boxOfficeService.getWeeklyMovieDetailByMovieId(movieId, weekGb);
         return ApiResponse.success(SuccessStatus.SEND_BOXOFFICE_MOVIE_DETAIL_SUCCESS, dto);
     }
-}
\ No newline at end of file
+
+    /**
+     * 영화별 박스오피스 추이
+     */
+    @Operation(
+            summary = "영화 박스오피스 추이 조회",
+            description = """
+                    특정 영화의 기간별 관객수 / 누적 관객수 / 매출 / 순위 추이를 반환합니다.  
+                    - `granularity`: DAILY(일별) / WEEKLY(ISO 주) / MONTHLY(월)  
+                    - 주·월별 값은 일간 박스오피스 수집 시 갱신되는 집계 테이블에서 조회  
+                    - `from` / `to` (YYYYMMDD) 미지정 시 전체 상영 기간
+                    """
+    )
+    @GetMapping("/movies/{movieId}/trend")
+    public ResponseEntity<ApiResponse<BoxOfficeTrendDTO>> getTrend(
+            @PathVariable Long movieId,
+            @RequestParam(defaultValue = "DAILY") BoxOfficeGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate to
+    ) {
+        BoxOfficeTrendDTO dto = boxOfficeTrendService.getTrend(movieId, granularity, from, to);
+        return ApiResponse.success(SuccessStatus.SEND_BOXOFFICE_TREND_SUCCESS, dto);
+    }
+}
@@ -1,6 +1,7 @@
 package com.insidemovie.backend.api.movie.controller;
 
 
+import com.insidemovie.backend.api.constant.CreditRole;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
@@ -98,6 +99,27 @@ public class MovieController {
         return ApiResponse.success(SuccessStatus.SEARCH_MOVIES_SUCCESS, result);
     }
 
+    @Operation(summary = "배우 / 감독으로 영화 검색", description = "배우 또는 감독 이름(정확히 일치)으로 출연 / 연출 영화를 최신순으로 검색합니다.")
+    @GetMapping("/search/person")
+    public ResponseEntity<ApiResponse<PageResDto<MovieSearchResDto>>> movieSearchPerson(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "ACTOR") CreditRole role,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        PageResDto<MovieSearchResDto> result = movieService.searchByPerson(name, role, page, pageSize);
+        return ApiResponse.success(SuccessStatus.SEARCH_MOVIES_SUCCESS, result);
+    }
+
+    @Operation(summary = "OTT 제공처로 영화 검색", description = "OTT 제공처 이름(예: Netflix)으로 시청 가능한 영화를 인기순으로 검색합니다.")
+    @GetMapping("/search/ott")
+    public ResponseEntity<ApiResponse<PageResDto<MovieSearchResDto>>> movieSearchOtt(
+            @RequestParam String provider,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        PageResDto<MovieSearchResDto> result = movieService.searchByOttProvider(provider, page, pageSize);
+        return ApiResponse.success(SuccessStatus.SEARCH_MOVIES_SUCCESS, result);
+    }
+
     // 인기순으로 정렬된 영화 목록 제공 API
     @Operation(
             summary = "인기순 정렬 영화 목록 제공 API",
@@ -0,0 +1,19 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 (전체 개수 없음)
+ * nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회, 마지막 페이지면 null
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResDto<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
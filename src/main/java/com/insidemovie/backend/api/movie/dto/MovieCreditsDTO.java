@@ -0,0 +1,25 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 영화 한 편의 출연진 / 감독 / OTT 제공처 (순서 유지)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class MovieCreditsDTO {
+    public static final MovieCreditsDTO EMPTY = new MovieCreditsDTO(List.of(), List.of(), List.of());
+
+    private List<String> actors;
+    private List<String> directors;
+    private List<String> ottProviders;
+
+    public boolean isEmpty() {
+        return actors.isEmpty() && directors.isEmpty() && ottProviders.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.insidemovie.backend.api.movie.dto;
+
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * TMDB 상세정보를 저장 직전 형태로 매핑한 결과 (크레딧은 movie_credit / movie_ott_provider 로 저장)
+ * (movie 는 영속화되지 않은 값 객체로만 사용, 지문 포함)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class MovieUpsertDTO {
+    private Movie movie;
+    private Set<GenreType> genres;
+    private MovieCreditsDTO credits;
+}
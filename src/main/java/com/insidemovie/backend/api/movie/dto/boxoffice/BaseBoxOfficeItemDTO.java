@@ -3,6 +3,8 @@ package com.insidemovie.backend.api.movie.dto.boxoffice;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.math.BigDecimal;
+
 // 박스오피스 항목의 공통 속성
 
 @Getter
@@ -27,5 +29,16 @@ public class BaseBoxOfficeItemDTO {
     private String audiAcc;
     private String scrnCnt;
     private String showCnt;
+
+    // 숫자 컬럼 → 응답 문자열 (KOBIS 원본과 같은 형식 유지: 12.30 → "12.3", 0.00 → "0")
+    public static String text(Number value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toPlainString();
+        }
+        return value.toString();
+    }
 }
 
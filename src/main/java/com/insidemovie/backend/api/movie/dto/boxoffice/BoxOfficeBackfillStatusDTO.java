@@ -0,0 +1,28 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 박스오피스 백필 진행 상황
+@Getter
+@Builder
+public class BoxOfficeBackfillStatusDTO {
+    private BoxOfficeType type;
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate resumedFrom;      // 실제 시작 위치 (워터마크 이후)
+    private LocalDate completedUntil;   // 이 날짜(포함)까지 연속 저장 완료
+    private int totalDays;              // 이번 실행에서 처리할 날짜(주간은 주) 수
+    private int processedDays;
+    private long savedRows;
+    private List<LocalDate> failedDates;
+    private boolean running;
+    private LocalDateTime startedAt;
+    private double elapsedSeconds;
+    private double daysPerSecond;
+}
@@ -0,0 +1,14 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+
+/**
+ * 박스오피스 차트 스냅샷 항목 (일간 / 주간 공통).
+ * 리뷰로 평점 / 감정이 바뀐 영화만 새 값으로 교체할 수 있도록 복사 메서드를 제공한다.
+ */
+public interface BoxOfficeChartItem<T extends BoxOfficeChartItem<T>> {
+
+    Long getMovieId();
+
+    T withStats(Double ratingAvg, EmotionType mainEmotion, Double mainEmotionValue);
+}
@@ -0,0 +1,17 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 영화 한 편의 박스오피스 추이
+@Getter
+@Builder
+public class BoxOfficeTrendDTO {
+    private Long movieId;
+    private String title;
+    private BoxOfficeGranularity granularity;
+    private List<BoxOfficeTrendPointDTO> points;   // 기간 시작일 오름차순
+}
@@ -0,0 +1,21 @@
+package com.insidemovie.backend.api.movie.dto.boxoffice;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 박스오피스 추이의 한 구간 (일별이면 periodStart = periodEnd)
+@Getter
+@Builder(toBuilder = true)
+public class BoxOfficeTrendPointDTO {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Integer rank;           // 일별: 당일 순위 / 주·월별: 기간 중 최고 순위
+    private Long audiCnt;           // 기간 관객수
+    private Long audiAcc;           // 기간 말 누적 관객수
+    private Long salesAmt;          // 기간 매출액
+    private Long salesAcc;          // 기간 말 누적 매출액
+    private Integer scrnCnt;        // 일별: 스크린 수 / 주·월별: 기간 중 최대
+    private int daysOnChart;
+}
@@ -7,8 +7,8 @@ import lombok.Getter;
 
 // 일간 박스오피스 응답 DTO
 @Getter
-@Builder
-public class DailyBoxOfficeResponseDTO {
+@Builder(toBuilder = true)
+public class DailyBoxOfficeResponseDTO implements BoxOfficeChartItem<DailyBoxOfficeResponseDTO> {
     private Long movieId;
     private String title;
     private String posterPath;
@@ -32,24 +32,24 @@ public class DailyBoxOfficeResponseDTO {
             .movieId(e.getMovie() != null ? e.getMovie().getId() : null)
             .base(BaseBoxOfficeItemDTO.builder()
                 .id(e.getId())
-                .rnum(e.getRnum())
-                .rank(e.getMovieRank())
-                .rankInten(e.getRankInten())
+                .rnum(BaseBoxOfficeItemDTO.text(e.getRnum()))
+                .rank(BaseBoxOfficeItemDTO.text(e.getMovieRank()))
+                .rankInten(BaseBoxOfficeItemDTO.text(e.getRankInten()))
                 .rankOldAndNew(e.getRankOldAndNew())
                 .movieCd(e.getMovieCd())
                 .movieNm(e.getMovieName())
                 .openDt(e.getOpenDate())
-                .salesAmt(e.getSalesAcc())
-                .salesShare(e.getSalesShare())
-                .salesInten(e.getSalesInten())
-                .salesChange(e.getSalesChange())
-                .salesAcc(e.getSalesAcc())
-                .audiCnt(e.getAudiCnt())
-                .audiInten(e.getAudiInten())
-                .audiChange(e.getAudiChange())
-                .audiAcc(e.getAudiAcc())
-                .scrnCnt(e.getScrnCnt())
-                .showCnt(e.getShowCnt())
+                .salesAmt(BaseBoxOfficeItemDTO.text(e.getSalesAcc()))
+                .salesShare(BaseBoxOfficeItemDTO.text(e.getSalesShare()))
+                .salesInten(BaseBoxOfficeItemDTO.text(e.getSalesInten()))
+                .salesChange(BaseBoxOfficeItemDTO.text(e.getSalesChange()))
+                .salesAcc(BaseBoxOfficeItemDTO.text(e.getSalesAcc()))
+                .audiCnt(BaseBoxOfficeItemDTO.text(e.getAudiCnt()))
+                .audiInten(BaseBoxOfficeItemDTO.text(e.getAudiInten()))
+                .audiChange(BaseBoxOfficeItemDTO.text(e.getAudiChange()))
+                .audiAcc(BaseBoxOfficeItemDTO.text(e.getAudiAcc()))
+                .scrnCnt(BaseBoxOfficeItemDTO.text(e.getScrnCnt()))
+                .showCnt(BaseBoxOfficeItemDTO.text(e.getShowCnt()))
                 .build())
             .title(title)
             .posterPath(posterPath)
@@ -59,4 +59,13 @@ public class DailyBoxOfficeResponseDTO {
             .mainEmotionValue(mainEmotionValue)
             .build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public DailyBoxOfficeResponseDTO withStats(Double ratingAvg, EmotionType mainEmotion, Double mainEmotionValue) {
+        return toBuilder()
+            .ratingAvg(ratingAvg)
+            .mainEmotion(mainEmotion)
+            .mainEmotionValue(mainEmotionValue)
+            .build();
+    }
+}
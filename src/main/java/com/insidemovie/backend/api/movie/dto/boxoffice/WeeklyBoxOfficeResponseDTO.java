@@ -7,8 +7,8 @@ import lombok.Getter;
 
 // 주간 박스오피스 응답 DTO
 @Getter
-@Builder
-public class WeeklyBoxOfficeResponseDTO {
+@Builder(toBuilder = true)
+public class WeeklyBoxOfficeResponseDTO implements BoxOfficeChartItem<WeeklyBoxOfficeResponseDTO> {
     private Long movieId;
     private String title;
     private String posterPath;
@@ -31,24 +31,24 @@ public class WeeklyBoxOfficeResponseDTO {
             .movieId(e.getMovie() != null ? e.getMovie().getId() : null)
             .base(BaseBoxOfficeItemDTO.builder()
                 .id(e.getId())
-                .rnum(e.getRnum())
-                .rank(e.getMovieRank())
-                .rankInten(e.getRankInten())
+                .rnum(BaseBoxOfficeItemDTO.text(e.getRnum()))
+                .rank(BaseBoxOfficeItemDTO.text(e.getMovieRank()))
+                .rankInten(BaseBoxOfficeItemDTO.text(e.getRankInten()))
                 .rankOldAndNew(e.getRankOldAndNew())
                 .movieCd(e.getMovieCd())
                 .movieNm(e.getMovieNm())
                 .openDt(e.getOpenDt())
-                .salesAmt(e.getSalesAmt())
-                .salesShare(e.getSalesShare())
-                .salesInten(e.getSalesInten())
-                .salesChange(e.getSalesChange())
-                .salesAcc(e.getSalesAcc())
-                .audiCnt(e.getAudiCnt())
-                .audiInten(e.getAudiInten())
-                .audiChange(e.getAudiChange())
-                .audiAcc(e.getAudiAcc())
-                .scrnCnt(e.getScrnCnt())
-                .showCnt(e.getShowCnt())
+                .salesAmt(BaseBoxOfficeItemDTO.text(e.getSalesAmt()))
+                .salesShare(BaseBoxOfficeItemDTO.text(e.getSalesShare()))
+                .salesInten(BaseBoxOfficeItemDTO.text(e.getSalesInten()))
+                .salesChange(BaseBoxOfficeItemDTO.text(e.getSalesChange()))
+                .salesAcc(BaseBoxOfficeItemDTO.text(e.getSalesAcc()))
+                .audiCnt(BaseBoxOfficeItemDTO.text(e.getAudiCnt()))
+                .audiInten(BaseBoxOfficeItemDTO.text(e.getAudiInten()))
+                .audiChange(BaseBoxOfficeItemDTO.text(e.getAudiChange()))
+                .audiAcc(BaseBoxOfficeItemDTO.text(e.getAudiAcc()))
+                .scrnCnt(BaseBoxOfficeItemDTO.text(e.getScrnCnt()))
+                .showCnt(BaseBoxOfficeItemDTO.text(e.getShowCnt()))
                 .build())
             .title(title)
             .posterPath(posterPath)
@@ -58,4 +58,13 @@ public class WeeklyBoxOfficeResponseDTO {
             .mainEmotionValue(mainEmotionValue)
             .build();
     }
+
+    @Override
+    public WeeklyBoxOfficeResponseDTO withStats(Double ratingAvg, EmotionType mainEmotion, Double mainEmotionValue) {
+        return toBuilder()
+            .ratingAvg(ratingAvg)
+            .mainEmotion(mainEmotion)
+            .mainEmotionValue(mainEmotionValue)
+            .build();
+    }
 }
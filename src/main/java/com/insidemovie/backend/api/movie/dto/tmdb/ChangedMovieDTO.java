@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.movie.dto.tmdb;
+
+import lombok.Data;
+
+@Data
+public class ChangedMovieDTO {
+    private Long id;
+    private Boolean adult;
+}
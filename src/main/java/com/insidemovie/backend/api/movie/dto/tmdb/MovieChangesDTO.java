@@ -0,0 +1,26 @@
+package com.insidemovie.backend.api.movie.dto.tmdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * TMDB /movie/changes 응답
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MovieChangesDTO {
+    private int page;
+
+    private List<ChangedMovieDTO> results;
+
+    @JsonProperty("total_pages")
+    private int totalPages;
+
+    @JsonProperty("total_results")
+    private int totalResults;
+}
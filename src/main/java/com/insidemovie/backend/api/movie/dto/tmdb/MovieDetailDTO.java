@@ -12,6 +12,7 @@ import java.util.List;
 @AllArgsConstructor
 @ToString
 public class MovieDetailDTO {
+    private Long id;                     // TMDB 영화 ID
     private Integer runtime;
     private String status;
     private CreditsDTO credits;
@@ -13,6 +13,10 @@ import java.util.List;
 public class SearchMovieResponseDTO {
     private Long id;
     private String title;
+
+    @JsonProperty("original_title")
+    private String originalTitle;       // 원제
+
     private String overview; //줄거리
 
     @JsonProperty("poster_path")
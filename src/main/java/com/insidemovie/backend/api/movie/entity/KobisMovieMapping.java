@@ -0,0 +1,92 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import com.insidemovie.backend.api.constant.KobisMappingStatus;
+import com.insidemovie.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * KOBIS 영화코드(movieCd) → TMDB ID → movie_id 매핑.
+ * 한 번 매칭된 영화는 다음 박스오피스 수집부터 TMDB 검색 없이 바로 연결하고,
+ * 매칭에 실패한 영화도 retry_after 까지는 다시 검색하지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "kobis_movie_mapping",
+    indexes = {
+        @Index(name = "idx_kobis_mapping_tmdb", columnList = "tmdb_id"),
+        @Index(name = "idx_kobis_mapping_status_retry", columnList = "status, retry_after")
+    }
+)
+public class KobisMovieMapping extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "movie_cd", length = 20)
+    private String movieCd;
+
+    @Column(name = "kobis_title", length = 200)
+    private String kobisTitle;          // 매칭 당시 KOBIS 영화명
+
+    @Column(name = "open_year")
+    private Integer openYear;           // KOBIS 개봉연도 (국내 개봉 기준)
+
+    @Column(name = "tmdb_id")
+    private Long tmdbId;
+
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private KobisMappingStatus status;
+
+    @Column(name = "match_score")
+    private Double matchScore;          // 제목 유사도 (0 ~ 1)
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;               // 연속 매칭 실패 횟수
+
+    @Column(name = "retry_after")
+    private LocalDateTime retryAfter;   // UNRESOLVED 재검색 가능 시각
+
+    public static KobisMovieMapping of(String movieCd, String kobisTitle, Integer openYear) {
+        return KobisMovieMapping.builder()
+                .movieCd(movieCd)
+                .kobisTitle(kobisTitle)
+                .openYear(openYear)
+                .status(KobisMappingStatus.UNRESOLVED)
+                .build();
+    }
+
+    public boolean isResolved() {
+        return status == KobisMappingStatus.RESOLVED && tmdbId != null;
+    }
+
+    public boolean isRetryDue(LocalDateTime now) {
+        return retryAfter == null || !retryAfter.isAfter(now);
+    }
+
+    public void resolve(Long tmdbId, double matchScore) {
+        this.status = KobisMappingStatus.RESOLVED;
+        this.tmdbId = tmdbId;
+        this.matchScore = matchScore;
+        this.attempts = 0;
+        this.retryAfter = null;
+    }
+
+    public void fail(LocalDateTime retryAfter) {
+        this.status = KobisMappingStatus.UNRESOLVED;
+        this.attempts++;
+        this.retryAfter = retryAfter;
+    }
+
+    public void linkMovie(Long movieId) {
+        this.movieId = movieId;
+    }
+}
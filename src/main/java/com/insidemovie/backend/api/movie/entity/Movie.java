@@ -37,7 +37,7 @@ public class Movie {
     private String originalLanguage;     // 국가
 
     @Lob
-    private String actors;              // 출연진
+    private String actors;              // 출연진 (구 JSON, movie_credit 으로 이관)
 
 //    @Column(name = "genre_ids")
 //    private Set<Integer> genreIds;     // 장르
@@ -48,8 +48,8 @@ public class Movie {
     private String nation;               // 제작 국가
     private String status;               // 제작 상태 (개봉, 기타 등)
     @Lob
-    private String directors;            // 감독
-    private String ottProviders;         // OTT 제공
+    private String directors;            // 감독 (구 JSON, movie_credit 으로 이관)
+    private String ottProviders;         // OTT 제공 (구 JSON, movie_ott_provider 로 이관)
     private String posterPath;           // 포스터 이미지 경로
     private String backdropPath;         // 배경 이미지 경로
     private Double voteAverage;          // 평균 평점
@@ -60,6 +60,12 @@ public class Movie {
     @Column(name = "is_matched")
     private Boolean isMatched;
 
+    @Column(name = "list_fingerprint", length = 64)
+    private String listFingerprint;      // 목록 응답 필드 해시 (변경 감지용)
+
+    @Column(name = "detail_fingerprint", length = 64)
+    private String detailFingerprint;    // 상세 응답 매핑 결과 해시 (변경 감지용)
+
     @OneToMany(mappedBy = "movie", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<MovieLike> movieLikes = new ArrayList<>();
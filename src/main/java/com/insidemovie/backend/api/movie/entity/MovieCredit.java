@@ -0,0 +1,51 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import com.insidemovie.backend.api.constant.CreditRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영화 출연진 / 감독 (movie.actors / movie.directors JSON 컬럼 대체)
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "movie_credit",
+    indexes = {
+        @Index(name = "idx_credit_movie", columnList = "movie_id, role, sort_order"),
+        @Index(name = "idx_credit_person", columnList = "person_name, role")
+    }
+)
+public class MovieCredit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movie_credit_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "movie_id", nullable = false)
+    private Movie movie;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", length = 20, nullable = false)
+    private CreditRole role;
+
+    @Column(name = "person_name", length = 200, nullable = false)
+    private String personName;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder;          // TMDB 크레딧 순서 (주연 → 조연)
+
+    private MovieCredit(Long id, Movie movie, CreditRole role, String personName, Integer sortOrder) {
+        this.id = id;
+        this.movie = movie;
+        this.role = role;
+        this.personName = personName;
+        this.sortOrder = sortOrder;
+    }
+}
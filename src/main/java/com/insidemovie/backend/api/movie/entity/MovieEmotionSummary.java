@@ -2,9 +2,17 @@ package com.insidemovie.backend.api.movie.entity;
 
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.member.dto.emotion.EmotionSumDTO;
+import com.insidemovie.backend.api.review.dto.EmotionVector;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 영화별 리뷰 감정 요약.
+ * 리뷰 감정 합계(*_sum)와 개수(emotion_count)를 누적해 두고, 리뷰 감정이 생기거나 바뀌거나 지워질 때
+ * 한 건 분량만 더하고 빼서 평균 / 대표 감정을 다시 계산한다 (리뷰 수와 무관하게 O(1)).
+ * emotion_count 가 null 이면 누적값 도입 이전 행이므로 전체 재집계로 초기화한다.
+ */
 @Entity
 @Getter
 @Builder
@@ -31,6 +39,84 @@ public class MovieEmotionSummary {
     @Column(name = "dominant_emotion", length = 20)
     private EmotionType dominantEmotion; // 대표 감정
 
+    @Column(name = "emotion_count")
+    private Long emotionCount;
+
+    @Column(name = "joy_sum")
+    private Double joySum;
+
+    @Column(name = "sadness_sum")
+    private Double sadnessSum;
+
+    @Column(name = "anger_sum")
+    private Double angerSum;
+
+    @Column(name = "fear_sum")
+    private Double fearSum;
+
+    @Column(name = "disgust_sum")
+    private Double disgustSum;
+
+    public boolean hasTotals() {
+        return emotionCount != null;
+    }
+
+    // 전체 재집계 결과로 누적값 초기화
+    public void resetTotals(EmotionSumDTO sums) {
+        this.emotionCount = sums.getCount();
+        this.joySum = sums.getJoy();
+        this.sadnessSum = sums.getSadness();
+        this.angerSum = sums.getAnger();
+        this.fearSum = sums.getFear();
+        this.disgustSum = sums.getDisgust();
+    }
+
+    public void add(EmotionVector v) {
+        this.emotionCount++;
+        this.joySum += v.joy();
+        this.sadnessSum += v.sadness();
+        this.angerSum += v.anger();
+        this.fearSum += v.fear();
+        this.disgustSum += v.disgust();
+    }
+
+    public void subtract(EmotionVector v) {
+        this.emotionCount--;
+        if (emotionCount <= 0) {
+            // 마지막 감정이 빠지면 부동소수 오차가 남지 않도록 0 으로 맞춤
+            resetTotals(EmotionSumDTO.empty(movieId));
+            return;
+        }
+        this.joySum -= v.joy();
+        this.sadnessSum -= v.sadness();
+        this.angerSum -= v.anger();
+        this.fearSum -= v.fear();
+        this.disgustSum -= v.disgust();
+    }
+
+    public EmotionSumDTO totals() {
+        if (!hasTotals()) {
+            return EmotionSumDTO.empty(movieId);
+        }
+        return new EmotionSumDTO(movieId, emotionCount, joySum, sadnessSum, angerSum, fearSum, disgustSum);
+    }
+
+    // 저장된 평균값 (누적값 미초기화 행 포함)
+    public EmotionAvgDTO toAvgDTO() {
+        return EmotionAvgDTO.builder()
+                .joy(valueOf(joy))
+                .sadness(valueOf(sadness))
+                .anger(valueOf(anger))
+                .fear(valueOf(fear))
+                .disgust(valueOf(disgust))
+                .repEmotionType(dominantEmotion != null ? dominantEmotion : EmotionType.NONE)
+                .build();
+    }
+
+    private static double valueOf(Float f) {
+        return f != null ? f.doubleValue() : 0.0;
+    }
+
     public void updateFromDTO(EmotionAvgDTO dto) {
         this.joy = dto.getJoy().floatValue();
         this.sadness = dto.getSadness().floatValue();
@@ -11,7 +11,8 @@ import lombok.NoArgsConstructor;
 @Builder
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "movie_genre")
+@Table(name = "movie_genre", uniqueConstraints = @UniqueConstraint(
+        name = "uk_movie_genre_movie_genre", columnNames = {"movie_id", "genre"}))  // 장르 diff 반영(INSERT IGNORE) 기준
 public class MovieGenre {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,45 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영화의 한국 OTT 제공처 (movie.ott_providers JSON 컬럼 대체)
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "movie_ott_provider",
+    indexes = {
+        @Index(name = "idx_ott_movie", columnList = "movie_id, sort_order"),
+        @Index(name = "idx_ott_provider", columnList = "provider_name")
+    }
+)
+public class MovieOttProvider {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movie_ott_provider_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "movie_id", nullable = false)
+    private Movie movie;
+
+    @Column(name = "provider_name", length = 100, nullable = false)
+    private String providerName;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder;
+
+    private MovieOttProvider(Long id, Movie movie, String providerName, Integer sortOrder) {
+        this.id = id;
+        this.movie = movie;
+        this.providerName = providerName;
+        this.sortOrder = sortOrder;
+    }
+}
@@ -0,0 +1,81 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 영화별 리뷰 평점 통계.
+ * 평점 합계 / 개수 / 0.5점 단위 히스토그램을 누적해 두고 리뷰 작성 / 수정 / 삭제 시 한 건 분량만 더하고 빼므로,
+ * 목록 화면에서 영화마다 AVG(rating) 을 다시 집계하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "movie_rating_stats")
+public class MovieRatingStats {
+
+    // 0.0, 0.5, ... 5.0
+    public static final int BUCKETS = 11;
+
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Convert(converter = RatingHistogramConverter.class)
+    @Column(name = "histogram", length = 255)
+    private long[] histogram = new long[BUCKETS];
+
+    public void add(double rating) {
+        this.ratingSum += rating;
+        this.ratingCount++;
+        this.histogram[bucket(rating)]++;
+    }
+
+    public void remove(double rating) {
+        int bucket = bucket(rating);
+        if (ratingCount <= 1) {
+            reset(0.0, 0L, new long[BUCKETS]);
+            return;
+        }
+        this.ratingSum -= rating;
+        this.ratingCount--;
+        this.histogram[bucket] = Math.max(0L, histogram[bucket] - 1);
+    }
+
+    // 전체 재집계 결과로 초기화
+    public void reset(double sum, long count, long[] histogram) {
+        this.ratingSum = sum;
+        this.ratingCount = count;
+        // 배열 필드는 같은 인스턴스를 고치면 변경 감지가 안 되므로 새 배열로 교체
+        this.histogram = histogram.clone();
+    }
+
+    /**
+     * 평균 평점 (소수 둘째 자리, 리뷰가 없으면 0.00)
+     */
+    public BigDecimal average() {
+        return average(ratingSum, ratingCount);
+    }
+
+    public static BigDecimal average(double sum, long count) {
+        if (count <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(sum / count).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public static int bucket(double rating) {
+        return (int) Math.max(0, Math.min(BUCKETS - 1, Math.round(rating * 2)));
+    }
+}
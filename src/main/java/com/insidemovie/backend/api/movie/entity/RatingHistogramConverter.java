@@ -0,0 +1,38 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 평점 히스토그램(long[]) ↔ "c0,c1,...,c10" 문자열
+ * 비어 있거나 칸 수가 다른 값은 0 으로 채운 히스토그램으로 읽는다.
+ */
+@Converter
+public class RatingHistogramConverter implements AttributeConverter<long[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(long[] histogram) {
+        if (histogram == null) {
+            return null;
+        }
+        return Arrays.stream(histogram)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public long[] convertToEntityAttribute(String value) {
+        long[] histogram = new long[MovieRatingStats.BUCKETS];
+        if (value == null || value.isBlank()) {
+            return histogram;
+        }
+        String[] parts = value.split(",");
+        for (int i = 0; i < Math.min(parts.length, histogram.length); i++) {
+            histogram[i] = Long.parseLong(parts[i].trim());
+        }
+        return histogram;
+    }
+}
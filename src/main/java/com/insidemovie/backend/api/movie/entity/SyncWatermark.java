@@ -0,0 +1,27 @@
+package com.insidemovie.backend.api.movie.entity;
+
+import com.insidemovie.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 외부 데이터 동기화 진행 위치.
+ * sync_key 별로 "이 날짜까지 반영 완료" 를 기록한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sync_watermark")
+public class SyncWatermark extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "sync_key", length = 50)
+    private String syncKey;
+
+    @Column(name = "synced_until", nullable = false)
+    private LocalDate syncedUntil;   // 이 날짜(포함)까지 반영 완료
+}
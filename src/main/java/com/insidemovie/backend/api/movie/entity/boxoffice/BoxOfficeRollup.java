@@ -0,0 +1,67 @@
+package com.insidemovie.backend.api.movie.entity.boxoffice;
+
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 영화별 일간 박스오피스의 주 / 월 단위 집계.
+ * 일간 데이터가 upsert 될 때 해당 날짜가 속한 주 / 월만 daily_box_office 에서 다시 집계한다.
+ * (movie_cd, granularity, period_start) 유니크 키가 영화별 추이 조회 인덱스를 겸한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "box_office_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_rollup_movie_period",
+            columnNames = {"movie_cd", "granularity", "period_start"}
+        )
+    }
+)
+public class BoxOfficeRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "movie_cd", length = 20, nullable = false)
+    private String movieCd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 10, nullable = false)
+    private BoxOfficeGranularity granularity;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "days_on_chart", nullable = false)
+    private int daysOnChart;        // 기간 중 순위권에 있었던 날 수
+
+    @Column(name = "audi_cnt")
+    private Long audiCnt;           // 기간 관객수 합
+
+    @Column(name = "sales_amt")
+    private Long salesAmt;          // 기간 매출액 합
+
+    @Column(name = "audi_acc")
+    private Long audiAcc;           // 기간 말 누적 관객수
+
+    @Column(name = "sales_acc")
+    private Long salesAcc;          // 기간 말 누적 매출액
+
+    @Column(name = "best_rank")
+    private Integer bestRank;       // 기간 중 최고 순위
+
+    @Column(name = "max_scrn_cnt")
+    private Integer maxScrnCnt;     // 기간 중 최대 스크린 수
+}
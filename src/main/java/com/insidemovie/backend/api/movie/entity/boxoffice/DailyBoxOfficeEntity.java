@@ -3,6 +3,7 @@ package com.insidemovie.backend.api.movie.entity.boxoffice;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import jakarta.persistence.*;
 import lombok.*;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 
@@ -17,7 +18,8 @@ import java.time.LocalDate;
     },
     indexes = {
         @Index(name = "idx_daily_target_rank", columnList = "target_date, movie_rank"),
-        @Index(name = "idx_daily_tmdb", columnList = "tmdb_id")
+        @Index(name = "idx_daily_tmdb", columnList = "tmdb_id"),
+        @Index(name = "idx_daily_movie_date", columnList = "movie_cd, target_date")
     }
 )
 @Getter @Setter
@@ -37,10 +39,11 @@ public class DailyBoxOfficeEntity {
     @Column(name = "target_date", nullable = false)
     private LocalDate targetDate;
 
-    private String rnum;
+    // 순위 / 관객수 / 매출 / 스크린수는 정렬 · 집계를 위해 숫자 컬럼으로 저장
+    private Integer rnum;
     @Column(name = "movie_rank")
-    private String movieRank;
-    private String rankInten;
+    private Integer movieRank;
+    private Integer rankInten;
     private String rankOldAndNew;
 
     @Column(name = "movie_cd", nullable = false)
@@ -51,19 +54,22 @@ public class DailyBoxOfficeEntity {
     @Column(name = "open_date")
     private String openDate;
 
-    private String salesShare;
-    private String salesInten;
-    private String salesChange;
-    private String salesAcc;
-    private String salesAmt;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal salesShare;
+    private Long salesInten;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal salesChange;
+    private Long salesAcc;
+    private Long salesAmt;
 
-    private String audiCnt;
-    private String audiInten;
-    private String audiChange;
-    private String audiAcc;
+    private Long audiCnt;
+    private Long audiInten;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal audiChange;
+    private Long audiAcc;
 
-    private String scrnCnt;
-    private String showCnt;
+    private Integer scrnCnt;
+    private Integer showCnt;
 
     /** 기존 행을 새 API 데이터로 갱신 (변하지 않는 key 컬럼 제외) */
     public void updateFrom(DailyBoxOfficeEntity other) {
@@ -4,6 +4,8 @@ import com.insidemovie.backend.api.movie.entity.Movie;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.math.BigDecimal;
+
 @Entity
 @Table(
     name = "weekly_box_office",
@@ -34,10 +36,11 @@ public class WeeklyBoxOfficeEntity {
     @Column(name = "year_week_time", nullable = false)
     private String yearWeekTime;
 
-    private String rnum;
+    // 순위 / 관객수 / 매출 / 스크린수는 정렬 · 집계를 위해 숫자 컬럼으로 저장
+    private Integer rnum;
     @Column(name = "movie_rank")
-    private String movieRank;
-    private String rankInten;
+    private Integer movieRank;
+    private Integer rankInten;
     private String rankOldAndNew;
 
     @Column(name = "movie_cd", nullable = false)
@@ -47,19 +50,22 @@ public class WeeklyBoxOfficeEntity {
 
     private String openDt;
 
-    private String salesAmt;
-    private String salesShare;
-    private String salesInten;
-    private String salesChange;
-    private String salesAcc;
+    private Long salesAmt;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal salesShare;
+    private Long salesInten;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal salesChange;
+    private Long salesAcc;
 
-    private String audiCnt;
-    private String audiInten;
-    private String audiChange;
-    private String audiAcc;
+    private Long audiCnt;
+    private Long audiInten;
+    @Column(precision = 12, scale = 2)
+    private BigDecimal audiChange;
+    private Long audiAcc;
 
-    private String scrnCnt;
-    private String showCnt;
+    private Integer scrnCnt;
+    private Integer showCnt;
 
     public void updateFrom(WeeklyBoxOfficeEntity other) {
         this.rnum          = other.rnum;
@@ -0,0 +1,9 @@
+package com.insidemovie.backend.api.movie.event;
+
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+
+/**
+ * 박스오피스 수집으로 차트 데이터가 새로 저장되었음을 알림
+ */
+public record BoxOfficeUpdatedEvent(BoxOfficeType type) {
+}
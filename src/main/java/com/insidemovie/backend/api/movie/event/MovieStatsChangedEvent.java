@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.movie.event;
+
+/**
+ * 리뷰 작성 / 수정 / 삭제로 영화의 평점 평균이나 감정 요약이 바뀌었음을 알림
+ */
+public record MovieStatsChangedEvent(Long movieId) {
+}
@@ -0,0 +1,189 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
+import com.insidemovie.backend.api.constant.KobisMappingStatus;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 박스오피스 JDBC 일괄 쓰기.
+ *  - 백필: (target_date | year_week_time, movie_cd) 유니크 키 기준 multi-row INSERT ... ON DUPLICATE KEY UPDATE.
+ *    tmdb_id 는 값이 있을 때만 덮어써서, 이미 연결된 영화가 NULL 로 풀리지 않게 한다.
+ *  - 집계: 바뀐 날짜가 속한 주 / 월만 daily_box_office 에서 다시 집계해 box_office_rollup 에 반영.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoxOfficeJdbcRepository {
+
+    private static final List<String> DAILY_COLUMNS = List.of(
+            "target_date", "movie_cd", "tmdb_id", "rnum", "movie_rank", "rank_inten", "rank_old_and_new",
+            "movie_name", "open_date", "sales_share", "sales_inten", "sales_change", "sales_acc", "sales_amt",
+            "audi_cnt", "audi_inten", "audi_change", "audi_acc", "scrn_cnt", "show_cnt"
+    );
+
+    private static final List<String> WEEKLY_COLUMNS = List.of(
+            "year_week_time", "movie_cd", "tmdb_id", "rnum", "movie_rank", "rank_inten", "rank_old_and_new",
+            "movie_nm", "open_dt", "sales_share", "sales_inten", "sales_change", "sales_acc", "sales_amt",
+            "audi_cnt", "audi_inten", "audi_change", "audi_acc", "scrn_cnt", "show_cnt"
+    );
+
+    private static final Set<String> KEY_COLUMNS = Set.of("target_date", "year_week_time", "movie_cd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일간 박스오피스 upsert (tmdbIds: movieCd → tmdb_id, 없는 항목은 NULL)
+     */
+    public void upsertDaily(List<DailyBoxOfficeEntity> rows, Map<String, Long> tmdbIds) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(rows.size() * DAILY_COLUMNS.size());
+        for (DailyBoxOfficeEntity e : rows) {
+            args.add(e.getTargetDate());
+            args.add(e.getMovieCd());
+            args.add(tmdbIds.get(e.getMovieCd()));
+            args.add(e.getRnum());
+            args.add(e.getMovieRank());
+            args.add(e.getRankInten());
+            args.add(e.getRankOldAndNew());
+            args.add(e.getMovieName());
+            args.add(e.getOpenDate());
+            args.add(e.getSalesShare());
+            args.add(e.getSalesInten());
+            args.add(e.getSalesChange());
+            args.add(e.getSalesAcc());
+            args.add(e.getSalesAmt());
+            args.add(e.getAudiCnt());
+            args.add(e.getAudiInten());
+            args.add(e.getAudiChange());
+            args.add(e.getAudiAcc());
+            args.add(e.getScrnCnt());
+            args.add(e.getShowCnt());
+        }
+        jdbcTemplate.update(upsertSql("daily_box_office", DAILY_COLUMNS, rows.size()), args.toArray());
+    }
+
+    /**
+     * 주간 박스오피스 upsert (tmdbIds: movieCd → tmdb_id, 없는 항목은 NULL)
+     */
+    public void upsertWeekly(List<WeeklyBoxOfficeEntity> rows, Map<String, Long> tmdbIds) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(rows.size() * WEEKLY_COLUMNS.size());
+        for (WeeklyBoxOfficeEntity e : rows) {
+            args.add(e.getYearWeekTime());
+            args.add(e.getMovieCd());
+            args.add(tmdbIds.get(e.getMovieCd()));
+            args.add(e.getRnum());
+            args.add(e.getMovieRank());
+            args.add(e.getRankInten());
+            args.add(e.getRankOldAndNew());
+            args.add(e.getMovieNm());
+            args.add(e.getOpenDt());
+            args.add(e.getSalesShare());
+            args.add(e.getSalesInten());
+            args.add(e.getSalesChange());
+            args.add(e.getSalesAcc());
+            args.add(e.getSalesAmt());
+            args.add(e.getAudiCnt());
+            args.add(e.getAudiInten());
+            args.add(e.getAudiChange());
+            args.add(e.getAudiAcc());
+            args.add(e.getScrnCnt());
+            args.add(e.getShowCnt());
+        }
+        jdbcTemplate.update(upsertSql("weekly_box_office", WEEKLY_COLUMNS, rows.size()), args.toArray());
+    }
+
+    /**
+     * movieCd → tmdb_id (매칭 완료 + movie 에 저장된 영화만, FK 대상이 없는 값은 넣지 않음)
+     */
+    public Map<String, Long> findLinkedTmdbIds(Collection<String> movieCds) {
+        Map<String, Long> ids = new HashMap<>();
+        if (movieCds.isEmpty()) {
+            return ids;
+        }
+        String sql = "SELECT km.movie_cd, km.tmdb_id FROM kobis_movie_mapping km "
+                + "JOIN movie m ON m.tmdb_id = km.tmdb_id "
+                + "WHERE km.status = ? AND km.movie_cd IN (" + placeholders(movieCds.size()) + ")";
+        List<Object> args = new ArrayList<>(movieCds.size() + 1);
+        args.add(KobisMappingStatus.RESOLVED.name());
+        args.addAll(movieCds);
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString("movie_cd"), rs.getLong("tmdb_id"));
+        }, args.toArray());
+        return ids;
+    }
+
+    /**
+     * dates 가 속한 주(ISO, 월요일 시작) / 월의 집계를 movieCds 에 대해 다시 계산.
+     * 기간 전체를 원본에서 다시 합산하므로 같은 날짜를 여러 번 upsert 해도 결과가 같다.
+     */
+    public void refreshRollups(Collection<LocalDate> dates, Collection<String> movieCds) {
+        if (dates.isEmpty() || movieCds.isEmpty()) {
+            return;
+        }
+        Set<LocalDate> weeks = new TreeSet<>();
+        Set<LocalDate> months = new TreeSet<>();
+        for (LocalDate date : dates) {
+            weeks.add(date.with(DayOfWeek.MONDAY));
+            months.add(date.withDayOfMonth(1));
+        }
+        for (LocalDate start : weeks) {
+            refreshRollup(BoxOfficeGranularity.WEEKLY, start, start.plusDays(6), movieCds);
+        }
+        for (LocalDate start : months) {
+            refreshRollup(BoxOfficeGranularity.MONTHLY, start, start.with(TemporalAdjusters.lastDayOfMonth()), movieCds);
+        }
+    }
+
+    private void refreshRollup(BoxOfficeGranularity granularity, LocalDate start, LocalDate end,
+                               Collection<String> movieCds) {
+        String sql = "INSERT INTO box_office_rollup (movie_cd, granularity, period_start, period_end, days_on_chart, "
+                + "audi_cnt, sales_amt, audi_acc, sales_acc, best_rank, max_scrn_cnt) "
+                + "SELECT movie_cd, ?, ?, ?, COUNT(*), SUM(audi_cnt), SUM(sales_amt), MAX(audi_acc), MAX(sales_acc), "
+                + "MIN(movie_rank), MAX(scrn_cnt) "
+                + "FROM daily_box_office "
+                + "WHERE movie_cd IN (" + placeholders(movieCds.size()) + ") AND target_date BETWEEN ? AND ? "
+                + "GROUP BY movie_cd "
+                + "ON DUPLICATE KEY UPDATE period_end = VALUES(period_end), days_on_chart = VALUES(days_on_chart), "
+                + "audi_cnt = VALUES(audi_cnt), sales_amt = VALUES(sales_amt), audi_acc = VALUES(audi_acc), "
+                + "sales_acc = VALUES(sales_acc), best_rank = VALUES(best_rank), max_scrn_cnt = VALUES(max_scrn_cnt)";
+        List<Object> args = new ArrayList<>(movieCds.size() + 5);
+        args.add(granularity.name());
+        args.add(start);
+        args.add(end);
+        args.addAll(movieCds);
+        args.add(start);
+        args.add(end);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    private String upsertSql(String table, List<String> columns, int rowCount) {
+        String row = "(" + placeholders(columns.size()) + ")";
+        String updates = columns.stream()
+                .filter(c -> !KEY_COLUMNS.contains(c))
+                .map(c -> c.equals("tmdb_id")
+                        ? "tmdb_id = COALESCE(VALUES(tmdb_id), tmdb_id)"
+                        : c + " = VALUES(" + c + ")")
+                .collect(Collectors.joining(", "));
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, row))
+                + " ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
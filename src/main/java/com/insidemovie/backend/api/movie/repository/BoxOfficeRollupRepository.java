@@ -0,0 +1,24 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.BoxOfficeRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface BoxOfficeRollupRepository extends JpaRepository<BoxOfficeRollup, Long> {
+
+    // [from, to] 와 겹치는 기간 전체 (from 이 주 / 월 중간이어도 그 기간을 포함), uk_rollup_movie_period 범위 스캔
+    @Query("SELECT r FROM BoxOfficeRollup r "
+            + "WHERE r.movieCd IN :movieCds AND r.granularity = :granularity "
+            + "AND r.periodStart <= :to AND r.periodEnd >= :from "
+            + "ORDER BY r.periodStart ASC")
+    List<BoxOfficeRollup> findOverlapping(@Param("movieCds") Collection<String> movieCds,
+                                          @Param("granularity") BoxOfficeGranularity granularity,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,24 +15,23 @@ public interface DailyBoxOfficeRepository extends JpaRepository<DailyBoxOfficeEn
 
     Optional<DailyBoxOfficeEntity> findByMovie_TmdbMovieIdAndTargetDate(Long tmdbMovieId, LocalDate targetDate);
 
+    // idx_daily_target_rank 의 선두 컬럼이라 인덱스 끝만 읽음
     @Query("select max(d.targetDate) from DailyBoxOfficeEntity d")
     Optional<LocalDate> findLatestTargetDate();
 
-    // (1) 특정 날짜 정렬 (movie_rank 가 varchar 이므로 cast)
-    @Query(value = """
-        select * 
-        from daily_box_office
-        where target_date = :targetDate
-        order by cast(movie_rank as unsigned)
-        """, nativeQuery = true)
+    // 특정 날짜 순위순 (idx_daily_target_rank 범위 스캔, filesort 없음)
+    // 영화는 tmdb_id(PK 아님)로 조인해 지연 프록시를 만들 수 없으므로 감정 요약(mappedBy OneToOne)과 함께 fetch join
+    @Query("""
+        select d
+        from DailyBoxOfficeEntity d
+        left join fetch d.movie m
+        left join fetch m.emotions
+        where d.targetDate = :targetDate
+        order by d.movieRank
+        """)
     List<DailyBoxOfficeEntity> findAllSortedByTargetDate(@Param("targetDate") LocalDate targetDate);
 
-    // (2) 최신 날짜 + 정렬 한번에
-    @Query(value = """
-        select * 
-        from daily_box_office
-        where target_date = (select max(target_date) from daily_box_office)
-        order by cast(movie_rank as unsigned)
-        """, nativeQuery = true)
-    List<DailyBoxOfficeEntity> findLatestSorted();
-}
\ No newline at end of file
+    // 영화별 일자순 추이 (idx_daily_movie_date 범위 스캔)
+    List<DailyBoxOfficeEntity> findByMovieCdInAndTargetDateBetweenOrderByTargetDateAsc(
+            Collection<String> movieCds, LocalDate from, LocalDate to);
+}
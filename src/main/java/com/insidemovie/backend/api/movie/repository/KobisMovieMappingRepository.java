@@ -0,0 +1,14 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.constant.KobisMappingStatus;
+import com.insidemovie.backend.api.movie.entity.KobisMovieMapping;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface KobisMovieMappingRepository extends JpaRepository<KobisMovieMapping, String> {
+
+    List<KobisMovieMapping> findByTmdbIdAndStatus(Long tmdbId, KobisMappingStatus status);
+}
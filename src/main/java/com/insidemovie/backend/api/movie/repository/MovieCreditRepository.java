@@ -0,0 +1,36 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.constant.CreditRole;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieCredit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MovieCreditRepository extends JpaRepository<MovieCredit, Long> {
+
+    // 한 페이지 분량의 영화 크레딧을 한 번에 조회
+    List<MovieCredit> findByMovie_IdInOrderBySortOrderAsc(Collection<Long> movieIds);
+
+    // 인물 이름(정확히 일치) + 역할로 출연 / 연출 영화 조회 (idx_credit_person 사용)
+    @Query(value = """
+            SELECT m FROM Movie m
+            WHERE m.id IN (SELECT c.movie.id FROM MovieCredit c
+                           WHERE c.personName = :name AND c.role = :role)
+            ORDER BY m.releaseDate DESC
+            """,
+           countQuery = """
+            SELECT COUNT(DISTINCT c.movie.id) FROM MovieCredit c
+            WHERE c.personName = :name AND c.role = :role
+            """)
+    Page<Movie> findMoviesByPerson(@Param("name") String name,
+                                   @Param("role") CreditRole role,
+                                   Pageable pageable);
+}
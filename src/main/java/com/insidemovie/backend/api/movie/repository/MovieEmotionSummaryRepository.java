@@ -2,11 +2,50 @@ package com.insidemovie.backend.api.movie.repository;
 
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieEmotionSummaryRepository extends JpaRepository<MovieEmotionSummary, Long> {
     Optional<MovieEmotionSummary> findByMovieId(Long movieId);
     Optional<MovieEmotionSummary> findByMovie(Movie movie);
+
+    // 누적값 갱신용 행 잠금 (같은 영화의 감정 변경은 순서대로 반영)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MovieEmotionSummary s WHERE s.movieId = :movieId")
+    Optional<MovieEmotionSummary> findForUpdate(@Param("movieId") Long movieId);
+
+    /**
+     * 누적값이 실제 emotion 합계 / 개수와 어긋난 영화 ID
+     * (누적값 미초기화 행, 감정은 있는데 요약 행이 없는 영화 포함)
+     */
+    @Query(value = """
+        SELECT s.movie_id
+        FROM movie_emotion_summary s
+        LEFT JOIN (
+            SELECT r.movie_id, COUNT(*) AS cnt,
+                   SUM(e.joy) AS joy, SUM(e.sadness) AS sadness, SUM(e.anger) AS anger,
+                   SUM(e.fear) AS fear, SUM(e.disgust) AS disgust
+            FROM emotion e JOIN review r ON r.review_id = e.review_id
+            GROUP BY r.movie_id
+        ) a ON a.movie_id = s.movie_id
+        WHERE s.emotion_count IS NULL
+           OR s.emotion_count <> COALESCE(a.cnt, 0)
+           OR ABS(s.joy_sum - COALESCE(a.joy, 0)) > :epsilon
+           OR ABS(s.sadness_sum - COALESCE(a.sadness, 0)) > :epsilon
+           OR ABS(s.anger_sum - COALESCE(a.anger, 0)) > :epsilon
+           OR ABS(s.fear_sum - COALESCE(a.fear, 0)) > :epsilon
+           OR ABS(s.disgust_sum - COALESCE(a.disgust, 0)) > :epsilon
+        UNION
+        SELECT DISTINCT r.movie_id
+        FROM emotion e JOIN review r ON r.review_id = e.review_id
+        LEFT JOIN movie_emotion_summary s ON s.movie_id = r.movie_id
+        WHERE s.movie_id IS NULL
+        """, nativeQuery = true)
+    List<Long> findDriftedMovieIds(@Param("epsilon") double epsilon);
 }
@@ -0,0 +1,286 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.constant.CreditRole;
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 수집 파이프라인 전용 JDBC 일괄 쓰기.
+ * movie 의 PK 가 IDENTITY 라 Hibernate 가 insert 를 배치로 묶지 못하므로,
+ * 청크 단위로 multi-row INSERT ... ON DUPLICATE KEY UPDATE 를 직접 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieJdbcRepository {
+
+    // TMDB 에서 오는 컬럼만 갱신 (kofic_id, nation, is_matched 는 다른 경로에서 관리)
+    // actors / directors / ott_providers 는 movie_credit / movie_ott_provider 로 옮겨져 항상 NULL 로 덮어쓴다
+    private static final List<String> MOVIE_COLUMNS = List.of(
+            "tmdb_id", "title", "title_en", "overview", "poster_path", "backdrop_path",
+            "vote_average", "vote_count", "original_language", "release_date", "popularity",
+            "actors", "directors", "runtime", "status", "rating", "ott_providers",
+            "list_fingerprint", "detail_fingerprint"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지문에서 빠진 목록 필드 (popularity / vote_count 는 매일 흔들려 지문에 넣지 않으므로 건너뛴 영화도 따로 갱신)
+     */
+    public record ListFields(Long tmdbId, String listFingerprint, Double popularity, Integer voteCount) {
+    }
+
+    /**
+     * tmdb_id 기준 영화 upsert (청크 1개 = statement 1개)
+     */
+    public void upsertMovies(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        String columns = String.join(", ", MOVIE_COLUMNS);
+        String row = "(" + String.join(", ", Collections.nCopies(MOVIE_COLUMNS.size(), "?")) + ")";
+        String updates = MOVIE_COLUMNS.stream()
+                .filter(c -> !c.equals("tmdb_id"))
+                .map(c -> c + " = VALUES(" + c + ")")
+                .collect(Collectors.joining(", "));
+
+        String sql = "INSERT INTO movie (" + columns + ") VALUES "
+                + String.join(", ", Collections.nCopies(movies.size(), row))
+                + " ON DUPLICATE KEY UPDATE " + updates;
+
+        List<Object> args = new ArrayList<>(movies.size() * MOVIE_COLUMNS.size());
+        for (Movie m : movies) {
+            args.add(m.getTmdbMovieId());
+            args.add(m.getTitle());
+            args.add(m.getTitleEn());
+            args.add(m.getOverview());
+            args.add(m.getPosterPath());
+            args.add(m.getBackdropPath());
+            args.add(m.getVoteAverage());
+            args.add(m.getVoteCount());
+            args.add(m.getOriginalLanguage());
+            args.add(m.getReleaseDate());
+            args.add(m.getPopularity());
+            args.add(m.getActors());
+            args.add(m.getDirectors());
+            args.add(m.getRuntime());
+            args.add(m.getStatus());
+            args.add(m.getRating());
+            args.add(m.getOttProviders());
+            args.add(m.getListFingerprint());
+            args.add(m.getDetailFingerprint());
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * tmdb_id → movie_id 매핑 조회
+     */
+    public Map<Long, Long> findIdsByTmdbIds(Collection<Long> tmdbIds) {
+        Map<Long, Long> ids = new HashMap<>();
+        if (tmdbIds.isEmpty()) {
+            return ids;
+        }
+        String sql = "SELECT tmdb_id, movie_id FROM movie WHERE tmdb_id IN (" + placeholders(tmdbIds.size()) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getLong("tmdb_id"), rs.getLong("movie_id"));
+        }, tmdbIds.toArray());
+        return ids;
+    }
+
+    /**
+     * tmdb_id → 저장된 목록 지문
+     */
+    public Map<Long, String> findListFingerprints(Collection<Long> tmdbIds) {
+        return findFingerprints("list_fingerprint", tmdbIds);
+    }
+
+    /**
+     * tmdb_id → 저장된 상세 지문
+     */
+    public Map<Long, String> findDetailFingerprints(Collection<Long> tmdbIds) {
+        return findFingerprints("detail_fingerprint", tmdbIds);
+    }
+
+    /**
+     * 상세 쓰기를 건너뛴 영화의 목록 지문 / popularity / vote_count 만 갱신
+     */
+    public void updateListFields(List<ListFields> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = fields.stream()
+                .map(f -> new Object[]{f.listFingerprint(), f.popularity(), f.voteCount(), f.tmdbId()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE movie SET list_fingerprint = ?, popularity = ?, vote_count = ? "
+                + "WHERE tmdb_id = ?", args);
+    }
+
+    private Map<Long, String> findFingerprints(String column, Collection<Long> tmdbIds) {
+        Map<Long, String> fingerprints = new HashMap<>();
+        if (tmdbIds.isEmpty()) {
+            return fingerprints;
+        }
+        String sql = "SELECT tmdb_id, " + column + " FROM movie WHERE tmdb_id IN (" + placeholders(tmdbIds.size()) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            String fingerprint = rs.getString(column);
+            if (fingerprint != null) {
+                fingerprints.put(rs.getLong("tmdb_id"), fingerprint);
+            }
+        }, tmdbIds.toArray());
+        return fingerprints;
+    }
+
+    /**
+     * movie_id → 현재 저장된 장르 집합
+     */
+    public Map<Long, Set<GenreType>> findGenresByMovieIds(Collection<Long> movieIds) {
+        Map<Long, Set<GenreType>> genres = new HashMap<>();
+        if (movieIds.isEmpty()) {
+            return genres;
+        }
+        String sql = "SELECT movie_id, genre FROM movie_genre WHERE movie_id IN (" + placeholders(movieIds.size()) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            genres.computeIfAbsent(rs.getLong("movie_id"), k -> EnumSet.noneOf(GenreType.class))
+                    .add(GenreType.valueOf(rs.getString("genre")));
+        }, movieIds.toArray());
+        return genres;
+    }
+
+    /**
+     * 장르 매핑 diff 반영: 사라진 장르만 삭제하고 새 장르만 추가
+     */
+    public void applyGenreDiff(Map<Long, Set<GenreType>> target) {
+        Map<Long, Set<GenreType>> current = findGenresByMovieIds(target.keySet());
+
+        List<Object> deleteArgs = new ArrayList<>();
+        List<Object> insertArgs = new ArrayList<>();
+        target.forEach((movieId, wanted) -> {
+            Set<GenreType> existing = current.getOrDefault(movieId, Collections.emptySet());
+            for (GenreType gt : existing) {
+                if (!wanted.contains(gt)) {
+                    deleteArgs.add(movieId);
+                    deleteArgs.add(gt.name());
+                }
+            }
+            for (GenreType gt : wanted) {
+                if (!existing.contains(gt)) {
+                    insertArgs.add(movieId);
+                    insertArgs.add(gt.name());
+                }
+            }
+        });
+
+        if (!deleteArgs.isEmpty()) {
+            String sql = "DELETE FROM movie_genre WHERE (movie_id, genre) IN ("
+                    + String.join(", ", Collections.nCopies(deleteArgs.size() / 2, "(?, ?)")) + ")";
+            jdbcTemplate.update(sql, deleteArgs.toArray());
+        }
+        if (!insertArgs.isEmpty()) {
+            // 같은 영화를 동시에 반영하는 다른 트랜잭션이 먼저 넣었으면 유니크 키로 건너뜀
+            String sql = "INSERT IGNORE INTO movie_genre (movie_id, genre) VALUES "
+                    + String.join(", ", Collections.nCopies(insertArgs.size() / 2, "(?, ?)"));
+            jdbcTemplate.update(sql, insertArgs.toArray());
+        }
+    }
+
+    /**
+     * 크레딧 / OTT 제공처 교체: 대상 영화의 기존 행을 지우고 새 목록을 한 번에 추가
+     * (상세 지문이 바뀐 영화만 들어오므로 diff 없이 통째로 교체)
+     */
+    public void replaceCredits(Map<Long, MovieCreditsDTO> creditsByMovieId) {
+        if (creditsByMovieId.isEmpty()) {
+            return;
+        }
+        String in = placeholders(creditsByMovieId.size());
+        Object[] movieIds = creditsByMovieId.keySet().toArray();
+        jdbcTemplate.update("DELETE FROM movie_credit WHERE movie_id IN (" + in + ")", movieIds);
+        jdbcTemplate.update("DELETE FROM movie_ott_provider WHERE movie_id IN (" + in + ")", movieIds);
+
+        List<Object> creditArgs = new ArrayList<>();
+        List<Object> providerArgs = new ArrayList<>();
+        creditsByMovieId.forEach((movieId, credits) -> {
+            addCredits(creditArgs, movieId, CreditRole.ACTOR, credits.getActors());
+            addCredits(creditArgs, movieId, CreditRole.DIRECTOR, credits.getDirectors());
+            List<String> providers = credits.getOttProviders();
+            for (int i = 0; i < providers.size(); i++) {
+                providerArgs.add(movieId);
+                providerArgs.add(providers.get(i));
+                providerArgs.add(i);
+            }
+        });
+
+        if (!creditArgs.isEmpty()) {
+            String sql = "INSERT INTO movie_credit (movie_id, role, person_name, sort_order) VALUES "
+                    + String.join(", ", Collections.nCopies(creditArgs.size() / 4, "(?, ?, ?, ?)"));
+            jdbcTemplate.update(sql, creditArgs.toArray());
+        }
+        if (!providerArgs.isEmpty()) {
+            String sql = "INSERT INTO movie_ott_provider (movie_id, provider_name, sort_order) VALUES "
+                    + String.join(", ", Collections.nCopies(providerArgs.size() / 3, "(?, ?, ?)"));
+            jdbcTemplate.update(sql, providerArgs.toArray());
+        }
+    }
+
+    private void addCredits(List<Object> args, Long movieId, CreditRole role, List<String> names) {
+        for (int i = 0; i < names.size(); i++) {
+            args.add(movieId);
+            args.add(role.name());
+            args.add(names.get(i));
+            args.add(i);
+        }
+    }
+
+    /**
+     * 아직 JSON 컬럼에 크레딧이 남아 있는 (정규화 이전) 영화 조회
+     * 값: [actors, directors, ott_providers]
+     */
+    public Map<Long, String[]> findLegacyCredits(int limit) {
+        Map<Long, String[]> legacy = new LinkedHashMap<>();
+        String sql = "SELECT movie_id, actors, directors, ott_providers FROM movie "
+                + "WHERE actors IS NOT NULL OR directors IS NOT NULL OR ott_providers IS NOT NULL "
+                + "ORDER BY movie_id LIMIT ?";
+        jdbcTemplate.query(sql, rs -> {
+            legacy.put(rs.getLong("movie_id"), new String[]{
+                    rs.getString("actors"), rs.getString("directors"), rs.getString("ott_providers")});
+        }, limit);
+        return legacy;
+    }
+
+    /**
+     * 정규화 테이블로 옮긴 영화의 JSON 컬럼 비우기
+     */
+    public void clearLegacyCredits(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE movie SET actors = NULL, directors = NULL, ott_providers = NULL "
+                + "WHERE movie_id IN (" + placeholders(movieIds.size()) + ")", movieIds.toArray());
+    }
+
+    /**
+     * 감정 요약이 없는 영화에만 0 / NONE 초기값 생성
+     */
+    public void insertInitialSummaries(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return;
+        }
+        String row = "(?, 0, 0, 0, 0, 0, '" + EmotionType.NONE.name() + "')";
+        String sql = "INSERT IGNORE INTO movie_emotion_summary "
+                + "(movie_id, joy, sadness, fear, anger, disgust, dominant_emotion) VALUES "
+                + String.join(", ", Collections.nCopies(movieIds.size(), row));
+        jdbcTemplate.update(sql, movieIds.toArray());
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
@@ -6,7 +6,10 @@ import com.insidemovie.backend.api.movie.entity.MovieLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +29,8 @@ public interface MovieLikeRepository extends JpaRepository<MovieLike, Long> {
     Page<MovieLike> findByMovie(Member member, Pageable pageable);
     List<MovieLike> findByMember_Id(Long memberId);
     List<MovieLike> findByMovie(Movie movie);
+
+    // 회원별 좋아요한 영화 ID [memberId, movieId] (회원 감정 요약 일괄 재계산용)
+    @Query("SELECT ml.member.id, ml.movie.id FROM MovieLike ml WHERE ml.member.id IN :memberIds")
+    List<Object[]> findMovieIdsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
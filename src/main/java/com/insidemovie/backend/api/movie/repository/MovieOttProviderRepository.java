@@ -0,0 +1,31 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieOttProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MovieOttProviderRepository extends JpaRepository<MovieOttProvider, Long> {
+
+    // 한 페이지 분량의 영화 OTT 제공처를 한 번에 조회
+    List<MovieOttProvider> findByMovie_IdInOrderBySortOrderAsc(Collection<Long> movieIds);
+
+    // OTT 제공처로 영화 조회 (idx_ott_provider 사용)
+    @Query(value = """
+            SELECT m FROM Movie m
+            WHERE m.id IN (SELECT o.movie.id FROM MovieOttProvider o WHERE o.providerName = :provider)
+            ORDER BY m.popularity DESC
+            """,
+           countQuery = """
+            SELECT COUNT(DISTINCT o.movie.id) FROM MovieOttProvider o WHERE o.providerName = :provider
+            """)
+    Page<Movie> findMoviesByProvider(@Param("provider") String provider, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MovieRatingStatsRepository extends JpaRepository<MovieRatingStats, Long> {
+
+    // 누적값 갱신용 행 잠금 (같은 영화의 평점 변경은 순서대로 반영)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MovieRatingStats s WHERE s.movieId = :movieId")
+    Optional<MovieRatingStats> findForUpdate(@Param("movieId") Long movieId);
+
+    // 빈 통계 행 생성 (동시에 처음 만들 때 PK 충돌 없이 한 행만 남도록)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO movie_rating_stats (movie_id, rating_sum, rating_count, histogram) "
+            + "VALUES (:movieId, 0, 0, '')", nativeQuery = true)
+    int insertEmpty(@Param("movieId") Long movieId);
+
+    /**
+     * 리뷰 수와 통계 개수가 다른 영화 ID (통계 행이 없는 영화, 리뷰가 모두 지워졌는데 개수가 남은 영화 포함)
+     */
+    @Query(value = """
+        SELECT r.movie_id
+        FROM review r
+        LEFT JOIN movie_rating_stats s ON s.movie_id = r.movie_id
+        GROUP BY r.movie_id, s.rating_count
+        HAVING s.rating_count IS NULL OR s.rating_count <> COUNT(*)
+        UNION
+        SELECT s.movie_id
+        FROM movie_rating_stats s
+        WHERE s.rating_count > 0
+          AND NOT EXISTS (SELECT 1 FROM review r WHERE r.movie_id = s.movie_id)
+        """, nativeQuery = true)
+    List<Long> findDriftedMovieIds();
+}
@@ -7,14 +7,25 @@ import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     Optional<Movie> findByTmdbMovieId(Long tmdbMovieId);
+    List<Movie> findByTmdbMovieIdIn(Collection<Long> tmdbMovieIds);
+    boolean existsByKoficId(String koficId);
+
+    // 아직 KOBIS 코드가 없는 영화에만 연결 (트랜잭션 밖에서 매칭한 영화라 엔티티 대신 단건 UPDATE)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Movie m SET m.koficId = :koficId WHERE m.id = :movieId AND m.koficId IS NULL")
+    int assignKoficId(@Param("movieId") Long movieId, @Param("koficId") String koficId);
     Page<Movie> findAllByOrderByPopularityDesc(Pageable pageable);
 
     @Query("""
@@ -0,0 +1,22 @@
+package com.insidemovie.backend.api.movie.repository;
+
+import com.insidemovie.backend.api.movie.entity.SyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+public interface SyncWatermarkRepository extends JpaRepository<SyncWatermark, String> {
+
+    // 읽은 값과 같을 때만 전진 (동시 실행 시 한쪽만 성공)
+    @Modifying
+    @Transactional
+    @Query("UPDATE SyncWatermark w SET w.syncedUntil = :next, w.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE w.syncKey = :syncKey AND w.syncedUntil = :expected")
+    int advance(@Param("syncKey") String syncKey,
+                @Param("expected") LocalDate expected,
+                @Param("next") LocalDate next);
+}
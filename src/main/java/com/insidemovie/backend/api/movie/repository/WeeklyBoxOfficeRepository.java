@@ -13,19 +13,19 @@ public interface WeeklyBoxOfficeRepository extends JpaRepository<WeeklyBoxOffice
 
     Optional<WeeklyBoxOfficeEntity> findByMovie_TmdbMovieIdAndYearWeekTime(Long tmdbMovieId, String yearWeekTime);
 
-    @Query(value = """
-        select * 
-        from weekly_box_office
-        where year_week_time = :yearWeek
-        order by cast(movie_rank as unsigned)
-        """, nativeQuery = true)
-    List<WeeklyBoxOfficeEntity> findAllSortedByYearWeek(@Param("yearWeek") String yearWeek);
+    // idx_weekly_yearweek_rank 의 선두 컬럼이라 인덱스 끝만 읽음
+    @Query("select max(w.yearWeekTime) from WeeklyBoxOfficeEntity w")
+    Optional<String> findLatestYearWeek();
 
-    @Query(value = """
-        select * 
-        from weekly_box_office
-        where year_week_time = (select max(year_week_time) from weekly_box_office)
-        order by cast(movie_rank as unsigned)
-        """, nativeQuery = true)
-    List<WeeklyBoxOfficeEntity> findLatestSorted();
+    // 특정 주 순위순 (idx_weekly_yearweek_rank 범위 스캔, filesort 없음)
+    // 영화는 tmdb_id(PK 아님)로 조인해 지연 프록시를 만들 수 없으므로 감정 요약(mappedBy OneToOne)과 함께 fetch join
+    @Query("""
+        select w
+        from WeeklyBoxOfficeEntity w
+        left join fetch w.movie m
+        left join fetch m.emotions
+        where w.yearWeekTime = :yearWeek
+        order by w.movieRank
+        """)
+    List<WeeklyBoxOfficeEntity> findAllSortedByYearWeek(@Param("yearWeek") String yearWeek);
 }
@@ -0,0 +1,25 @@
+package com.insidemovie.backend.api.movie.scheduler;
+
+import com.insidemovie.backend.api.movie.service.MovieChangeSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.change-sync-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MovieChangeSyncScheduler {
+    private final MovieChangeSyncService movieChangeSyncService;
+
+    @Scheduled(cron = "${scheduler.cron.movie_changes}", zone = "${scheduler.zone}")
+    public void syncChanges() {
+        try {
+            movieChangeSyncService.sync();
+        } catch (Exception e) {
+            log.error("[변경 동기화] 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.insidemovie.backend.api.movie.scheduler;
+
+import com.insidemovie.backend.api.movie.service.MovieCreditService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON 컬럼(actors / directors / ott_providers)에 남아 있는 기존 영화의 크레딧을
+ * movie_credit / movie_ott_provider 로 조금씩 옮긴다. 다 옮긴 뒤에는 빈 조회 1회만 수행.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.credit-migration-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MovieCreditMigrationScheduler {
+    private final MovieCreditService movieCreditService;
+
+    @Value("${movie.credit-migration.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${movie.credit-migration.delay-ms:60000}", initialDelay = 30_000)
+    public void migrate() {
+        try {
+            int total = 0;
+            int moved;
+            while ((moved = movieCreditService.migrateLegacyCredits(batchSize)) > 0) {
+                total += moved;
+            }
+            if (total > 0) {
+                log.info("[크레딧 정규화] {}건 이관 완료", total);
+            }
+        } catch (Exception e) {
+            log.error("[크레딧 정규화] 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.insidemovie.backend.api.movie.scheduler;
+
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * movie_emotion_summary 누적값 검증.
+ * emotion 테이블을 영화별로 한 번 집계해 누적값과 어긋난 영화(미초기화 행 포함)만 전체 재집계로 보정한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.emotion-verify-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MovieEmotionSummaryVerifyScheduler {
+    private final MovieEmotionSummaryRepository summaryRepository;
+    private final MovieEmotionSummaryService movieEmotionSummaryService;
+
+    @Value("${movie.emotion-verify.epsilon:0.000001}")
+    private double epsilon;
+
+    @Scheduled(cron = "${scheduler.cron.emotion_verify}", zone = "${scheduler.zone}")
+    public void verify() {
+        try {
+            List<Long> drifted = summaryRepository.findDriftedMovieIds(epsilon);
+            int fixed = 0;
+            for (Long movieId : drifted) {
+                try {
+                    movieEmotionSummaryService.recalcMovieSummary(movieId);
+                    fixed++;
+                } catch (Exception e) {
+                    log.warn("[감정 요약 검증] movieId={} 보정 실패: {}", movieId, e.getMessage());
+                }
+            }
+            if (!drifted.isEmpty()) {
+                log.info("[감정 요약 검증] 불일치 {}건 중 {}건 보정", drifted.size(), fixed);
+            }
+        } catch (Exception e) {
+            log.error("[감정 요약 검증] 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.insidemovie.backend.api.movie.scheduler;
+
+import com.insidemovie.backend.api.movie.repository.MovieRatingStatsRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * movie_rating_stats 백필 / 검증.
+ * 기동 시 한 번(통계 행이 없는 기존 영화 백필)과 매일 cron 으로, 리뷰 수와 통계 개수가 다른 영화만 전체 재집계한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.rating-stats-verify-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MovieRatingStatsVerifyScheduler implements ApplicationRunner {
+    private final MovieRatingStatsRepository ratingStatsRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        verify();
+    }
+
+    @Scheduled(cron = "${scheduler.cron.rating_stats_verify}", zone = "${scheduler.zone}")
+    public void verify() {
+        try {
+            List<Long> drifted = ratingStatsRepository.findDriftedMovieIds();
+            int fixed = 0;
+            for (Long movieId : drifted) {
+                try {
+                    movieRatingStatsService.recalc(movieId);
+                    fixed++;
+                } catch (Exception e) {
+                    log.warn("[평점 통계 검증] movieId={} 보정 실패: {}", movieId, e.getMessage());
+                }
+            }
+            if (!drifted.isEmpty()) {
+                log.info("[평점 통계 검증] 불일치 {}건 중 {}건 보정", drifted.size(), fixed);
+            }
+        } catch (Exception e) {
+            log.error("[평점 통계 검증] 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,43 +1,40 @@
 package com.insidemovie.backend.api.movie.scheduler;
 
-import com.insidemovie.backend.api.movie.service.MovieService;
+import com.insidemovie.backend.api.movie.batch.MovieBatchConfig;
+import com.insidemovie.backend.api.movie.batch.MovieBatchLauncher;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import java.util.List;
+
+/**
+ * 초기 카탈로그 시딩.
+ * 진행 위치는 배치 메타 테이블에 저장되므로, 중간에 서버가 재시작돼도
+ * 다음 실행에서 같은 잡 인스턴스가 마지막 체크포인트부터 이어서 진행된다.
+ * 완료된 뒤에는 실행해도 아무 일도 하지 않는다.
+ */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "movie.seed-enabled", havingValue = "true")
+@RequiredArgsConstructor
 public class MovieSeedScheduler {
-    private final MovieService movieService;
-
-    private static final int MAX_PAGE = 500;
-    private static final List<String> TYPES = List.of("popular","top_rated","now_playing","upcoming");
+    private final MovieBatchLauncher movieBatchLauncher;
+    private final Job movieSeedJob;
 
-    private int currentPage = 250;
-    private int typeIndex=0;
-    public MovieSeedScheduler(MovieService movieService){
-        this.movieService=movieService;
-    }
-    @Scheduled(fixedDelay = 10000)
-    public void seedMovies(){
-        if (typeIndex >= TYPES.size()) {
-            log.info("✅ 모든 페이지 처리 완료");
-            return; // 완료
-        }
-        try {
-            log.info("타입 "+TYPES.get(typeIndex)+"📄 페이지 " + currentPage + " 처리 중...");
-            String type = TYPES.get(typeIndex);
-            movieService.fetchAndSaveMoviesByPage(type, currentPage, true); // true = 초기 시딩용
-            currentPage++;
+    @Value("${movie.batch.seed-id:catalog-v1}")
+    private String seedId;      // 바꾸면 새 시딩 인스턴스로 처음부터 다시 수집
 
-            if (currentPage > MAX_PAGE) {
-                currentPage = 1;
-                typeIndex++;
-            }
-        } catch (Exception e){
-            log.error("❌ 에러: " + e.getMessage());
-        }
+    @Scheduled(initialDelay = 10000, fixedDelay = 3600000)
+    public void seedMovies() {
+        JobParameters params = new JobParametersBuilder()
+                .addString("seedId", seedId)
+                .addString(MovieBatchConfig.SKIP_UNCHANGED_PARAM, "false", false)
+                .toJobParameters();
+        movieBatchLauncher.run(movieSeedJob, params);
     }
 }
@@ -1,49 +1,39 @@
 package com.insidemovie.backend.api.movie.scheduler;
 
 
-import com.insidemovie.backend.api.movie.service.MovieService;
+import com.insidemovie.backend.api.movie.batch.MovieBatchConfig;
+import com.insidemovie.backend.api.movie.batch.MovieBatchLauncher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import java.util.List;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "movie.update-enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class MovieUpdateScheduler {
-    private final MovieService movieService;
+    private final MovieBatchLauncher movieBatchLauncher;
+    private final Job movieRefreshJob;
+
+    @Value("${scheduler.zone}")
+    private String zone;
 
+    // 같은 날 다시 실행되면 실패한 실행을 체크포인트부터 재시작
     @Scheduled(cron = "${scheduler.cron.request_movie}")
     public void updateMovies() {
-        List<String> types = List.of("popular", "now_playing", "upcoming", "top_rated");
-
-        for (String type : types) {
-            int totalPages = movieService.fetchTotalPages(type);
-            if (totalPages <= 0) {
-                log.warn("타입 '{}' totalPages 계산 실패 → 건너뜀", type);
-                continue;
-            }
-            log.info("타입 '{}' totalPages={}", type, totalPages);
-
-            for (int page = 1; page <= totalPages; page++) {
-                log.info("타입 '{}' 페이지 {} 처리 시작", type, page);
-                boolean hasData = movieService.fetchAndSaveMoviesByPage(type, page, false);
-                if (!hasData) {
-                    log.info("타입 '{}' 페이지 {} 이후 데이터 없음 → 조기 종료", type, page);
-                    break;
-                }
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.error("인터럽트됨. 타입 '{}' page {} 중단", type, page);
-                    return;
-                }
-            }
-            log.info("타입 '{}' 처리 완료", type);
-        }
+        JobParameters params = new JobParametersBuilder()
+                .addString("runDate", LocalDate.now(ZoneId.of(zone)).toString())
+                .addString(MovieBatchConfig.SKIP_UNCHANGED_PARAM, "true", false)
+                .toJobParameters();
+        movieBatchLauncher.run(movieRefreshJob, params);
     }
 }
@@ -6,7 +6,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -20,7 +19,6 @@ public class WeeklyBoxOfficeScheduler {
     private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     @Scheduled(cron = "${scheduler.cron.weekly}", zone = "${scheduler.zone}")
-    @Transactional
     public void fetchAndStoreWeeklyBoxOffice() {
         LocalDate lastMonday = LocalDate.now(ZoneId.of("Asia/Seoul")).minusWeeks(1);
         String targetDt = lastMonday.format(FMT);
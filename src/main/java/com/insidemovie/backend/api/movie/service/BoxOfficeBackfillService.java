@@ -0,0 +1,318 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import com.insidemovie.backend.api.movie.client.KobisClient;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeBackfillStatusDTO;
+import com.insidemovie.backend.api.movie.entity.SyncWatermark;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.event.BoxOfficeUpdatedEvent;
+import com.insidemovie.backend.api.movie.repository.BoxOfficeJdbcRepository;
+import com.insidemovie.backend.api.movie.repository.SyncWatermarkRepository;
+import com.insidemovie.backend.common.exception.BaseException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KOBIS 일간 / 주간 박스오피스 과거 데이터 백필.
+ *  - 날짜(주간은 주 단위 월요일)를 window 개씩 묶어 동시에 조회 (KobisRateLimiter 로 전체 호출 속도 제한)
+ *  - window 단위로 multi-row upsert 후, 앞에서부터 연속으로 성공한 날짜까지 워터마크 전진
+ *  - 같은 기간을 다시 실행하면 워터마크 다음 날짜부터 이어서 수행
+ * TMDB 매칭은 하지 않고, kobis_movie_mapping 에 이미 연결된 영화만 tmdb_id 를 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeBackfillService {
+
+    static final String DAILY_SYNC_KEY = "kobis_daily_backfill";
+    static final String WEEKLY_SYNC_KEY = "kobis_weekly_backfill";
+    private static final String WEEK_GB_WEEKLY = "0";   // 주간(월~일)
+
+    private final KobisClient kobisClient;
+    private final BoxOfficeJdbcRepository boxOfficeJdbcRepository;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재(또는 마지막) 실행 상태
+    private final AtomicReference<Progress> current = new AtomicReference<>();
+
+    @Value("${scheduler.zone}")
+    private String zone;
+
+    @Value("${kobis.backfill.concurrency:4}")
+    private int concurrency;
+
+    @Value("${kobis.backfill.window-size:30}")
+    private int windowSize;
+
+    @Value("${kobis.backfill.item-per-page:10}")
+    private int itemPerPage;
+
+    @Value("${kobis.backfill.retry:2}")
+    private int retry;
+
+    @Value("${kobis.backfill.window-timeout:5m}")
+    private Duration windowTimeout;
+
+    /**
+     * 백필 시작 (비동기). restart=true 면 워터마크를 무시하고 from 부터 다시 수행
+     */
+    public BoxOfficeBackfillStatusDTO start(BoxOfficeType type, LocalDate from, LocalDate to, boolean restart) {
+        LocalDate today = LocalDate.now(ZoneId.of(zone));
+        // 일간은 어제까지, 주간은 지난주까지만 집계가 확정됨
+        LocalDate last = type == BoxOfficeType.DAILY ? today.minusDays(1) : today.minusWeeks(1);
+        if (to == null || to.isAfter(last)) {
+            to = last;
+        }
+        if (from == null || unitOf(type, from).isAfter(unitOf(type, to))) {
+            throw new BaseException(
+                ErrorStatus.INVALID_BACKFILL_RANGE.getHttpStatus(),
+                ErrorStatus.INVALID_BACKFILL_RANGE.getMessage()
+            );
+        }
+
+        Progress previous = current.get();
+        if (previous != null && previous.running) {
+            throw new BaseException(
+                ErrorStatus.BOXOFFICE_BACKFILL_ALREADY_RUNNING.getHttpStatus(),
+                ErrorStatus.BOXOFFICE_BACKFILL_ALREADY_RUNNING.getMessage()
+            );
+        }
+
+        LocalDate first = unitOf(type, from);
+        LocalDate end = unitOf(type, to);
+        String syncKey = syncKey(type);
+        LocalDate before = first.minusDays(step(type));
+        LocalDate watermark = syncWatermarkRepository.findById(syncKey)
+            .map(SyncWatermark::getSyncedUntil)
+            .orElse(null);
+        // 같은 기간 안에서 멈춘 워터마크만 이어받고, 그 외에는 시작 직전으로 초기화
+        boolean resume = !restart && watermark != null
+            && !watermark.isBefore(before) && !watermark.isAfter(end);
+        if (!resume) {
+            watermark = before;
+            syncWatermarkRepository.save(SyncWatermark.builder()
+                .syncKey(syncKey)
+                .syncedUntil(watermark)
+                .build());
+        }
+
+        List<LocalDate> units = new ArrayList<>();
+        for (LocalDate d = watermark.plusDays(step(type)); !d.isAfter(end); d = d.plusDays(step(type))) {
+            units.add(d);
+        }
+
+        Progress progress = new Progress(type, from, to, units, watermark);
+        if (!current.compareAndSet(previous, progress)) {
+            throw new BaseException(
+                ErrorStatus.BOXOFFICE_BACKFILL_ALREADY_RUNNING.getHttpStatus(),
+                ErrorStatus.BOXOFFICE_BACKFILL_ALREADY_RUNNING.getMessage()
+            );
+        }
+        log.info("[백필] {} {} ~ {} 시작 (resume={}, 대상 {}개)", type, from, to, resume, units.size());
+
+        Mono.fromRunnable(() -> run(progress))
+            .subscribeOn(Schedulers.boundedElastic())
+            .doFinally(signal -> progress.finish())
+            .subscribe(null, e -> log.error("[백필] {} 실패: {}", type, e.getMessage(), e));
+        return progress.toDto();
+    }
+
+    /**
+     * 현재(또는 마지막) 실행 상태 (실행 이력이 없으면 null)
+     */
+    public BoxOfficeBackfillStatusDTO status() {
+        Progress progress = current.get();
+        return progress != null ? progress.toDto() : null;
+    }
+
+    private void run(Progress progress) {
+        BoxOfficeType type = progress.type;
+        String syncKey = syncKey(type);
+        List<LocalDate> units = progress.units;
+
+        for (int i = 0; i < units.size(); i += windowSize) {
+            List<LocalDate> window = units.subList(i, Math.min(i + windowSize, units.size()));
+
+            // 1) window 안의 날짜를 동시에 조회 (재시도 후에도 실패한 날짜는 결과에 없음)
+            Map<LocalDate, List<?>> fetched = Flux.fromIterable(window)
+                .flatMap(date -> fetch(type, date)
+                        .map(rows -> Map.entry(date, rows))
+                        .onErrorResume(ex -> {
+                            log.warn("[백필] {} {} 조회 실패 : {}", type, date, ex.getMessage());
+                            return Mono.empty();
+                        }),
+                    concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block(windowTimeout);
+
+            // 2) 성공한 날짜만 upsert (멱등이라 재실행 시 다시 써도 무방)
+            progress.savedRows += store(type, window, fetched);
+
+            // 3) 앞에서부터 연속 성공한 날짜까지만 워터마크 전진
+            LocalDate completed = progress.completedUntil;
+            boolean contiguous = true;
+            for (LocalDate date : window) {
+                if (!fetched.containsKey(date)) {
+                    progress.failedDates.add(date);
+                    contiguous = false;
+                } else if (contiguous) {
+                    completed = date;
+                }
+            }
+            progress.processedDays += window.size();
+            if (completed.isAfter(progress.completedUntil)) {
+                if (syncWatermarkRepository.advance(syncKey, progress.completedUntil, completed) == 0) {
+                    log.warn("[백필] {} 다른 실행이 워터마크를 먼저 옮김 → 중단", type);
+                    return;
+                }
+                progress.completedUntil = completed;
+            }
+            log.info("[백필] {} {} ~ {} 완료 (누적 {}/{}개, {}행, {} days/s)", type, window.get(0),
+                    window.get(window.size() - 1), progress.processedDays, units.size(), progress.savedRows,
+                    String.format("%.2f", progress.daysPerSecond()));
+
+            if (!progress.failedDates.isEmpty()) {
+                // 실패 지점 이후는 다음 실행에서 워터마크부터 다시 수행
+                log.warn("[백필] {} {} 실패 → {} 까지 반영 후 중단", type, progress.failedDates, progress.completedUntil);
+                return;
+            }
+        }
+    }
+
+    private Mono<List<?>> fetch(BoxOfficeType type, LocalDate date) {
+        Mono<JsonNode> call = type == BoxOfficeType.DAILY
+            ? kobisClient.fetchDailyBoxOffice(date, itemPerPage)
+            : kobisClient.fetchWeeklyBoxOffice(date, WEEK_GB_WEEKLY, itemPerPage);
+        return call
+            // 오류 응답(faultInfo)은 목록 노드가 없으므로 빈 날짜로 저장되지 않게 실패 처리
+            .filter(node -> !node.isMissingNode())
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException("KOBIS 응답에 박스오피스 목록이 없습니다.")))
+            .retryWhen(Retry.backoff(retry, Duration.ofSeconds(1)))
+            .<List<?>>map(node -> type == BoxOfficeType.DAILY
+                ? KobisBoxOfficeMapper.toDaily(node, date, itemPerPage)
+                : KobisBoxOfficeMapper.toWeekly(node, KobisBoxOfficeMapper.yearWeek(date), itemPerPage));
+    }
+
+    @SuppressWarnings("unchecked")
+    private int store(BoxOfficeType type, List<LocalDate> window, Map<LocalDate, List<?>> fetched) {
+        if (type == BoxOfficeType.DAILY) {
+            List<DailyBoxOfficeEntity> rows = new ArrayList<>();
+            window.stream().filter(fetched::containsKey)
+                .forEach(date -> rows.addAll((List<DailyBoxOfficeEntity>) fetched.get(date)));
+            Set<String> movieCds = new HashSet<>();
+            rows.forEach(r -> movieCds.add(r.getMovieCd()));
+            boxOfficeJdbcRepository.upsertDaily(rows, boxOfficeJdbcRepository.findLinkedTmdbIds(movieCds));
+            boxOfficeJdbcRepository.refreshRollups(fetched.keySet(), movieCds);
+            return rows.size();
+        }
+        List<WeeklyBoxOfficeEntity> rows = new ArrayList<>();
+        window.stream().filter(fetched::containsKey)
+            .forEach(date -> rows.addAll((List<WeeklyBoxOfficeEntity>) fetched.get(date)));
+        Set<String> movieCds = new HashSet<>();
+        rows.forEach(r -> movieCds.add(r.getMovieCd()));
+        boxOfficeJdbcRepository.upsertWeekly(rows, boxOfficeJdbcRepository.findLinkedTmdbIds(movieCds));
+        return rows.size();
+    }
+
+    private static String syncKey(BoxOfficeType type) {
+        return type == BoxOfficeType.DAILY ? DAILY_SYNC_KEY : WEEKLY_SYNC_KEY;
+    }
+
+    private static int step(BoxOfficeType type) {
+        return type == BoxOfficeType.DAILY ? 1 : 7;
+    }
+
+    // 주간은 ISO 주의 월요일을 대표 날짜로 사용
+    private static LocalDate unitOf(BoxOfficeType type, LocalDate date) {
+        if (date == null || type == BoxOfficeType.DAILY) {
+            return date;
+        }
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    /**
+     * 실행 중 상태 (실행 스레드만 갱신, 조회는 스냅샷)
+     */
+    private class Progress {
+        final BoxOfficeType type;
+        final LocalDate from;
+        final LocalDate to;
+        final List<LocalDate> units;
+        final LocalDate resumedFrom;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final long startedNanos = System.nanoTime();
+        final List<LocalDate> failedDates = Collections.synchronizedList(new ArrayList<>());
+
+        volatile LocalDate completedUntil;
+        volatile int processedDays;
+        volatile long savedRows;
+        volatile boolean running = true;
+        volatile long finishedNanos;
+
+        Progress(BoxOfficeType type, LocalDate from, LocalDate to, List<LocalDate> units, LocalDate watermark) {
+            this.type = type;
+            this.from = from;
+            this.to = to;
+            this.units = units;
+            this.resumedFrom = units.isEmpty() ? null : units.get(0);
+            this.completedUntil = watermark;
+        }
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            running = false;
+            log.info("[백필] {} 종료: {}일 / {}행 / {}s ({} days/s), 완료 위치={}", type, processedDays, savedRows,
+                    String.format("%.1f", elapsedSeconds()), String.format("%.2f", daysPerSecond()), completedUntil);
+            if (savedRows > 0) {
+                eventPublisher.publishEvent(new BoxOfficeUpdatedEvent(type));
+            }
+        }
+
+        double elapsedSeconds() {
+            long end = running ? System.nanoTime() : finishedNanos;
+            return (end - startedNanos) / 1_000_000_000.0;
+        }
+
+        double daysPerSecond() {
+            double elapsed = elapsedSeconds();
+            return elapsed > 0 ? processedDays / elapsed : 0.0;
+        }
+
+        BoxOfficeBackfillStatusDTO toDto() {
+            return BoxOfficeBackfillStatusDTO.builder()
+                .type(type)
+                .from(from)
+                .to(to)
+                .resumedFrom(resumedFrom)
+                .completedUntil(completedUntil)
+                .totalDays(units.size())
+                .processedDays(processedDays)
+                .savedRows(savedRows)
+                .failedDates(List.copyOf(failedDates))
+                .running(running)
+                .startedAt(startedAt)
+                .elapsedSeconds(elapsedSeconds())
+                .daysPerSecond(daysPerSecond())
+                .build();
+        }
+    }
+}
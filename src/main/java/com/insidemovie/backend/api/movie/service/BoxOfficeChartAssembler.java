@@ -0,0 +1,188 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRatingStatsRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import com.insidemovie.backend.common.exception.BaseException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 박스오피스 행 + 영화 메타 + 평점 평균 + 대표 감정을 합친 차트 스냅샷 생성.
+ * 영화(+ 감정 요약)는 박스오피스 행 조회에 fetch join 으로 함께 로딩하고,
+ * 평점 통계 / 감정은 차트 전체에 대해 각각 한 번씩만 조회한다 (행 수와 무관하게 쿼리 3회).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeChartAssembler {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final WeeklyBoxOfficeRepository weeklyRepo;
+    private final BoxOfficeLatestPointer latestPointer;
+    private final MovieRatingStatsRepository movieRatingStatsRepository;
+    private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
+
+    /**
+     * 차트에 붙는 영화별 집계 값
+     */
+    public record ChartStats(Double ratingAvg, EmotionType mainEmotion, Double mainEmotionValue) {
+        static final ChartStats EMPTY = new ChartStats(0.0, EmotionType.NONE, 0.0);
+    }
+
+    /**
+     * 일간 차트 (요청일 데이터가 없으면 최신 날짜로 대체)
+     */
+    @Transactional
+    public BoxOfficeListDTO<DailyBoxOfficeResponseDTO> buildDaily(LocalDate requestDate) {
+        String resolvedTargetDt = requestDate.format(FMT);
+        List<DailyBoxOfficeEntity> rows = dailyRepo.findAllSortedByTargetDate(requestDate);
+
+        if (rows.isEmpty()) {
+            List<DailyBoxOfficeEntity> latestRows = latestPointer.latestDailyRows();
+            if (!latestRows.isEmpty()) {
+                LocalDate latestDate = latestRows.get(0).getTargetDate();
+                log.warn("[Daily][Fallback] 요청일 {} 데이터 없음 → 최신 {} 로 대체", requestDate, latestDate);
+                rows = latestRows;
+                resolvedTargetDt = latestDate.format(FMT);
+            }
+        }
+        if (rows.isEmpty()) {
+            throw new BaseException(
+                ErrorStatus.NOT_FOUND_DAILY_BOXOFFICE.getHttpStatus(),
+                ErrorStatus.NOT_FOUND_DAILY_BOXOFFICE.getMessage()
+            );
+        }
+
+        Map<Long, ChartStats> stats = loadStats(movieIds(rows, DailyBoxOfficeEntity::getMovie));
+        List<DailyBoxOfficeResponseDTO> items = rows.stream()
+            .map(e -> {
+                Movie movie = e.getMovie();
+                ChartStats s = movie != null ? stats.getOrDefault(movie.getId(), ChartStats.EMPTY) : ChartStats.EMPTY;
+                return DailyBoxOfficeResponseDTO.fromEntity(
+                    e,
+                    movie != null ? movie.getTitle() : e.getMovieName(),
+                    movie != null ? movie.getPosterPath() : null,
+                    movie != null ? movie.getVoteAverage() : 0.0,
+                    s.ratingAvg(),
+                    s.mainEmotion(),
+                    s.mainEmotionValue()
+                );
+            })
+            .toList();
+
+        return BoxOfficeListDTO.<DailyBoxOfficeResponseDTO>builder()
+            .boxofficeType("일별")
+            .targetDt(resolvedTargetDt)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * 주간 차트 (yearWeek 가 없거나 데이터가 없으면 최신 주로 대체)
+     */
+    @Transactional
+    public BoxOfficeListDTO<WeeklyBoxOfficeResponseDTO> buildWeekly(String yearWeek) {
+        List<WeeklyBoxOfficeEntity> rows =
+            (yearWeek != null) ? weeklyRepo.findAllSortedByYearWeek(yearWeek) : List.of();
+
+        if (rows.isEmpty()) {
+            rows = latestPointer.latestWeeklyRows();
+            if (rows.isEmpty()) {
+                throw new BaseException(
+                    ErrorStatus.NOT_FOUND_WEEKLY_BOXOFFICE.getHttpStatus(),
+                    ErrorStatus.NOT_FOUND_WEEKLY_BOXOFFICE.getMessage()
+                );
+            }
+            yearWeek = rows.get(0).getYearWeekTime();
+            log.warn("[Weekly][Fallback] 요청된 targetDt 데이터 없음 → 최신 yearWeek={} 사용", yearWeek);
+        }
+
+        Map<Long, ChartStats> stats = loadStats(movieIds(rows, WeeklyBoxOfficeEntity::getMovie));
+        List<WeeklyBoxOfficeResponseDTO> items = rows.stream()
+            .map(e -> {
+                Movie movie = e.getMovie();
+                ChartStats s = movie != null ? stats.getOrDefault(movie.getId(), ChartStats.EMPTY) : ChartStats.EMPTY;
+                return WeeklyBoxOfficeResponseDTO.fromEntity(
+                    e,
+                    movie != null ? movie.getTitle() : e.getMovieNm(),
+                    movie != null ? movie.getPosterPath() : null,
+                    movie != null ? movie.getVoteAverage() : 0.0,
+                    s.ratingAvg(),
+                    s.mainEmotion(),
+                    s.mainEmotionValue()
+                );
+            })
+            .toList();
+
+        return BoxOfficeListDTO.<WeeklyBoxOfficeResponseDTO>builder()
+            .boxofficeType("주간")
+            .targetDt(yearWeek)
+            .items(items)
+            .build();
+    }
+
+    /**
+     * movie_id → 평점 평균(소수 둘째 자리) + 대표 감정 / 수치
+     */
+    @Transactional
+    public Map<Long, ChartStats> loadStats(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Double> ratings = movieRatingStatsRepository.findAllById(movieIds).stream()
+            .collect(Collectors.toMap(MovieRatingStats::getMovieId, s -> s.average().doubleValue()));
+        Map<Long, MovieEmotionSummary> summaries = movieEmotionSummaryRepository.findAllById(movieIds).stream()
+            .collect(Collectors.toMap(MovieEmotionSummary::getMovieId, s -> s));
+
+        Map<Long, ChartStats> stats = new HashMap<>();
+        for (Long movieId : movieIds) {
+            double ratingAvg = ratings.getOrDefault(movieId, 0.0);
+
+            MovieEmotionSummary summary = summaries.get(movieId);
+            EmotionType mainEmotion = summary != null && summary.getDominantEmotion() != null
+                ? summary.getDominantEmotion()
+                : EmotionType.NONE;
+            double mainValue = switch (mainEmotion) {
+                case JOY     -> summary.getJoy();
+                case SADNESS -> summary.getSadness();
+                case ANGER   -> summary.getAnger();
+                case FEAR    -> summary.getFear();
+                case DISGUST -> summary.getDisgust();
+                default      -> 0.0;
+            };
+            stats.put(movieId, new ChartStats(ratingAvg, mainEmotion, mainValue));
+        }
+        return stats;
+    }
+
+    private <E> Set<Long> movieIds(List<E> rows, Function<E, Movie> movieOf) {
+        // 영화는 행 조회 시 fetch join 으로 이미 로딩됨
+        return rows.stream()
+            .map(movieOf)
+            .filter(Objects::nonNull)
+            .map(Movie::getId)
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,229 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeChartItem;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeListDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.DailyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.WeeklyBoxOfficeResponseDTO;
+import com.insidemovie.backend.api.movie.event.BoxOfficeUpdatedEvent;
+import com.insidemovie.backend.api.movie.event.MovieStatsChangedEvent;
+import com.insidemovie.backend.api.movie.service.BoxOfficeChartAssembler.ChartStats;
+import com.insidemovie.backend.common.util.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 박스오피스 차트 스냅샷 메모리 캐시.
+ * 조회 요청은 캐시에서 바로 응답하고(DB 조회 없음), 스냅샷은 다음 시점에만 다시 만든다.
+ *  - 박스오피스 수집 커밋 후: 해당 타입 스냅샷 전체 폐기
+ *  - 리뷰로 평점 / 감정이 바뀐 후: 그 영화가 포함된 스냅샷의 해당 항목만 교체
+ *  - ttl 경과 후: 다른 인스턴스에서 일어난 변경을 반영하기 위한 안전장치
+ * 스냅샷은 실제 차트 날짜(대체 차트면 대체된 날짜 / 주) 기준으로 보관하고, 요청 키가 다르면 별칭만 남긴다.
+ * 스냅샷 / 별칭은 각각 max-entries 개까지만 LRU 로 보관하며, 새로 저장할 때 만료된 항목을 함께 정리한다.
+ * 생성(DB 조회)은 잠금 밖에서 하고, 같은 요청 키의 동시 생성은 SingleFlight 로 한 번만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeChartCache {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String LATEST = "latest";
+
+    private final BoxOfficeChartAssembler assembler;
+    private final SingleFlight<String, BoxOfficeListDTO<?>> loads = new SingleFlight<>();
+
+    // 차트 키(타입:실제 날짜) → 스냅샷, 요청 키 → 차트 키 (대체 차트일 때만). 둘 다 snapshots 잠금으로 보호
+    private final Map<String, Snapshot<?>> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot<?>> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    private final Map<String, String> aliases = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    // 타입별 폐기 횟수 (폐기 전에 시작된 생성 결과는 저장하지 않음)
+    private final Map<BoxOfficeType, Long> generations = new EnumMap<>(BoxOfficeType.class);
+
+    @Value("${boxoffice.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${boxoffice.cache.max-entries:64}")
+    private int maxEntries;
+
+    private record Snapshot<T extends BoxOfficeChartItem<T>>(BoxOfficeType type, BoxOfficeListDTO<T> chart,
+                                                             long builtAtNanos) {
+        boolean contains(Long movieId) {
+            return chart.getItems().stream().anyMatch(item -> movieId.equals(item.getMovieId()));
+        }
+    }
+
+    /**
+     * 일간 차트 (요청일 기준 스냅샷)
+     */
+    public BoxOfficeListDTO<DailyBoxOfficeResponseDTO> daily(LocalDate requestDate) {
+        return get(BoxOfficeType.DAILY, requestDate.format(FMT), () -> assembler.buildDaily(requestDate));
+    }
+
+    /**
+     * 주간 차트 (yearWeek 가 null 이면 최신 주)
+     */
+    public BoxOfficeListDTO<WeeklyBoxOfficeResponseDTO> weekly(String yearWeek) {
+        return get(BoxOfficeType.WEEKLY, yearWeek != null ? yearWeek : LATEST, () -> assembler.buildWeekly(yearWeek));
+    }
+
+    /**
+     * 스냅샷 조회 (없거나 만료되었으면 loader 로 생성, 같은 요청 키의 동시 생성은 한 번만 수행)
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends BoxOfficeChartItem<T>> BoxOfficeListDTO<T> get(
+            BoxOfficeType type, String key, Supplier<BoxOfficeListDTO<T>> loader) {
+        String requestKey = type + ":" + key;
+        BoxOfficeListDTO<T> cached = (BoxOfficeListDTO<T>) lookup(requestKey);
+        if (cached != null) {
+            return cached;
+        }
+        return (BoxOfficeListDTO<T>) loads.execute(requestKey, () -> {
+            // 먼저 끝난 생성이 방금 채웠을 수 있음
+            BoxOfficeListDTO<?> again = lookup(requestKey);
+            if (again != null) {
+                return again;
+            }
+            long generation = generation(type);
+            BoxOfficeListDTO<T> chart = loader.get();
+            store(type, requestKey, chart, generation);
+            return chart;
+        });
+    }
+
+    private BoxOfficeListDTO<?> lookup(String requestKey) {
+        synchronized (snapshots) {
+            String chartKey = aliases.getOrDefault(requestKey, requestKey);
+            Snapshot<?> cached = snapshots.get(chartKey);
+            if (cached == null) {
+                return null;
+            }
+            if (isExpired(cached)) {
+                snapshots.remove(chartKey);
+                aliases.remove(requestKey);
+                return null;
+            }
+            return cached.chart();
+        }
+    }
+
+    private <T extends BoxOfficeChartItem<T>> void store(BoxOfficeType type, String requestKey,
+                                                         BoxOfficeListDTO<T> chart, long generation) {
+        String chartKey = type + ":" + chart.getTargetDt();
+        synchronized (snapshots) {
+            if (generation != generation(type)) {
+                return;   // 생성 중에 새 박스오피스가 저장됨 → 다음 조회에서 다시 생성
+            }
+            snapshots.values().removeIf(this::isExpired);
+            snapshots.put(chartKey, new Snapshot<>(type, chart, System.nanoTime()));
+            if (chartKey.equals(requestKey)) {
+                aliases.remove(requestKey);
+            } else {
+                aliases.put(requestKey, chartKey);
+            }
+            aliases.values().removeIf(k -> !snapshots.containsKey(k));
+        }
+    }
+
+    private long generation(BoxOfficeType type) {
+        synchronized (snapshots) {
+            return generations.getOrDefault(type, 0L);
+        }
+    }
+
+    public void evict(BoxOfficeType type) {
+        synchronized (snapshots) {
+            snapshots.values().removeIf(s -> s.type() == type);
+            aliases.values().removeIf(k -> k.startsWith(type + ":"));
+            generations.merge(type, 1L, Long::sum);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoxOfficeUpdated(BoxOfficeUpdatedEvent event) {
+        evict(event.type());
+        // 가장 많이 조회되는 기본 차트(어제 / 최신 주)는 바로 다시 만들어 둠
+        try {
+            if (event.type() == BoxOfficeType.DAILY) {
+                daily(LocalDate.now().minusDays(1));
+            } else {
+                weekly(null);
+            }
+            log.info("[BoxOffice 캐시] {} 스냅샷 재생성 완료", event.type());
+        } catch (Exception e) {
+            log.warn("[BoxOffice 캐시] {} 스냅샷 재생성 실패 : {}", event.type(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMovieStatsChanged(MovieStatsChangedEvent event) {
+        Long movieId = event.movieId();
+        List<String> affected;
+        synchronized (snapshots) {
+            affected = snapshots.entrySet().stream()
+                    .filter(e -> e.getValue().contains(movieId))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+        try {
+            ChartStats stats = assembler.loadStats(List.of(movieId)).get(movieId);
+            synchronized (snapshots) {
+                for (String key : affected) {
+                    snapshots.computeIfPresent(key, (k, snapshot) -> withStats(snapshot, movieId, stats));
+                }
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 다음 조회에서 새로 만들도록 폐기
+            log.warn("[BoxOffice 캐시] movieId={} 항목 갱신 실패 → 스냅샷 폐기 : {}", movieId, e.getMessage());
+            synchronized (snapshots) {
+                affected.forEach(snapshots::remove);
+            }
+        }
+    }
+
+    private <T extends BoxOfficeChartItem<T>> Snapshot<T> withStats(Snapshot<T> snapshot, Long movieId, ChartStats stats) {
+        BoxOfficeListDTO<T> chart = snapshot.chart();
+        List<T> items = chart.getItems().stream()
+                .map(item -> Objects.equals(movieId, item.getMovieId())
+                        ? item.withStats(stats.ratingAvg(), stats.mainEmotion(), stats.mainEmotionValue())
+                        : item)
+                .toList();
+        BoxOfficeListDTO<T> updated = BoxOfficeListDTO.<T>builder()
+                .boxofficeType(chart.getBoxofficeType())
+                .targetDt(chart.getTargetDt())
+                .items(items)
+                .ratingAvg(chart.getRatingAvg())
+                .build();
+        return new Snapshot<>(snapshot.type(), updated, snapshot.builtAtNanos());
+    }
+
+    private boolean isExpired(Snapshot<?> snapshot) {
+        return System.nanoTime() - snapshot.builtAtNanos() > ttl.toNanos();
+    }
+}
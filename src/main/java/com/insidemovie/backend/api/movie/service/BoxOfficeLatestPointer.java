@@ -0,0 +1,94 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.event.BoxOfficeUpdatedEvent;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 가장 최근에 저장된 박스오피스 날짜 / 주 포인터.
+ * 최신 차트 조회마다 max() 서브쿼리를 돌리지 않도록 값을 들고 있다가,
+ * 수집 커밋 후(BoxOfficeUpdatedEvent) 또는 ttl 경과 후에만 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeLatestPointer {
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final WeeklyBoxOfficeRepository weeklyRepo;
+
+    private volatile Pointer<LocalDate> daily;
+    private volatile Pointer<String> weekly;
+
+    @Value("${boxoffice.cache.ttl:10m}")
+    private Duration ttl;
+
+    private record Pointer<T>(Optional<T> value, long loadedAtNanos) {
+    }
+
+    public Optional<LocalDate> latestDate() {
+        Pointer<LocalDate> p = daily;
+        if (p == null || isExpired(p.loadedAtNanos())) {
+            p = load(dailyRepo::findLatestTargetDate);
+            daily = p;
+        }
+        return p.value();
+    }
+
+    public Optional<String> latestYearWeek() {
+        Pointer<String> p = weekly;
+        if (p == null || isExpired(p.loadedAtNanos())) {
+            p = load(weeklyRepo::findLatestYearWeek);
+            weekly = p;
+        }
+        return p.value();
+    }
+
+    /**
+     * 최신 날짜의 일간 박스오피스 (순위순, 데이터가 없으면 빈 목록)
+     */
+    public List<DailyBoxOfficeEntity> latestDailyRows() {
+        return latestDate().map(dailyRepo::findAllSortedByTargetDate).orElse(List.of());
+    }
+
+    /**
+     * 최신 주의 주간 박스오피스 (순위순, 데이터가 없으면 빈 목록)
+     */
+    public List<WeeklyBoxOfficeEntity> latestWeeklyRows() {
+        return latestYearWeek().map(weeklyRepo::findAllSortedByYearWeek).orElse(List.of());
+    }
+
+    // 차트 캐시 재생성보다 먼저 포인터를 비워야 새 날짜 기준으로 만들어짐
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoxOfficeUpdated(BoxOfficeUpdatedEvent event) {
+        if (event.type() == BoxOfficeType.DAILY) {
+            daily = null;
+        } else {
+            weekly = null;
+        }
+    }
+
+    private <T> Pointer<T> load(Supplier<Optional<T>> loader) {
+        return new Pointer<>(loader.get(), System.nanoTime());
+    }
+
+    private boolean isExpired(long loadedAtNanos) {
+        return System.nanoTime() - loadedAtNanos > ttl.toNanos();
+    }
+}
@@ -0,0 +1,132 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeGranularity;
+import com.insidemovie.backend.api.constant.KobisMappingStatus;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTrendDTO;
+import com.insidemovie.backend.api.movie.dto.boxoffice.BoxOfficeTrendPointDTO;
+import com.insidemovie.backend.api.movie.entity.KobisMovieMapping;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.BoxOfficeRollupRepository;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.KobisMovieMappingRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 영화별 박스오피스 추이 (일별: daily_box_office / 주·월별: box_office_rollup).
+ * 어느 쪽이든 (movie_cd, 기간) 인덱스 범위 조회 한 번으로 개봉 기간 전체를 가져온다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoxOfficeTrendService {
+
+    private final MovieRepository movieRepository;
+    private final KobisMovieMappingRepository kobisMovieMappingRepository;
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final BoxOfficeRollupRepository rollupRepository;
+
+    @Transactional(readOnly = true)
+    public BoxOfficeTrendDTO getTrend(Long movieId, BoxOfficeGranularity granularity, LocalDate from, LocalDate to) {
+        Movie movie = movieRepository.findById(movieId)
+            .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : LocalDate.EPOCH;   // 기본: 전체 상영 기간
+
+        Set<String> movieCds = findMovieCds(movie);
+        List<BoxOfficeTrendPointDTO> points = movieCds.isEmpty()
+            ? List.of()
+            : merge(loadPoints(movieCds, granularity, start, end));
+
+        return BoxOfficeTrendDTO.builder()
+            .movieId(movie.getId())
+            .title(movie.getTitle())
+            .granularity(granularity)
+            .points(points)
+            .build();
+    }
+
+    // 영화에 연결된 KOBIS 영화코드 (재개봉 등으로 코드가 여러 개일 수 있음)
+    private Set<String> findMovieCds(Movie movie) {
+        Set<String> movieCds = new LinkedHashSet<>();
+        if (movie.getKoficId() != null) {
+            movieCds.add(movie.getKoficId());
+        }
+        if (movie.getTmdbMovieId() != null) {
+            kobisMovieMappingRepository.findByTmdbIdAndStatus(movie.getTmdbMovieId(), KobisMappingStatus.RESOLVED)
+                .stream()
+                .map(KobisMovieMapping::getMovieCd)
+                .forEach(movieCds::add);
+        }
+        return movieCds;
+    }
+
+    private List<BoxOfficeTrendPointDTO> loadPoints(
+            Set<String> movieCds, BoxOfficeGranularity granularity, LocalDate start, LocalDate end) {
+        if (granularity == BoxOfficeGranularity.DAILY) {
+            return dailyRepo.findByMovieCdInAndTargetDateBetweenOrderByTargetDateAsc(movieCds, start, end).stream()
+                .map(d -> BoxOfficeTrendPointDTO.builder()
+                    .periodStart(d.getTargetDate())
+                    .periodEnd(d.getTargetDate())
+                    .rank(d.getMovieRank())
+                    .audiCnt(d.getAudiCnt())
+                    .audiAcc(d.getAudiAcc())
+                    .salesAmt(d.getSalesAmt())
+                    .salesAcc(d.getSalesAcc())
+                    .scrnCnt(d.getScrnCnt())
+                    .daysOnChart(1)
+                    .build())
+                .toList();
+        }
+        return rollupRepository
+            .findOverlapping(movieCds, granularity, start, end)
+            .stream()
+            .map(r -> BoxOfficeTrendPointDTO.builder()
+                .periodStart(r.getPeriodStart())
+                .periodEnd(r.getPeriodEnd())
+                .rank(r.getBestRank())
+                .audiCnt(r.getAudiCnt())
+                .audiAcc(r.getAudiAcc())
+                .salesAmt(r.getSalesAmt())
+                .salesAcc(r.getSalesAcc())
+                .scrnCnt(r.getMaxScrnCnt())
+                .daysOnChart(r.getDaysOnChart())
+                .build())
+            .toList();
+    }
+
+    // 영화코드가 여러 개면 같은 기간끼리 합침 (코드가 하나면 그대로)
+    private List<BoxOfficeTrendPointDTO> merge(List<BoxOfficeTrendPointDTO> points) {
+        Map<LocalDate, BoxOfficeTrendPointDTO> byPeriod = new TreeMap<>();
+        for (BoxOfficeTrendPointDTO p : points) {
+            byPeriod.merge(p.getPeriodStart(), p, (a, b) -> a.toBuilder()
+                .rank(min(a.getRank(), b.getRank()))
+                .audiCnt(sum(a.getAudiCnt(), b.getAudiCnt()))
+                .audiAcc(sum(a.getAudiAcc(), b.getAudiAcc()))
+                .salesAmt(sum(a.getSalesAmt(), b.getSalesAmt()))
+                .salesAcc(sum(a.getSalesAcc(), b.getSalesAcc()))
+                .scrnCnt(sum(a.getScrnCnt(), b.getScrnCnt()))
+                .daysOnChart(Math.max(a.getDaysOnChart(), b.getDaysOnChart()))
+                .build());
+        }
+        return List.copyOf(byPeriod.values());
+    }
+
+    private static Integer min(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Long sum(Long a, Long b) {
+        return a == null ? b : b == null ? a : a + b;
+    }
+
+    private static Integer sum(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : a + b;
+    }
+}
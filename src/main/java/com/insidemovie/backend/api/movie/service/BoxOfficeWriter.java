@@ -0,0 +1,76 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.BoxOfficeType;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.event.BoxOfficeUpdatedEvent;
+import com.insidemovie.backend.api.movie.repository.BoxOfficeJdbcRepository;
+import com.insidemovie.backend.api.movie.repository.DailyBoxOfficeRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.repository.WeeklyBoxOfficeRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 조회 / 매칭이 끝난 박스오피스 목록 저장 (외부 호출 없이 DB 작업만 한 트랜잭션으로).
+ * KOBIS / TMDB 호출은 BoxOfficeService 가 트랜잭션 밖에서 끝낸 뒤 넘겨준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeWriter {
+
+    private final DailyBoxOfficeRepository dailyRepo;
+    private final WeeklyBoxOfficeRepository weeklyRepo;
+    private final MovieRepository movieRepo;
+    private final BoxOfficeJdbcRepository boxOfficeJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void storeDaily(LocalDate date, List<DailyBoxOfficeEntity> fetched, Map<String, Movie> movies) {
+        for (DailyBoxOfficeEntity incoming : fetched) {
+            // (movieCd, targetDate) 로 기존 검색
+            DailyBoxOfficeEntity entity = dailyRepo
+                    .findByTargetDateAndMovieCd(date, incoming.getMovieCd())
+                    .map(existing -> { existing.updateFrom(incoming); return existing; })
+                    .orElse(incoming); // 새 엔티티
+
+            Optional.ofNullable(movies.get(incoming.getMovieCd()))
+                    .map(movie -> movieRepo.getReferenceById(movie.getId()))
+                    .ifPresent(entity::setMovie);
+            dailyRepo.save(entity);
+        }
+
+        // 이 날짜가 속한 주 / 월 집계 갱신 (JDBC 집계가 방금 저장한 값을 읽도록 먼저 flush)
+        dailyRepo.flush();
+        boxOfficeJdbcRepository.refreshRollups(List.of(date),
+                fetched.stream().map(DailyBoxOfficeEntity::getMovieCd).toList());
+
+        eventPublisher.publishEvent(new BoxOfficeUpdatedEvent(BoxOfficeType.DAILY));
+    }
+
+    @Transactional
+    public void storeWeekly(String yearWeek, List<WeeklyBoxOfficeEntity> fetched, Map<String, Movie> movies) {
+        for (WeeklyBoxOfficeEntity incoming : fetched) {
+            WeeklyBoxOfficeEntity entity = weeklyRepo
+                    .findByYearWeekTimeAndMovieCd(yearWeek, incoming.getMovieCd())
+                    .map(existing -> { existing.updateFrom(incoming); return existing; })
+                    .orElse(incoming);
+
+            Optional.ofNullable(movies.get(incoming.getMovieCd()))
+                    .map(movie -> movieRepo.getReferenceById(movie.getId()))
+                    .ifPresent(entity::setMovie);
+            weeklyRepo.save(entity);
+        }
+        eventPublisher.publishEvent(new BoxOfficeUpdatedEvent(BoxOfficeType.WEEKLY));
+    }
+}
@@ -0,0 +1,112 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.insidemovie.backend.api.movie.entity.boxoffice.DailyBoxOfficeEntity;
+import com.insidemovie.backend.api.movie.entity.boxoffice.WeeklyBoxOfficeEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+/**
+ * KOBIS 박스오피스 목록(JsonNode) → 엔티티 변환.
+ * 스케줄러 수집과 과거 데이터 백필이 같은 변환을 사용한다.
+ * 숫자 항목은 문자열로 오므로 여기서 변환하고, 비어 있거나 형식이 틀린 값은 NULL 로 둔다.
+ */
+public final class KobisBoxOfficeMapper {
+
+    private KobisBoxOfficeMapper() {
+    }
+
+    /**
+     * 날짜가 속한 ISO 주차 키 (예: 2025IW07)
+     */
+    public static String yearWeek(LocalDate date) {
+        WeekFields wf = WeekFields.ISO;
+        return String.format("%04dIW%02d", date.get(wf.weekBasedYear()), date.get(wf.weekOfWeekBasedYear()));
+    }
+
+    public static List<DailyBoxOfficeEntity> toDaily(JsonNode listNode, LocalDate targetDate, int itemPerPage) {
+        if (listNode == null) {
+            return List.of();
+        }
+        return StreamSupport.stream(listNode.spliterator(), false)
+            .limit(itemPerPage)
+            .map(node -> DailyBoxOfficeEntity.builder()
+                .targetDate(targetDate)
+                .rnum(toInt(node.path("rnum")))
+                .movieRank(toInt(node.path("rank")))
+                .rankInten(toInt(node.path("rankInten")))
+                .rankOldAndNew(node.path("rankOldAndNew").asText())
+                .movieCd(node.path("movieCd").asText())
+                .movieName(node.path("movieNm").asText())
+                .openDate(node.path("openDt").asText())
+                .salesAmt(toLong(node.path("salesAmt")))
+                .salesShare(toDecimal(node.path("salesShare")))
+                .salesInten(toLong(node.path("salesInten")))
+                .salesChange(toDecimal(node.path("salesChange")))
+                .salesAcc(toLong(node.path("salesAcc")))
+                .audiCnt(toLong(node.path("audiCnt")))
+                .audiInten(toLong(node.path("audiInten")))
+                .audiChange(toDecimal(node.path("audiChange")))
+                .audiAcc(toLong(node.path("audiAcc")))
+                .scrnCnt(toInt(node.path("scrnCnt")))
+                .showCnt(toInt(node.path("showCnt")))
+                .build())
+            .toList();
+    }
+
+    public static List<WeeklyBoxOfficeEntity> toWeekly(JsonNode listNode, String yearWeek, int itemPerPage) {
+        if (listNode == null) {
+            return List.of();
+        }
+        return StreamSupport.stream(listNode.spliterator(), false)
+            .limit(itemPerPage)
+            .map(node -> WeeklyBoxOfficeEntity.builder()
+                .yearWeekTime(yearWeek)
+                .rnum(toInt(node.path("rnum")))
+                .movieRank(toInt(node.path("rank")))
+                .rankInten(toInt(node.path("rankInten")))
+                .rankOldAndNew(node.path("rankOldAndNew").asText())
+                .movieCd(node.path("movieCd").asText())
+                .movieNm(node.path("movieNm").asText())
+                .openDt(node.path("openDt").asText())
+                .salesAmt(toLong(node.path("salesAmt")))
+                .salesShare(toDecimal(node.path("salesShare")))
+                .salesInten(toLong(node.path("salesInten")))
+                .salesChange(toDecimal(node.path("salesChange")))
+                .salesAcc(toLong(node.path("salesAcc")))
+                .audiCnt(toLong(node.path("audiCnt")))
+                .audiInten(toLong(node.path("audiInten")))
+                .audiChange(toDecimal(node.path("audiChange")))
+                .audiAcc(toLong(node.path("audiAcc")))
+                .scrnCnt(toInt(node.path("scrnCnt")))
+                .showCnt(toInt(node.path("showCnt")))
+                .build())
+            .toList();
+    }
+
+    static Integer toInt(JsonNode node) {
+        BigDecimal value = toDecimal(node);
+        return value != null ? value.intValue() : null;
+    }
+
+    static Long toLong(JsonNode node) {
+        BigDecimal value = toDecimal(node);
+        return value != null ? value.longValue() : null;
+    }
+
+    static BigDecimal toDecimal(JsonNode node) {
+        String text = node.asText("").replace(",", "").trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
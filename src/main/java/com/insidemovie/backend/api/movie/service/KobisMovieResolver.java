@@ -0,0 +1,209 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.client.ReactiveTmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.entity.KobisMovieMapping;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.KobisMovieMappingRepository;
+import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.KobisTitleMatcher.Match;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 박스오피스 항목(movieCd)을 Movie 로 연결.
+ * kobis_movie_mapping 에 이미 매칭된 영화는 TMDB 검색 없이 바로 연결하고,
+ * 처음 보는 영화(또는 재시도 시각이 지난 실패 건)만 제목 검색 + 유사도 매칭을 수행한다.
+ *
+ * TMDB 호출은 트랜잭션 밖에서 수행하므로(DB 커넥션 / 잠금을 잡은 채 기다리지 않도록) 호출하는 쪽도 트랜잭션 없이 불러야 한다.
+ * 저장(매핑 / 상세 / KOBIS 코드 연결)은 각각 짧은 트랜잭션으로 나눠 반영한다.
+ * 영화별 TMDB 호출은 tmdb-timeout 안에 끝나지 않으면 이번 실행에서는 미매칭으로 두고 다음 실행에서 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KobisMovieResolver {
+
+    private static final int TMDB_CONCURRENCY = 10;
+
+    private final KobisMovieMappingRepository mappingRepository;
+    private final MovieRepository movieRepository;
+    private final MovieService movieService;
+    private final ReactiveTmdbClient reactiveTmdbClient;
+
+    // 이 점수 미만이면 다른 영화로 보고 매칭하지 않음
+    @Value("${kobis.mapping.min-score:0.6}")
+    private double minScore;
+
+    // 매칭 실패 시 재검색 대기 (실패할 때마다 2배, 최대 max-retry-delay)
+    @Value("${kobis.mapping.retry-delay:1d}")
+    private Duration retryDelay;
+
+    @Value("${kobis.mapping.max-retry-delay:30d}")
+    private Duration maxRetryDelay;
+
+    // 영화 한 편의 검색(전년도 재검색 포함) / 상세 조회 제한 시간
+    @Value("${kobis.mapping.tmdb-timeout:5s}")
+    private Duration tmdbTimeout;
+
+    /**
+     * movieCd → Movie (매칭되지 않은 항목은 결과에 없음, 반환된 Movie 는 준영속 상태)
+     */
+    public <E> Map<String, Movie> resolve(
+        List<E> entries,
+        Function<E, String> movieCd,
+        Function<E, String> title,
+        Function<E, Integer> year
+    ) {
+        Map<String, E> byCd = new LinkedHashMap<>();
+        for (E e : entries) {
+            byCd.putIfAbsent(movieCd.apply(e), e);
+        }
+        if (byCd.isEmpty()) {
+            return Map.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, KobisMovieMapping> mappings = mappingRepository.findAllById(byCd.keySet()).stream()
+            .collect(Collectors.toMap(KobisMovieMapping::getMovieCd, m -> m));
+
+        // 1) 검색이 필요한 항목만 골라냄
+        List<KobisMovieMapping> pending = new ArrayList<>();
+        int deferred = 0;
+        for (Map.Entry<String, E> entry : byCd.entrySet()) {
+            KobisMovieMapping mapping = mappings.get(entry.getKey());
+            if (mapping == null) {
+                E e = entry.getValue();
+                mapping = KobisMovieMapping.of(entry.getKey(), title.apply(e), year.apply(e));
+                mappings.put(entry.getKey(), mapping);
+                pending.add(mapping);
+            } else if (!mapping.isResolved()) {
+                if (mapping.isRetryDue(now)) {
+                    pending.add(mapping);
+                } else {
+                    deferred++;
+                }
+            }
+        }
+
+        // 2) 신규 / 재시도 항목만 TMDB 검색 (일시적 오류 / 시간 초과는 실패로 기록하지 않음 → 다음 실행에서 재시도)
+        Set<String> errored = ConcurrentHashMap.newKeySet();
+        Set<String> timedOut = ConcurrentHashMap.newKeySet();
+        Map<String, Match> matches = pending.isEmpty() ? Map.of() : Flux.fromIterable(pending)
+            .flatMap(m -> match(m)
+                    .timeout(tmdbTimeout)
+                    .map(match -> Map.entry(m.getMovieCd(), match))
+                    .onErrorResume(TimeoutException.class, ex -> {
+                        log.warn("[TMDB 검색 시간 초과] {} ({}) → 이번 실행은 미매칭", m.getKobisTitle(), tmdbTimeout);
+                        timedOut.add(m.getMovieCd());
+                        return Mono.empty();
+                    })
+                    .onErrorResume(ex -> {
+                        log.warn("[TMDB 검색 실패] {} : {}", m.getKobisTitle(), ex.getMessage());
+                        errored.add(m.getMovieCd());
+                        return Mono.empty();
+                    }),
+                TMDB_CONCURRENCY)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .block();   // 항목마다 tmdbTimeout 이 걸려 있어 전체 대기 시간도 제한됨
+
+        int unresolved = 0;
+        for (KobisMovieMapping mapping : pending) {
+            Match match = matches.get(mapping.getMovieCd());
+            if (match != null) {
+                mapping.resolve(match.movie().getId(), match.score());
+            } else if (!errored.contains(mapping.getMovieCd()) && !timedOut.contains(mapping.getMovieCd())) {
+                mapping.fail(now.plus(backoff(mapping.getAttempts())));
+                unresolved++;
+            }
+        }
+
+        // 3) movieCd → TMDB ID → Movie (없는 영화만 상세 조회 후 저장)
+        Map<String, Long> tmdbIds = new HashMap<>();
+        mappings.forEach((cd, m) -> {
+            if (m.isResolved()) {
+                tmdbIds.put(cd, m.getTmdbId());
+            }
+        });
+        Map<Long, Movie> movies = loadMovies(tmdbIds.values());
+
+        Map<String, Movie> result = new HashMap<>();
+        tmdbIds.forEach((cd, tmdbId) -> {
+            Movie movie = movies.get(tmdbId);
+            if (movie == null) {
+                return;
+            }
+            KobisMovieMapping mapping = mappings.get(cd);
+            if (!movie.getId().equals(mapping.getMovieId())) {
+                mapping.linkMovie(movie.getId());
+            }
+            if (movie.getKoficId() == null && !movieRepository.existsByKoficId(cd)
+                    && movieRepository.assignKoficId(movie.getId(), cd) > 0) {
+                movie.setKoficId(cd);
+            }
+            result.put(cd, movie);
+        });
+
+        mappingRepository.saveAll(mappings.values());
+        log.info("[KOBIS 매핑] total={} known={} searched={} matched={} unresolved={} deferred={} errors={} timeouts={}",
+                byCd.size(), byCd.size() - pending.size() - deferred, pending.size(), matches.size(),
+                unresolved, deferred, errored.size(), timedOut.size());
+        return result;
+    }
+
+    /**
+     * 개봉연도로 검색하고, 못 찾으면 전년도로 한 번 더 검색
+     * (KOBIS 개봉일은 국내 개봉 기준이라 해외 영화는 TMDB 최초 개봉연도보다 늦는 경우가 많음)
+     */
+    private Mono<Match> match(KobisMovieMapping mapping) {
+        String title = mapping.getKobisTitle();
+        int year = mapping.getOpenYear() != null ? mapping.getOpenYear() : LocalDateTime.now().getYear();
+        return searchBest(title, year)
+                .switchIfEmpty(Mono.defer(() -> searchBest(title, year - 1)));
+    }
+
+    private Mono<Match> searchBest(String title, int year) {
+        return reactiveTmdbClient.search(title, year)
+                .flatMap(body -> Mono.justOrEmpty(KobisTitleMatcher.best(title, body.getResults(), minScore)));
+    }
+
+    private Map<Long, Movie> loadMovies(Collection<Long> tmdbIds) {
+        if (tmdbIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> existing = movieService.findExistingTmdbIds(tmdbIds);
+        List<MovieDetailDTO> details = Flux.fromIterable(new HashSet<>(tmdbIds))
+            .filter(id -> !existing.contains(id))
+            .flatMap(id -> reactiveTmdbClient.fetchMovieDetail(id)
+                    .timeout(tmdbTimeout)
+                    .onErrorResume(ex -> {
+                        log.warn("TMDB 상세정보 조회 실패: ID={} : {}", id, ex.getMessage());
+                        return Mono.empty();
+                    }),
+                TMDB_CONCURRENCY)
+            .collectList()
+            .block();
+        if (details != null && !details.isEmpty()) {
+            movieService.saveMovieDetailsBulk(details);
+        }
+        return movieRepository.findByTmdbMovieIdIn(tmdbIds).stream()
+            .collect(Collectors.toMap(Movie::getTmdbMovieId, m -> m));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, 10));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
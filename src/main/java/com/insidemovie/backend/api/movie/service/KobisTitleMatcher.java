@@ -0,0 +1,84 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieResponseDTO;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * KOBIS 영화명과 TMDB 검색 결과의 제목 유사도 비교.
+ * 공백 / 문장부호 / 대소문자 / 전각 문자를 정규화한 뒤 편집거리 기반 점수(0 ~ 1)를 매기고,
+ * 한글 제목(title)과 원제(original_title) 중 높은 점수를 사용한다.
+ */
+public final class KobisTitleMatcher {
+
+    private KobisTitleMatcher() {
+    }
+
+    public record Match(SearchMovieResponseDTO movie, double score) {
+    }
+
+    /**
+     * 기준 점수 이상인 후보 중 가장 비슷한 영화 (동점이면 popularity 높은 쪽)
+     */
+    public static Optional<Match> best(String kobisTitle, List<SearchMovieResponseDTO> candidates, double minScore) {
+        if (candidates == null || candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        String target = normalize(kobisTitle);
+        return candidates.stream()
+                .map(c -> new Match(c, Math.max(similarity(target, normalize(c.getTitle())),
+                                                similarity(target, normalize(c.getOriginalTitle())))))
+                .filter(m -> m.score() >= minScore)
+                .max(Comparator.comparingDouble(Match::score)
+                        .thenComparingDouble(m -> m.movie().getPopularity() == null ? 0.0 : m.movie().getPopularity()));
+    }
+
+    static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(title, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        nfkc.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    static double similarity(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        if (a.equals(b)) {
+            return 1;
+        }
+        // 부제 유무 차이 ("미션임파서블" vs "미션임파서블데드레코닝") 는 포함 관계로 보고 감점만
+        if (a.contains(b) || b.contains(a)) {
+            return 0.9 * Math.min(a.length(), b.length()) / Math.max(a.length(), b.length()) + 0.1;
+        }
+        return 1.0 - (double) levenshtein(a, b) / Math.max(a.length(), b.length());
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+}
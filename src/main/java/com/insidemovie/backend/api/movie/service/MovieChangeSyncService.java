@@ -0,0 +1,113 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.client.TmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.ChangedMovieDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieChangesDTO;
+import com.insidemovie.backend.api.movie.entity.SyncWatermark;
+import com.insidemovie.backend.api.movie.repository.SyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * TMDB 변경 피드(/movie/changes) 기반 증분 동기화.
+ * 워터마크 이후 변경된 영화 중 우리 DB 에 있는 것만 상세 재수집한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieChangeSyncService {
+
+    static final String SYNC_KEY = "tmdb_movie_changes";
+    private static final int MAX_WINDOW_DAYS = 14;   // TMDB 허용 최대 구간
+    private static final int ID_LOOKUP_CHUNK = 1000;
+
+    private final TmdbClient tmdbClient;
+    private final MovieService movieService;
+    private final MovieIngestionService movieIngestionService;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+
+    @Value("${scheduler.zone}")
+    private String zone;
+
+    @Value("${movie.change-sync.initial-lookback-days:1}")
+    private int initialLookbackDays;
+
+    /**
+     * 워터마크부터 오늘까지 14일 구간씩 처리.
+     * 구간 처리에 일시적 실패(5xx / 타임아웃 / 서킷 open / 저장 실패)가 있으면 워터마크를 옮기지 않고 중단
+     * → 다음 실행에서 같은 구간 재시도. 404(삭제된 영화)와 그 외 4xx 는 재시도해도 같으므로 워터마크를 막지 않는다.
+     */
+    public void sync() {
+        LocalDate today = LocalDate.now(ZoneId.of(zone));
+        SyncWatermark watermark = syncWatermarkRepository.findById(SYNC_KEY)
+                .orElseGet(() -> syncWatermarkRepository.save(SyncWatermark.builder()
+                        .syncKey(SYNC_KEY)
+                        .syncedUntil(today.minusDays(initialLookbackDays))
+                        .build()));
+
+        LocalDate syncedUntil = watermark.getSyncedUntil();
+        do {
+            // 경계일은 다시 포함 → 마지막 실행 이후 같은 날 늦게 들어온 변경도 놓치지 않음
+            LocalDate start = syncedUntil;
+            LocalDate end = start.plusDays(MAX_WINDOW_DAYS - 1);
+            if (end.isAfter(today)) {
+                end = today;
+            }
+
+            Set<Long> changed = fetchChangedIds(start, end);
+            List<Long> targets = filterExisting(changed);
+            log.info("[변경 동기화] {} ~ {} 변경={} 대상={}", start, end, changed.size(), targets.size());
+
+            MovieIngestStats stats = movieIngestionService.ingestIds(targets);
+            if (stats.getRemoved() > 0 || stats.getRejected() > 0) {
+                log.info("[변경 동기화] 삭제(404) {}건, 거부 {}건 → 건너뜀", stats.getRemoved(), stats.getRejected());
+            }
+            if (stats.getFailed() > 0) {
+                log.warn("[변경 동기화] 실패 {}건 → 워터마크 유지 ({})", stats.getFailed(), syncedUntil);
+                return;
+            }
+            if (syncWatermarkRepository.advance(SYNC_KEY, syncedUntil, end) == 0) {
+                log.warn("[변경 동기화] 다른 실행이 워터마크를 먼저 옮김 → 중단");
+                return;
+            }
+            syncedUntil = end;
+        } while (syncedUntil.isBefore(today));
+    }
+
+    private Set<Long> fetchChangedIds(LocalDate start, LocalDate end) {
+        Set<Long> ids = new LinkedHashSet<>();
+        int page = 1;
+        int totalPages = 1;
+        while (page <= totalPages) {
+            Optional<MovieChangesDTO> body = tmdbClient.fetchChangedMovies(start, end, page);
+            if (body.isEmpty() || body.get().getResults() == null) {
+                // 목록이 중간에 끊기면 일부만 반영된 채 워터마크가 넘어가지 않도록 실패 처리
+                throw new IllegalStateException("TMDB 변경 목록 조회 실패: page=" + page);
+            }
+            for (ChangedMovieDTO dto : body.get().getResults()) {
+                if (dto.getId() != null && !Boolean.TRUE.equals(dto.getAdult())) {
+                    ids.add(dto.getId());
+                }
+            }
+            totalPages = body.get().getTotalPages();
+            page++;
+        }
+        return ids;
+    }
+
+    private List<Long> filterExisting(Set<Long> tmdbIds) {
+        List<Long> ids = new ArrayList<>(tmdbIds);
+        List<Long> existing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += ID_LOOKUP_CHUNK) {
+            List<Long> chunk = ids.subList(i, Math.min(i + ID_LOOKUP_CHUNK, ids.size()));
+            existing.addAll(movieService.findExistingTmdbIds(chunk));
+        }
+        return existing;
+    }
+}
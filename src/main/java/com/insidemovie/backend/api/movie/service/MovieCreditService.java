@@ -0,0 +1,122 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.CreditRole;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.entity.MovieCredit;
+import com.insidemovie.backend.api.movie.entity.MovieOttProvider;
+import com.insidemovie.backend.api.movie.repository.MovieCreditRepository;
+import com.insidemovie.backend.api.movie.repository.MovieJdbcRepository;
+import com.insidemovie.backend.api.movie.repository.MovieOttProviderRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 출연진 / 감독 / OTT 제공처 조회.
+ * 영화 묶음 단위로 movie_credit, movie_ott_provider 를 각각 한 번씩만 조회한다.
+ * 아직 정규화되지 않은 영화는 기존 JSON 컬럼을 파싱해 같은 형태로 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieCreditService {
+
+    private final ObjectMapper objectMapper;
+    private final MovieCreditRepository movieCreditRepository;
+    private final MovieOttProviderRepository movieOttProviderRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+
+    public MovieCreditsDTO loadCredits(Movie movie) {
+        return loadCredits(List.of(movie)).get(movie.getId());
+    }
+
+    /**
+     * movie_id → 크레딧 (쿼리 2회)
+     */
+    public Map<Long, MovieCreditsDTO> loadCredits(Collection<Movie> movies) {
+        Map<Long, MovieCreditsDTO> result = new HashMap<>();
+        if (movies.isEmpty()) {
+            return result;
+        }
+        List<Long> movieIds = movies.stream().map(Movie::getId).toList();
+
+        Map<Long, List<String>> actors = new HashMap<>();
+        Map<Long, List<String>> directors = new HashMap<>();
+        for (MovieCredit credit : movieCreditRepository.findByMovie_IdInOrderBySortOrderAsc(movieIds)) {
+            Map<Long, List<String>> target = credit.getRole() == CreditRole.ACTOR ? actors : directors;
+            target.computeIfAbsent(credit.getMovie().getId(), k -> new ArrayList<>()).add(credit.getPersonName());
+        }
+        Map<Long, List<String>> providers = new HashMap<>();
+        for (MovieOttProvider provider : movieOttProviderRepository.findByMovie_IdInOrderBySortOrderAsc(movieIds)) {
+            providers.computeIfAbsent(provider.getMovie().getId(), k -> new ArrayList<>()).add(provider.getProviderName());
+        }
+
+        for (Movie movie : movies) {
+            Long id = movie.getId();
+            MovieCreditsDTO credits = new MovieCreditsDTO(
+                    actors.getOrDefault(id, List.of()),
+                    directors.getOrDefault(id, List.of()),
+                    providers.getOrDefault(id, List.of()));
+            if (credits.isEmpty() && hasLegacyColumns(movie)) {
+                credits = parseLegacy(movie.getActors(), movie.getDirectors(), movie.getOttProviders());
+            }
+            result.put(id, credits);
+        }
+        return result;
+    }
+
+    /**
+     * JSON 컬럼에 남은 크레딧을 정규화 테이블로 옮긴다 (한 묶음).
+     *
+     * @return 옮긴 영화 수 (0 이면 완료)
+     */
+    @Transactional
+    public int migrateLegacyCredits(int batchSize) {
+        Map<Long, String[]> legacy = movieJdbcRepository.findLegacyCredits(batchSize);
+        if (legacy.isEmpty()) {
+            return 0;
+        }
+        Map<Long, MovieCreditsDTO> credits = new HashMap<>();
+        legacy.forEach((movieId, raw) -> credits.put(movieId, parseLegacy(raw[0], raw[1], raw[2])));
+        movieJdbcRepository.replaceCredits(credits);
+        movieJdbcRepository.clearLegacyCredits(legacy.keySet());
+        return legacy.size();
+    }
+
+    private boolean hasLegacyColumns(Movie movie) {
+        return movie.getActors() != null || movie.getDirectors() != null || movie.getOttProviders() != null;
+    }
+
+    private MovieCreditsDTO parseLegacy(String actors, String directors, String ottProviders) {
+        return new MovieCreditsDTO(readArrayFlexible(actors), readArrayFlexible(directors), readArrayFlexible(ottProviders));
+    }
+
+    /**
+     * actors / directors / ottProviders 컬럼이
+     * - JSON 문자열: ["A","B"]
+     * - toString() 형태: [A, B]
+     * 둘 다 올 수 있으므로 유연하게 처리
+     */
+    private List<String> readArrayFlexible(String raw) {
+        if (raw == null || raw.isBlank()) return List.of();
+
+        if (raw.startsWith("[") && raw.endsWith("]")) {
+            try {
+                return objectMapper.readValue(raw, new TypeReference<List<String>>() {});
+            } catch (Exception ignore) {
+                // 실패하면 아래 fallback
+            }
+            return Arrays.stream(raw.substring(1, raw.length() - 1).split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+        }
+        return List.of(raw.trim());
+    }
+}
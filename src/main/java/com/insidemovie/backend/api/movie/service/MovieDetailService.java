@@ -1,15 +1,13 @@
 package com.insidemovie.backend.api.movie.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
 import com.insidemovie.backend.api.movie.dto.MovieDetailResDto;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Arrays;
 import java.util.List;
 
 
@@ -27,12 +23,12 @@ import java.util.List;
 @Slf4j
 public class MovieDetailService {
 
-    private final ObjectMapper objectMapper;
     private final MovieRepository movieRepository;
+    private final MovieCreditService movieCreditService;
     private final MovieGenreRepository movieGenreRepository;
     private final MovieLikeRepository movieLikeRepository;
     private final MemberRepository memberRepository;
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
 
     /**
      * 비로그인 사용자 영화 상세
@@ -67,14 +63,7 @@ public class MovieDetailService {
                 .stream()
                 .map(mg -> mg.getGenreType().name())
                 .toList();
-        Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-        BigDecimal rounded;
-        if(ratingAvg==null || ratingAvg==0.00){
-            rounded=BigDecimal.ZERO.setScale(2);
-        }else{
-            rounded= BigDecimal.valueOf(ratingAvg)
-                    .setScale(2, RoundingMode.HALF_UP);
-        }
+        BigDecimal rounded = movieRatingStatsService.average(movie.getId());
 
         MovieDetailResDto dto = new MovieDetailResDto();
         dto.setId(movie.getId());
@@ -89,10 +78,11 @@ public class MovieDetailService {
         dto.setGenre(genreNames);
         dto.setRatingAvg(rounded);
 
-        // 배우 / 감독 / OTT 파싱
-        dto.setActors(readArrayFlexible(movie.getActors()));          // List<String>
-        dto.setDirector(readArrayFlexible(movie.getDirectors()));     // List<String>
-        dto.setOttProviders(readArrayFlexible(movie.getOttProviders()));
+        // 배우 / 감독 / OTT
+        MovieCreditsDTO credits = movieCreditService.loadCredits(movie);
+        dto.setActors(credits.getActors());
+        dto.setDirector(credits.getDirectors());
+        dto.setOttProviders(credits.getOttProviders());
 
         dto.setRating(movie.getRating());
         dto.setRuntime(movie.getRuntime());
@@ -108,31 +98,4 @@ public class MovieDetailService {
         }
         return dto;
     }
-
-    /**
-     * actors / directors / ottProviders 컬럼이
-     * - JSON 문자열: ["A","B"]
-     * - toString() 형태: [A, B]
-     * 둘 다 올 수 있으므로 유연하게 처리
-     */
-    private List<String> readArrayFlexible(String raw) {
-        if (raw == null || raw.isBlank()) return List.of();
-
-        // 우선 JSON 시도
-        if (raw.startsWith("[") && raw.endsWith("]")) {
-            // JSON 으로 한 번 파싱 시도
-            try {
-                return objectMapper.readValue(raw, new TypeReference<List<String>>() {});
-            } catch (Exception ignore) {
-                // 실패하면 아래 fallback
-            }
-            // fallback: toString() 형태 파싱
-            return Arrays.stream(raw.substring(1, raw.length() - 1).split(","))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .toList();
-        }
-        // 그냥 단일 값
-        return List.of(raw.trim());
-    }
 }
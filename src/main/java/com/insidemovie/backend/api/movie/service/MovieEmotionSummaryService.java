@@ -1,17 +1,19 @@
 package com.insidemovie.backend.api.movie.service;
 
-import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
-import com.insidemovie.backend.api.member.service.MemberEmotionSummaryService;
+import com.insidemovie.backend.api.member.dto.emotion.EmotionSumDTO;
+import com.insidemovie.backend.api.member.repository.MemberEmotionDirtyJdbcRepository;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
+import com.insidemovie.backend.api.movie.event.MovieStatsChangedEvent;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
-import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.review.dto.EmotionVector;
 import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,46 +22,80 @@ public class MovieEmotionSummaryService {
     private final EmotionRepository emotionRepository;
     private final MovieEmotionSummaryRepository summaryRepository;
     private final MovieRepository movieRepository;
-    private final MovieLikeRepository movieLikeRepository;
-    private final MemberEmotionSummaryService memberEmotionSummaryService;
+    private final MemberEmotionDirtyJdbcRepository memberEmotionDirtyRepository;
     private final MovieService movieService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 리뷰 감정 한 건의 변경을 누적값에 반영 (요약 행을 잠근 뒤 빼고 더함)
+     *  - 추가: removed = null / 수정: 둘 다 / 삭제: added = null
+     * 요약 행이 없거나 누적값이 초기화 전이면 전체 재집계로 대신한다
+     * (감정 저장 / 삭제 후 같은 트랜잭션에서 호출해야 재집계 결과에 이번 변경이 포함됨).
+     */
+    @Transactional
+    public void applyDelta(Long movieId, EmotionVector removed, EmotionVector added) {
+        if (removed == null && added == null) {
+            // 감정 변화 없음 (분석 전 리뷰 삭제 등) → 평점 평균만 바뀜
+            eventPublisher.publishEvent(new MovieStatsChangedEvent(movieId));
+            return;
+        }
+        MovieEmotionSummary summary = summaryRepository.findForUpdate(movieId).orElse(null);
+        if (summary == null || !summary.hasTotals()) {
+            recalcMovieSummary(movieId);
+            return;
+        }
+        if (removed != null) {
+            summary.subtract(removed);
+        }
+        if (added != null) {
+            summary.add(added);
+        }
+        refreshAverages(summary);
+        afterChange(movieId);
+    }
+
+    /**
+     * emotion 테이블 전체 재집계로 누적값 / 평균 재설정 (최초 초기화 및 검증 스케줄러의 보정용)
+     */
     @Transactional
     public void recalcMovieSummary(Long movieId) {
         // 1) 영화 존재 확인
         Movie movie = movieRepository.findById(movieId)
             .orElseThrow(() -> new NotFoundException("Movie not found: " + movieId));
 
-        // 2) Emotion 테이블 평균 조회
-        EmotionAvgDTO avgDto = emotionRepository
-            .findAverageEmotionsByMovieId(movieId)
-            .orElseGet(() -> EmotionAvgDTO.builder()
-                .joy(0.0).sadness(0.0)
-                .anger(0.0).fear(0.0)
-                .disgust(0.0)
-                .repEmotionType(EmotionType.NONE)
-                .build());
-
-        EmotionType rep = movieService.calculateRepEmotion(avgDto);
-        avgDto.setRepEmotionType(rep);
-
-        // 3) movie_emotion_summary 조회 또는 신규 생성
+        // 2) movie_emotion_summary 잠금 조회 또는 신규 생성
         MovieEmotionSummary summary = summaryRepository
-            .findByMovie(movie)
+            .findForUpdate(movieId)
             .orElseGet(() -> MovieEmotionSummary.builder()
                 .movie(movie)
                 .build()
             );
 
+        // 3) Emotion 테이블 합계 / 개수 조회
+        EmotionSumDTO sums = emotionRepository
+            .findSumsByMovieId(movieId)
+            .orElseGet(() -> EmotionSumDTO.empty(movieId));
+
         // 4) 갱신 후 저장
-        summary.updateFromDTO(avgDto);
+        summary.resetTotals(sums);
+        refreshAverages(summary);
         summaryRepository.save(summary);
 
-        // 5) 이 영화를 좋아요한 모든 회원의 감정 요약 재계산
-        movieLikeRepository.findByMovie(movie)
-            .forEach(like -> {
-                Long memberId = like.getMember().getId();
-                memberEmotionSummaryService.recalcMemberSummary(memberId);
-            });
+        afterChange(movieId);
+    }
+
+    private void refreshAverages(MovieEmotionSummary summary) {
+        EmotionAvgDTO avgDto = summary.totals().averages();
+        avgDto.setRepEmotionType(movieService.calculateRepEmotion(avgDto));
+        summary.updateFromDTO(avgDto);
+    }
+
+    private void afterChange(Long movieId) {
+        // 박스오피스 차트 스냅샷 등 집계 캐시 갱신 (커밋 후 처리)
+        eventPublisher.publishEvent(new MovieStatsChangedEvent(movieId));
+
+        // 이 영화를 좋아요한 회원의 감정 요약은 재계산 대상으로 표시만 하고
+        // MemberEmotionSummaryScheduler 가 모아서 회원당 한 번씩 재계산
+        memberEmotionDirtyRepository.markLikersOf(movieId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieResponseDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 변경 감지용 영화 지문(SHA-256 hex).
+ * popularity / vote_count 는 매일 흔들리는 값이라 제외하고, 지문이 같아 건너뛴 영화도 별도 UPDATE 로 갱신한다.
+ *
+ * list   : 목록 응답과 상세 응답에 공통으로 있는 필드 → 상세 호출 여부 판단
+ * detail : 상세 응답을 Movie 로 매핑한 결과 + 장르 + 크레딧 → DB 쓰기 여부 판단
+ */
+public final class MovieFingerprint {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private MovieFingerprint() {
+    }
+
+    public static String ofList(SearchMovieResponseDTO dto) {
+        return ofList(dto.getId(), dto.getTitle(), dto.getOverview(), dto.getPosterPath(),
+                dto.getBackDropPath(), dto.getVoteAverage(), dto.getReleaseDate(), dto.getOriginalLanguage());
+    }
+
+    public static String ofList(MovieDetailDTO dto) {
+        return ofList(dto.getId(), dto.getTitle(), dto.getOverview(), dto.getPosterPath(),
+                dto.getBackdropPath(), dto.getVoteAverage(), dto.getReleaseDate(), dto.getOriginalLanguage());
+    }
+
+    public static String ofDetail(Movie movie, Set<GenreType> genres, MovieCreditsDTO credits) {
+        return hash(
+                movie.getTmdbMovieId(), movie.getTitle(), movie.getTitleEn(), movie.getOverview(),
+                movie.getPosterPath(), movie.getBackdropPath(), movie.getVoteAverage(),
+                movie.getOriginalLanguage(), movie.getReleaseDate(), credits.getActors(),
+                credits.getDirectors(), movie.getRuntime(), movie.getStatus(), movie.getRating(),
+                credits.getOttProviders(), new TreeSet<>(genres)
+        );
+    }
+
+    private static String ofList(Long id, String title, String overview, String posterPath, String backdropPath,
+                                 Double voteAverage, LocalDate releaseDate, String originalLanguage) {
+        // 평점은 소수 첫째 자리까지만 비교 (미세한 변동으로 재조회하지 않도록)
+        String vote = voteAverage == null ? null
+                : BigDecimal.valueOf(voteAverage).setScale(1, RoundingMode.HALF_UP).toPlainString();
+        return hash(id, title, overview, posterPath, backdropPath, vote, releaseDate, originalLanguage);
+    }
+
+    private static String hash(Object... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (Object field : fields) {
+            sb.append(field == null ? "\u0000" : field.toString()).append(SEPARATOR);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.insidemovie.backend.api.movie.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 수집 1회 실행 동안의 처리량 / 단계별 지연 통계.
+ * 단계 지연은 Micrometer 타이머(movie.ingest.stage)에도 함께 기록된다.
+ *
+ * failed   : 다시 시도하면 성공할 수 있는 실패 (5xx / 429 / 타임아웃 / 서킷 open / 저장 실패) → 워터마크 유지
+ * removed  : TMDB 에서 사라진 ID (404)
+ * rejected : 재시도해도 같은 결과인 실패 (404 외 4xx 등) → 로그만 남기고 진행
+ */
+@Slf4j
+public class MovieIngestStats {
+
+    public enum Stage { DETAIL, WRITE }
+
+    private final long startedNanos = System.nanoTime();
+    private final Timer[] timers = new Timer[Stage.values().length];
+    private final LongAdder[] stageNanos = new LongAdder[Stage.values().length];
+    private final LongAdder[] stageCounts = new LongAdder[Stage.values().length];
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder removed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public MovieIngestStats(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers[stage.ordinal()] = Timer.builder("movie.ingest.stage")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(meterRegistry);
+            stageNanos[stage.ordinal()] = new LongAdder();
+            stageCounts[stage.ordinal()] = new LongAdder();
+        }
+    }
+
+    public void record(Stage stage, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        timers[stage.ordinal()].record(elapsed, TimeUnit.NANOSECONDS);
+        stageNanos[stage.ordinal()].add(elapsed);
+        stageCounts[stage.ordinal()].increment();
+    }
+
+    public void written(int count) { written.add(count); }
+    public void failed() { failed.increment(); }
+    public void unchanged(int count) { unchanged.add(count); }
+    public void removed() { removed.increment(); }
+    public void rejected() { rejected.increment(); }
+
+    public long getWritten() { return written.sum(); }
+    public long getFailed() { return failed.sum(); }
+    public long getUnchanged() { return unchanged.sum(); }
+    public long getRemoved() { return removed.sum(); }
+    public long getRejected() { return rejected.sum(); }
+    public long getCount(Stage stage) { return stageCounts[stage.ordinal()].sum(); }
+
+    /** 단계별 평균 지연(ms) */
+    public double getAvgMillis(Stage stage) {
+        long count = stageCounts[stage.ordinal()].sum();
+        return count == 0 ? 0 : stageNanos[stage.ordinal()].sum() / (double) count / 1_000_000.0;
+    }
+
+    /** 전체 경과 시간 기준 초당 저장 건수 */
+    public double getMoviesPerSecond() {
+        double seconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        return seconds <= 0 ? 0 : written.sum() / seconds;
+    }
+
+    public void logSummary(String label) {
+        log.info("[수집 완료] {} written={} unchanged={} failed={} removed={} rejected={} movies/sec={} "
+                        + "detail(n={}, avg={}ms) write(n={}, avg={}ms)",
+                label, getWritten(), getUnchanged(), getFailed(), getRemoved(), getRejected(),
+                String.format("%.1f", getMoviesPerSecond()),
+                getCount(Stage.DETAIL), String.format("%.1f", getAvgMillis(Stage.DETAIL)),
+                getCount(Stage.WRITE), String.format("%.1f", getAvgMillis(Stage.WRITE)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.client.ReactiveTmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.service.MovieIngestStats.Stage;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * TMDB 카탈로그 병렬 수집 엔진 (Reactor).
+ *
+ * 조회 단계: ReactiveTmdbClient 로 상세정보를 flatMap 동시성 한도 안에서 파이프라이닝한다.
+ *           모든 호출은 TmdbRateLimiter 를 거치므로 동시성과 무관하게 쿼터를 넘지 않고,
+ *           토큰 대기 중에도 스레드를 점유하지 않는다.
+ * 쓰기 단계: 상세정보를 작은 배치로 묶어 단일 writer 스케줄러에서 순서대로 커밋한다.
+ *           concatMap 이 한 배치씩만 요청하므로 DB 가 느리면 상류 조회도 함께 늦춰진다(backpressure).
+ *
+ * 변경 피드 동기화는 ingestIds 로 조회 + 저장을 모두 수행하고,
+ * Spring Batch 시딩 / 정기 갱신은 fetchDetails 로 청크의 조회 단계만 병렬로 수행한 뒤 writer 가 청크 트랜잭션에서 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieIngestionService {
+
+    private final ReactiveTmdbClient reactiveTmdbClient;
+    private final MovieService movieService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${movie.ingest.fetch-concurrency:32}")
+    private int fetchConcurrency;
+
+    @Value("${movie.ingest.write-batch-size:20}")
+    private int writeBatchSize;
+
+    // false 면 기존 JPA 경로(saveMovieDetails)로 저장 → 전/후 처리량 비교용
+    @Value("${movie.ingest.bulk-write-enabled:true}")
+    private boolean bulkWriteEnabled;
+
+    /**
+     * 지정한 TMDB ID 목록의 상세정보만 병렬로 수집.
+     * 변경 피드로 받은 ID 라 상세 캐시를 읽지 않고 TMDB 에서 새로 조회한다.
+     */
+    public MovieIngestStats ingestIds(Collection<Long> tmdbIds) {
+        IngestRun run = new IngestRun();
+        run.execute(Flux.fromIterable(tmdbIds));
+        run.stats.logSummary("ids=" + tmdbIds.size());
+        return run.stats;
+    }
+
+    /**
+     * 배치 청크의 TMDB ID 상세정보를 fetch-concurrency 한도 안에서 병렬 조회 (응답 캐시 사용).
+     * 404 / 조회 실패는 stats 에 집계하고 결과에서 뺀다. 저장은 호출한 쪽에서 한다.
+     */
+    public List<MovieDetailDTO> fetchDetails(Collection<? extends Long> tmdbIds, MovieIngestStats stats) {
+        return Flux.fromIterable(tmdbIds)
+                .distinct()
+                .flatMap(tmdbId -> fetchDetail(tmdbId, reactiveTmdbClient::fetchMovieDetail, stats),
+                        fetchConcurrency)
+                .collectList()
+                .block();
+    }
+
+    /**
+     * 잡 / 동기화 1회 실행 단위 통계
+     */
+    public MovieIngestStats newStats() {
+        return new MovieIngestStats(meterRegistry);
+    }
+
+    private Mono<MovieDetailDTO> fetchDetail(Long tmdbId, Function<Long, Mono<MovieDetailDTO>> request,
+                                              MovieIngestStats stats) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return request.apply(tmdbId).doFinally(s -> stats.record(Stage.DETAIL, start));
+                })
+                .map(detail -> {
+                    if (detail.getId() == null) {
+                        detail.setId(tmdbId);
+                    }
+                    return detail;
+                })
+                // 404 는 TMDB 에서 삭제된 ID → 실패가 아니라 제거로 집계 (워터마크를 막지 않음)
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    log.debug("TMDB 상세정보 없음(404): ID={}", tmdbId);
+                    stats.removed();
+                }))
+                .onErrorResume(e -> {
+                    if (ResilienceGuard.isDependencyFailure(e)) {
+                        log.warn("TMDB 상세정보 조회 실패: ID={} : {}", tmdbId, e.getMessage());
+                        stats.failed();
+                    } else {
+                        log.warn("TMDB 상세정보 조회 거부(재시도 안 함): ID={} : {}", tmdbId, e.getMessage());
+                        stats.rejected();
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 수집 1회 실행 단위의 통계 / writer 묶음
+     */
+    private class IngestRun {
+        private final MovieIngestStats stats = newStats();
+        private final Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+        void execute(Flux<Long> ids) {
+            Scheduler writer = Schedulers.newSingle("tmdb-writer");
+            try {
+                ids
+                    // 같은 ID 가 여러 번 들어와도 한 번만 조회
+                    .filter(seen::add)
+                    .flatMap(tmdbId -> fetchDetail(tmdbId, reactiveTmdbClient::fetchMovieDetailFresh, stats),
+                            fetchConcurrency)
+                    .buffer(writeBatchSize)
+                    .concatMap(batch -> Mono.fromRunnable(() -> flush(batch)).subscribeOn(writer))
+                    .then()
+                    .block();
+            } finally {
+                writer.dispose();
+            }
+        }
+
+        private void flush(List<MovieDetailDTO> batch) {
+            long start = System.nanoTime();
+            try {
+                int changed = save(batch);
+                stats.written(changed);
+                stats.unchanged(batch.size() - changed);
+            } catch (Exception e) {
+                // 배치 중 한 건 때문에 전체가 롤백되지 않도록 건별로 재시도
+                log.warn("[배치 저장 실패] size={} → 건별 재시도 : {}", batch.size(), e.getMessage());
+                for (MovieDetailDTO detail : batch) {
+                    try {
+                        int changed = save(List.of(detail));
+                        stats.written(changed);
+                        stats.unchanged(1 - changed);
+                    } catch (Exception ex) {
+                        log.warn("[저장 실패] TMDB ID={} : {}", detail.getId(), ex.getMessage());
+                        stats.failed();
+                    }
+                }
+            } finally {
+                stats.record(Stage.WRITE, start);
+            }
+        }
+
+        private int save(List<MovieDetailDTO> batch) {
+            if (bulkWriteEnabled) {
+                return movieService.saveMovieDetailsBulk(batch);
+            }
+            movieService.saveMovieDetails(batch);
+            return batch.size();
+        }
+    }
+}
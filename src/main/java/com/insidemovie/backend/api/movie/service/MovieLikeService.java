@@ -13,7 +13,6 @@ import com.insidemovie.backend.api.movie.entity.MovieLike;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieLikeRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.api.review.service.ReviewService;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
@@ -26,7 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -37,7 +36,7 @@ public class MovieLikeService {
     private final MovieLikeRepository movieLikeRepository;
     private final MovieRepository movieRepository;
     private final MovieService movieService;
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
     private final MemberService memberService;
 
     // 좋아요 한 영화 목록 조회
@@ -49,20 +48,15 @@ public class MovieLikeService {
 
         // 영화 목록 조회
         Page<MovieLike> myMovies = movieLikeRepository.findByMember(member, pageable);
+        Map<Long, BigDecimal> ratings = movieRatingStatsService.averages(
+                myMovies.getContent().stream().map(movieLike -> movieLike.getMovie().getId()).toList());
 
         Page<MyMovieResponseDTO> dto = myMovies.map(movielike ->{
             Movie movie = movielike.getMovie();
             EmotionAvgDTO avg = movieService.getMovieEmotionSummary(movie.getId());
             EmotionType mainEmotion = avg.getRepEmotionType();
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
 
             // mainEmotion에 해당하는 수치 꺼내기
             double emainEmotionValue = switch (mainEmotion) {
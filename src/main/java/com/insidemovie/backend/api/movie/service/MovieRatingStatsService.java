@@ -0,0 +1,97 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.entity.MovieRatingStats;
+import com.insidemovie.backend.api.movie.event.MovieStatsChangedEvent;
+import com.insidemovie.backend.api.movie.repository.MovieRatingStatsRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MovieRatingStatsService {
+
+    private final MovieRatingStatsRepository ratingStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 리뷰 평점 한 건의 변경을 통계에 반영 (통계 행을 잠근 뒤 빼고 더함)
+     *  - 작성: removed = null / 수정: 둘 다 / 삭제: added = null
+     * 통계 행이 없으면 전체 재집계로 대신한다
+     * (리뷰 저장 / 삭제 후 같은 트랜잭션에서 호출해야 재집계 결과에 이번 변경이 포함됨).
+     */
+    @Transactional
+    public void applyDelta(Long movieId, Double removed, Double added) {
+        MovieRatingStats stats = ratingStatsRepository.findForUpdate(movieId).orElse(null);
+        if (stats == null) {
+            recalc(movieId);
+            return;
+        }
+        if (removed != null) {
+            stats.remove(removed);
+        }
+        if (added != null) {
+            stats.add(added);
+        }
+        eventPublisher.publishEvent(new MovieStatsChangedEvent(movieId));
+    }
+
+    /**
+     * review 테이블 전체 재집계로 통계 재설정 (최초 초기화 및 보정용)
+     */
+    @Transactional
+    public void recalc(Long movieId) {
+        ratingStatsRepository.insertEmpty(movieId);
+        MovieRatingStats stats = ratingStatsRepository.findForUpdate(movieId)
+                .orElseThrow(() -> new IllegalStateException("movie_rating_stats 생성 실패: " + movieId));
+
+        double sum = 0.0;
+        long count = 0L;
+        long[] histogram = new long[MovieRatingStats.BUCKETS];
+        for (Object[] row : reviewRepository.findRatingHistogramByMovieId(movieId)) {
+            int bucket = MovieRatingStats.bucket(((Number) row[0]).doubleValue() / 2);
+            long bucketCount = ((Number) row[1]).longValue();
+            histogram[bucket] += bucketCount;
+            count += bucketCount;
+            sum += ((Number) row[2]).doubleValue();
+        }
+        stats.reset(sum, count, histogram);
+        eventPublisher.publishEvent(new MovieStatsChangedEvent(movieId));
+    }
+
+    /**
+     * 평균 평점 (소수 둘째 자리, 리뷰가 없으면 0.00)
+     */
+    @Transactional
+    public BigDecimal average(Long movieId) {
+        return ratingStatsRepository.findById(movieId)
+                .map(MovieRatingStats::average)
+                .orElseGet(() -> MovieRatingStats.average(0.0, 0L));
+    }
+
+    /**
+     * 여러 영화의 평균 평점을 한 번에 조회 (목록 화면용, 통계가 없는 영화는 0.00)
+     */
+    @Transactional
+    public Map<Long, BigDecimal> averages(Collection<Long> movieIds) {
+        Map<Long, BigDecimal> averages = new HashMap<>();
+        if (movieIds.isEmpty()) {
+            return averages;
+        }
+        for (MovieRatingStats stats : ratingStatsRepository.findAllById(movieIds)) {
+            averages.put(stats.getMovieId(), stats.average());
+        }
+        for (Long movieId : movieIds) {
+            averages.putIfAbsent(movieId, MovieRatingStats.average(0.0, 0L));
+        }
+        return averages;
+    }
+}
@@ -1,13 +1,17 @@
 package com.insidemovie.backend.api.movie.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.api.constant.CreditRole;
 import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.constant.GenreType;
 import com.insidemovie.backend.api.constant.MovieLanguage;
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.member.dto.emotion.EmotionSumDTO;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
+import com.insidemovie.backend.api.movie.client.TmdbClient;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
 import com.insidemovie.backend.api.movie.dto.MovieSearchResDto;
+import com.insidemovie.backend.api.movie.dto.MovieUpsertDTO;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.dto.TmdbGenreResponseDto;
 import com.insidemovie.backend.api.movie.dto.emotion.MovieEmotionResDTO;
@@ -15,8 +19,12 @@ import com.insidemovie.backend.api.movie.dto.tmdb.*;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.entity.MovieGenre;
+import com.insidemovie.backend.api.movie.repository.MovieCreditRepository;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieGenreRepository;
+import com.insidemovie.backend.api.movie.repository.MovieJdbcRepository;
+import com.insidemovie.backend.api.movie.repository.MovieJdbcRepository.ListFields;
+import com.insidemovie.backend.api.movie.repository.MovieOttProviderRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
 import com.insidemovie.backend.api.review.entity.Review;
 import com.insidemovie.backend.api.review.repository.EmotionRepository;
@@ -31,13 +39,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -46,24 +50,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MovieService {
 
-    private final ObjectMapper objectMapper;
     private final MovieRepository movieRepository;
-    private final RestTemplate restTemplate;
+    private final TmdbClient tmdbClient;
     private final MovieGenreRepository movieGenreRepository;
+    private final MovieJdbcRepository movieJdbcRepository;
+    private final MovieCreditRepository movieCreditRepository;
+    private final MovieOttProviderRepository movieOttProviderRepository;
     private final EmotionRepository emotionRepository;
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
     private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
     private final MemberRepository memberRepository;
 
-    @Value("${tmdb.api.base-url}")
-    private String baseUrl;
-
-    @Value("${tmdb.api.key}")
-    private String apiKey;
-
-    @Value("${tmdb.api.language}")
-    private String language;
-
     @Value("${tmdb.image.base-url}")
     private String imageBaseUrl;
 
@@ -76,33 +74,20 @@ public class MovieService {
      */
     @Transactional
     public boolean fetchAndSaveMoviesByPage(String type, int page, boolean isInitial) {
-        String url = String.format(
-            "%s/movie/%s?api_key=%s&language=%s&page=%d",
-            baseUrl, type, apiKey, language, page
-        );
-
-        ResponseEntity<SearchMovieWrapperDTO> response =
-            restTemplate.getForEntity(url, SearchMovieWrapperDTO.class);
-
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            log.warn("[페이지 실패] type={} page={} status={}", type, page, response.getStatusCode());
+        Optional<SearchMovieWrapperDTO> body = tmdbClient.fetchMoviePage(type, page);
+        if (body.isEmpty()) {
+            log.warn("[페이지 실패] type={} page={}", type, page);
             return false;
         }
 
-        SearchMovieWrapperDTO body = response.getBody();
-        List<SearchMovieResponseDTO> results = body.getResults();
+        List<SearchMovieResponseDTO> results = body.get().getResults();
         if (results == null || results.isEmpty()) {
             log.info("[빈 페이지] type={} page={}", type, page);
             return false; // 조기 종료 근거
         }
 
         for (SearchMovieResponseDTO dto : results) {
-            if (!MovieLanguage.isAllowed(dto.getOriginalLanguage())) {
-                log.debug("[필터링] 언어({}) skip id={}", dto.getOriginalLanguage(), dto.getId());
-                continue;
-            }
-            if (Boolean.TRUE.equals(dto.getAdult())) {
-                log.debug("[필터링] 성인 skip id={}", dto.getId());
+            if (!isIngestible(dto)) {
                 continue;
             }
             fetchAndSaveMovieById(dto.getId());
@@ -110,6 +95,21 @@ public class MovieService {
         return true;
     }
 
+    /**
+     * 목록 결과 중 수집 대상(허용 언어, 비성인)인지 판단
+     */
+    public boolean isIngestible(SearchMovieResponseDTO dto) {
+        if (!MovieLanguage.isAllowed(dto.getOriginalLanguage())) {
+            log.debug("[필터링] 언어({}) skip id={}", dto.getOriginalLanguage(), dto.getId());
+            return false;
+        }
+        if (Boolean.TRUE.equals(dto.getAdult())) {
+            log.debug("[필터링] 성인 skip id={}", dto.getId());
+            return false;
+        }
+        return true;
+    }
+
 
     /**
      * TMDB에서 단일 영화 ID로 상세정보를 가져와 DB에 저장합니다.
@@ -117,28 +117,161 @@ public class MovieService {
     @Transactional
     public void fetchAndSaveMovieById(Long tmdbId) {
         // 1) 상세정보 호출 (credits, release_dates, watch/providers 포함)
-        String detailUrl = String.format(
-            "%s/movie/%d?api_key=%s&language=%s&append_to_response=credits,release_dates,watch/providers",
-            baseUrl, tmdbId, apiKey, language
-        );
-        ResponseEntity<MovieDetailDTO> detailRes =
-            restTemplate.getForEntity(detailUrl, MovieDetailDTO.class);
-        if (!detailRes.getStatusCode().is2xxSuccessful() || detailRes.getBody() == null) {
+        Optional<MovieDetailDTO> detail = tmdbClient.fetchMovieDetail(tmdbId);
+        if (detail.isEmpty()) {
             log.warn("TMDB 상세정보 조회 실패: ID={}", tmdbId);
             return;
         }
-        MovieDetailDTO detail = detailRes.getBody();
+        if (detail.get().getId() == null) {
+            detail.get().setId(tmdbId);
+        }
+
+        saveMovieDetail(detail.get());
+        log.info("[TMDB 연동] 저장 완료: TMDB ID={}", tmdbId);
+    }
+
+    /**
+     * 이미 조회된 상세정보 묶음을 하나의 트랜잭션으로 저장합니다.
+     * (수집 엔진의 쓰기 단계에서 작은 배치 단위로 호출)
+     */
+    @Transactional
+    public void saveMovieDetails(List<MovieDetailDTO> details) {
+        for (MovieDetailDTO detail : details) {
+            saveMovieDetail(detail);
+        }
+    }
+
+    /**
+     * 상세정보 묶음을 JDBC multi-row 문장으로 일괄 저장합니다.
+     *
+     * @return 실제로 내용이 바뀌어 저장된 영화 수
+     */
+    @Transactional
+    public int saveMovieDetailsBulk(List<MovieDetailDTO> details) {
+        return saveMovieUpserts(details.stream().map(this::toUpsert).toList());
+    }
+
+    /**
+     * TMDB 상세정보를 저장 직전 형태(Movie 값 + 장르 + 크레딧 + 지문)로 매핑합니다.
+     */
+    public MovieUpsertDTO toUpsert(MovieDetailDTO detail) {
+        Movie movie = Movie.builder()
+                .tmdbMovieId(detail.getId())
+                .build();
+        applyDetailToMovie(movie, detail);
+        Set<GenreType> genres = toGenreTypes(detail);
+        MovieCreditsDTO credits = toCredits(detail);
+        applyFingerprints(movie, detail, genres, credits);
+        return new MovieUpsertDTO(movie, genres, credits);
+    }
+
+    /**
+     * 매핑된 영화 묶음을 일괄 저장합니다.
+     * 영화 upsert 1회 + ID 조회 1회 + 장르 diff(조회/삭제/추가) + 크레딧 교체 + 감정 요약 초기화 1회
+     * 상세 지문이 저장된 값과 같은 영화는 목록 지문 / popularity / vote_count 만 갱신하고 건너뜁니다.
+     *
+     * @return 실제로 내용이 바뀌어 저장된 영화 수
+     */
+    @Transactional
+    public int saveMovieUpserts(List<MovieUpsertDTO> upserts) {
+        // 같은 청크 안의 중복 ID 는 마지막 값만 사용
+        Map<Long, MovieUpsertDTO> byTmdbId = new LinkedHashMap<>();
+        for (MovieUpsertDTO upsert : upserts) {
+            byTmdbId.put(upsert.getMovie().getTmdbMovieId(), upsert);
+        }
+        Map<Long, String> storedDetailFingerprints = movieJdbcRepository.findDetailFingerprints(byTmdbId.keySet());
+
+        List<Movie> movies = new ArrayList<>(byTmdbId.size());
+        Map<Long, MovieUpsertDTO> changed = new HashMap<>();
+        List<ListFields> unchanged = new ArrayList<>();
+        byTmdbId.forEach((tmdbId, upsert) -> {
+            Movie movie = upsert.getMovie();
+            if (movie.getDetailFingerprint().equals(storedDetailFingerprints.get(tmdbId))) {
+                unchanged.add(new ListFields(tmdbId, movie.getListFingerprint(),
+                        movie.getPopularity(), movie.getVoteCount()));
+                return;
+            }
+            movies.add(movie);
+            changed.put(tmdbId, upsert);
+        });
+        movieJdbcRepository.updateListFields(unchanged);
+        if (movies.isEmpty()) {
+            return 0;
+        }
+
+        movieJdbcRepository.upsertMovies(movies);
+        Map<Long, Long> movieIds = movieJdbcRepository.findIdsByTmdbIds(changed.keySet());
+
+        Map<Long, Set<GenreType>> genresByMovieId = new HashMap<>();
+        Map<Long, MovieCreditsDTO> creditsByMovieId = new HashMap<>();
+        changed.forEach((tmdbId, upsert) -> {
+            genresByMovieId.put(movieIds.get(tmdbId), upsert.getGenres());
+            creditsByMovieId.put(movieIds.get(tmdbId), upsert.getCredits());
+        });
+        movieJdbcRepository.applyGenreDiff(genresByMovieId);
+        movieJdbcRepository.replaceCredits(creditsByMovieId);
+        movieJdbcRepository.insertInitialSummaries(movieIds.values());
+        return movies.size();
+    }
+
+    /**
+     * 목록 지문이 같아 상세 조회를 건너뛴 영화의 popularity / vote_count 갱신 (목록 응답 값 사용)
+     */
+    @Transactional
+    public void updateSkippedListFields(List<SearchMovieResponseDTO> skipped) {
+        movieJdbcRepository.updateListFields(skipped.stream()
+                .map(dto -> new ListFields(dto.getId(), MovieFingerprint.ofList(dto),
+                        dto.getPopularity(), dto.getVoteCount()))
+                .toList());
+    }
+
+    /**
+     * tmdb_id → 저장된 목록 지문 (수집 시 상세 호출 생략 판단용)
+     */
+    public Map<Long, String> findListFingerprints(Collection<Long> tmdbIds) {
+        return movieJdbcRepository.findListFingerprints(tmdbIds);
+    }
+
+    /**
+     * 주어진 TMDB ID 중 DB 에 이미 있는 것만 반환
+     */
+    public Set<Long> findExistingTmdbIds(Collection<Long> tmdbIds) {
+        return movieJdbcRepository.findIdsByTmdbIds(tmdbIds).keySet();
+    }
+
+    private void applyFingerprints(Movie movie, MovieDetailDTO detail, Set<GenreType> genres, MovieCreditsDTO credits) {
+        movie.setListFingerprint(MovieFingerprint.ofList(detail));
+        movie.setDetailFingerprint(MovieFingerprint.ofDetail(movie, genres, credits));
+    }
+
+    private Set<GenreType> toGenreTypes(MovieDetailDTO detail) {
+        Set<GenreType> genres = EnumSet.noneOf(GenreType.class);
+        detail.getGenres().stream()
+                .map(TmdbGenreResponseDto::getId)
+                .map(Long::intValue)
+                .map(id -> GenreType.fromId(id)
+                        .orElseThrow(() ->
+                                new NotFoundException("Unknown Genre ID: " + id)))
+                .forEach(genres::add);
+        return genres;
+    }
+
+    private void saveMovieDetail(MovieDetailDTO detail) {
+        Long tmdbId = detail.getId();
 
-        // 2) DB에서 조회 또는 신규 생성
+        // 1) DB에서 조회 또는 신규 생성
         Movie movie = movieRepository.findByTmdbMovieId(tmdbId)
             .orElseGet(() -> Movie.builder()
                 .tmdbMovieId(tmdbId)
                 .build()
             );
 
-        // 3) 헬퍼로 매핑 & 저장
+        // 2) 헬퍼로 매핑 & 저장
         applyDetailToMovie(movie, detail);
+        MovieCreditsDTO credits = toCredits(detail);
+        applyFingerprints(movie, detail, toGenreTypes(detail), credits);
         movieRepository.save(movie);
+        movieJdbcRepository.replaceCredits(Map.of(movie.getId(), credits));
 
         movieGenreRepository.deleteByMovie(movie);
         //새 매핑 생성: DTO→enum→MovieGenre
@@ -166,11 +299,10 @@ public class MovieService {
                             .movie(movie)
                             .build();
                     newSummary.updateFromDTO(initialEmotion);
+                    newSummary.resetTotals(EmotionSumDTO.empty(movie.getId()));
                     return movieEmotionSummaryRepository.save(newSummary);
 
                 });
-
-        log.info("[TMDB 연동] 저장 완료: TMDB ID={}", tmdbId);
     }
 
     /**
@@ -204,19 +336,10 @@ public class MovieService {
 
         movie.setTitleEn(detail.getOriginalTitle());
 
-        // 배우 리스트
-        List<String> actors = detail.getCredits().getCast().stream()
-                .map(CastDTO::getName)
-                .toList();
-        movie.setActors(writeJsonArray(actors));   // ["A","B","C"]
-
-        // 감독 리스트
-        List<String> directors = detail.getCredits().getCrew().stream()
-                .filter(c -> "Director".equals(c.getJob()))
-                .map(CrewDTO::getName)
-                .distinct()
-                .toList();
-        movie.setDirectors(writeJsonArray(directors));
+        // 배우 / 감독 / OTT 는 movie_credit, movie_ott_provider 에 저장 (기존 JSON 컬럼은 비움)
+        movie.setActors(null);
+        movie.setDirectors(null);
+        movie.setOttProviders(null);
 
         movie.setRuntime(detail.getRuntime());
         movie.setStatus(detail.getStatus());
@@ -230,24 +353,38 @@ public class MovieService {
                 .findFirst()
                 .orElse(null);
         movie.setRating(rating);
+    }
+
+    /**
+     * 상세정보에서 배우 / 감독 / 한국 OTT 제공처 추출 (순서 유지, 중복 제거)
+     */
+    private MovieCreditsDTO toCredits(MovieDetailDTO detail) {
+        // 배우 리스트
+        List<String> actors = detail.getCredits().getCast().stream()
+                .map(CastDTO::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // 감독 리스트
+        List<String> directors = detail.getCredits().getCrew().stream()
+                .filter(c -> "Director".equals(c.getJob()))
+                .map(CrewDTO::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
 
         // 한국 OTT 제공
         List<String> ottProviders = Optional.ofNullable(detail.getWatchProviders().getResults().get("KR"))
                 .map(cp -> Optional.ofNullable(cp.getFlatrate()).orElse(Collections.emptyList())
                         .stream()
                         .map(ProviderDTO::getProviderName)
+                        .filter(Objects::nonNull)
+                        .distinct()
                         .toList())
                 .orElse(Collections.emptyList());
-        movie.setOttProviders(writeJsonArray(ottProviders));
-    }
 
-    private String writeJsonArray(List<String> list) {
-        try {
-            return objectMapper.writeValueAsString(list); // 예: ["배우1","배우2"]
-        } catch (Exception e) {
-            log.warn("JSON 직렬화 실패. list={}", list, e);
-            return "[]";
-        }
+        return new MovieCreditsDTO(actors, directors, ottProviders);
     }
 
 
@@ -256,35 +393,10 @@ public class MovieService {
      */
     @Transactional
     public Optional<SearchMovieResponseDTO> searchMovieByTitleAndYear(String title, int year) {
-        String encoded = URLEncoder.encode(title, StandardCharsets.UTF_8);
-        String url = String.format(
-            "%s/search/movie?api_key=%s&language=%s&query=%s&primary_release_year=%d",
-            baseUrl, apiKey, language, encoded, year
-        );
-        ResponseEntity<SearchMovieWrapperDTO> resp =
-            restTemplate.getForEntity(url, SearchMovieWrapperDTO.class);
-        if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null) {
-            return Optional.empty();
-        }
-        return resp.getBody().getResults().stream().findFirst();
+        return tmdbClient.searchMovie(title, year)
+            .flatMap(body -> body.getResults().stream().findFirst());
     }
 
-    /**
-     * 필요에 따라 Movie ↔ DTO 비교 로직을 유지할 수도 있습니다.
-     */
-    private boolean hasChanged(Movie movie, SearchMovieResponseDTO dto) {
-        return !Objects.equals(movie.getTitle(), dto.getTitle())
-            || !Objects.equals(movie.getOverview(), dto.getOverview())
-            || !Objects.equals(movie.getPosterPath(), dto.getPosterPath())
-            || !Objects.equals(movie.getBackdropPath(), dto.getBackDropPath())
-            || !Objects.equals(movie.getVoteAverage(), dto.getVoteAverage())
-            //|| !Objects.equals(movie.getGenreIds(), dto.getGenreIds())
-            || !Objects.equals(movie.getOriginalLanguage(), dto.getOriginalLanguage())
-            || !Objects.equals(movie.getReleaseDate(),
-                dto.getReleaseDate() != null ? dto.getReleaseDate() : null);
-    }
-
-
     public PageResDto<MovieSearchResDto> movieSearchTitle(String title, Integer page, Integer pageSize){
         Pageable pageable = PageRequest.of(page, pageSize);
 
@@ -293,7 +405,8 @@ public class MovieService {
             throw new NotFoundException("제목이 '" + title + "'인 영화를 찾을 수 없습니다.");
         }
 
-        Page<MovieSearchResDto> movieSearchResDtos = movies.map(this::convertEntityToDto);
+        Map<Long, BigDecimal> ratings = ratingAverages(movies);
+        Page<MovieSearchResDto> movieSearchResDtos = movies.map(movie -> convertEntityToDto(movie, ratings));
         return new PageResDto<>(movieSearchResDtos);
     }
 
@@ -318,12 +431,37 @@ public class MovieService {
             // 제목 검색
             moviePage = movieRepository.findByTitleContainingIgnoreCase(q, pageable);
         }
-        Page<MovieSearchResDto> dto = moviePage.map(this::convertEntityToDto);
+        Map<Long, BigDecimal> ratings = ratingAverages(moviePage);
+        Page<MovieSearchResDto> dto = moviePage.map(movie -> convertEntityToDto(movie, ratings));
         return new PageResDto<>(dto);
     }
 
+    /**
+     * 배우 / 감독 이름(정확히 일치)으로 영화 검색
+     */
+    public PageResDto<MovieSearchResDto> searchByPerson(String name, CreditRole role, Integer page, Integer pageSize) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Page<Movie> moviePage = movieCreditRepository.findMoviesByPerson(name.trim(), role, pageable);
+        Map<Long, BigDecimal> ratings = ratingAverages(moviePage);
+        return new PageResDto<>(moviePage.map(movie -> convertEntityToDto(movie, ratings)));
+    }
 
-    private MovieSearchResDto convertEntityToDto(Movie movie) {
+    /**
+     * OTT 제공처 이름으로 영화 검색
+     */
+    public PageResDto<MovieSearchResDto> searchByOttProvider(String provider, Integer page, Integer pageSize) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Page<Movie> moviePage = movieOttProviderRepository.findMoviesByProvider(provider.trim(), pageable);
+        Map<Long, BigDecimal> ratings = ratingAverages(moviePage);
+        return new PageResDto<>(moviePage.map(movie -> convertEntityToDto(movie, ratings)));
+    }
+
+    // 페이지 영화들의 평균 평점 (movie_rating_stats 한 번 조회)
+    private Map<Long, BigDecimal> ratingAverages(Page<Movie> movies) {
+        return movieRatingStatsService.averages(movies.getContent().stream().map(Movie::getId).toList());
+    }
+
+    private MovieSearchResDto convertEntityToDto(Movie movie, Map<Long, BigDecimal> ratings) {
         // 영화 대표 감정 가져오기
         EmotionAvgDTO avg = getMovieEmotionSummary(movie.getId());
         EmotionType mainEmotion = avg.getRepEmotionType();
@@ -338,14 +476,7 @@ public class MovieService {
             case NONE -> 0.0;
         };
 
-        Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-        BigDecimal rounded;
-        if(ratingAvg==null || ratingAvg==0.00){
-            rounded=BigDecimal.ZERO.setScale(2);
-        }else{
-            rounded= BigDecimal.valueOf(ratingAvg)
-            .setScale(2, RoundingMode.HALF_UP);
-        }
+        BigDecimal rounded = ratings.get(movie.getId());
 
 
         MovieSearchResDto movieSearchResDto = new MovieSearchResDto();
@@ -360,34 +491,23 @@ public class MovieService {
     }
 
     // 영화에 달린 리뷰들의 감정 평균 조회
+    // 리뷰 감정 변경 시 누적값으로 갱신되는 movie_emotion_summary 를 그대로 읽음 (조회 중 쓰기 없음)
     @Transactional
     public EmotionAvgDTO getMovieEmotionSummary(Long movieId) {
+        Optional<MovieEmotionSummary> summary = movieEmotionSummaryRepository.findByMovieId(movieId);
+        if (summary.isPresent() && summary.get().hasTotals()) {
+            return summary.get().toAvgDTO();
+        }
 
-        // 감정 평균 조회
-        EmotionAvgDTO avg = emotionRepository.findAverageEmotionsByMovieId(movieId)
-                .orElseGet(() -> EmotionAvgDTO.builder()
-                        .joy(0.0).sadness(0.0).anger(0.0).fear(0.0).disgust(0.0)
-                        .repEmotionType(EmotionType.DISGUST)
-                        .build());
-
-        // 대표 감정 계산
-        EmotionType rep = calculateRepEmotion(avg);
-        avg.setRepEmotionType(rep);
-
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
-
-        // 요약 엔티티 조회 or 생성
-        MovieEmotionSummary summary = movieEmotionSummaryRepository
-                .findByMovieId(movieId)
-                .orElseGet(() -> MovieEmotionSummary.builder()
-                        .movie(movie)
-                        .build());
-
-        // 엔티티 업데이트 및 저장
-        summary.updateFromDTO(avg);
-        movieEmotionSummaryRepository.save(summary);
-
+        // 누적값이 아직 없는 영화: 합계로 평균만 계산
+        // (초기화는 감정 변경 시 또는 검증 스케줄러에서 행 잠금 후 수행)
+        if (summary.isEmpty() && !movieRepository.existsById(movieId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage());
+        }
+        EmotionAvgDTO avg = emotionRepository.findSumsByMovieId(movieId)
+                .orElseGet(() -> EmotionSumDTO.empty(movieId))
+                .averages();
+        avg.setRepEmotionType(calculateRepEmotion(avg));
         return avg;
     }
 
@@ -496,6 +616,7 @@ public class MovieService {
         if (moviePage.isEmpty()) {
             throw new NotFoundException("해당 장르의 영화가 없습니다: " + genreType.name());
         }
+        Map<Long, BigDecimal> ratings = ratingAverages(moviePage);
 
 
         return new PageResDto<MovieSearchResDto> (moviePage.map(movie -> {
@@ -511,14 +632,7 @@ public class MovieService {
                 case DISGUST -> avg.getDisgust();
                 case NONE -> 0.0;
             };
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
 
             dto.setId(movie.getId());
             dto.setTitle(movie.getTitle());
@@ -539,6 +653,7 @@ public class MovieService {
         if (moviePage.isEmpty()) {
             throw new NotFoundException("해당 장르의 영화가 없습니다: " + genreType.name());
         }
+        Map<Long, BigDecimal> ratings = ratingAverages(moviePage);
 
         Page<MovieSearchResDto> dto = moviePage.map(movie -> {
             MovieSearchResDto resDto = new MovieSearchResDto();
@@ -553,14 +668,7 @@ public class MovieService {
                 case DISGUST -> avg.getDisgust();
                 case NONE -> 0.0;
             };
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
             resDto.setId(movie.getId());
             resDto.setTitle(movie.getTitle());
             resDto.setPosterPath(movie.getPosterPath());
@@ -582,19 +690,14 @@ public class MovieService {
         Member member = memberRepository.findByEmail(memberEmail)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
         Page<Review> moviePage = reviewRepository.findByMember(member, pageable);
+        Map<Long, BigDecimal> ratings = movieRatingStatsService.averages(
+                moviePage.getContent().stream().map(review -> review.getMovie().getId()).toList());
 
         Page<MovieSearchResDto> dto = moviePage.map(movielike ->{
             Movie movie = movielike.getMovie();
             EmotionAvgDTO avg = getMovieEmotionSummary(movie.getId());
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movie.getId());
-            BigDecimal rounded;
-            if(ratingAvg==null || ratingAvg==0.00){
-                rounded=BigDecimal.ZERO.setScale(2);
-            }else{
-                rounded= BigDecimal.valueOf(ratingAvg)
-                        .setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movie.getId());
 
             EmotionType mainEmotion = avg.getRepEmotionType();
             Double mainEmotionValue = switch (mainEmotion) {
@@ -621,19 +724,13 @@ public class MovieService {
     }
     @Transactional
     public int fetchTotalPages(String type) {
-        String url = String.format("%s/movie/%s?api_key=%s&language=%s&page=1",
-                baseUrl, type, apiKey, language);
-
-        ResponseEntity<SearchMovieWrapperDTO> response =
-                restTemplate.getForEntity(url, SearchMovieWrapperDTO.class);
-
-        if (!response.getStatusCode().is2xxSuccessful()
-                || response.getBody() == null) {
+        Optional<SearchMovieWrapperDTO> body = tmdbClient.fetchMoviePage(type, 1);
+        if (body.isEmpty()) {
             log.warn("[totalPages] 응답 실패 type={}", type);
             return 0;
         }
 
-        int totalPages = response.getBody().getTotalPages();
+        int totalPages = body.get().getTotalPages();
         if (totalPages <= 0) {
             log.warn("[totalPages] 비정상 totalPages={} type={}", totalPages, type);
             return 0;
@@ -4,11 +4,12 @@ import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.entity.MovieEmotionSummary;
 import com.insidemovie.backend.api.movie.repository.MovieEmotionSummaryRepository;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.api.recommend.dto.EmotionRequestDTO;
 import com.insidemovie.backend.api.recommend.dto.MovieRecommendationDTO;
 import com.insidemovie.backend.api.recommend.dto.MovieSimilarityResDto;
-import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +19,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -29,20 +30,22 @@ import java.util.List;
 public class EmotionRecommendationService {
 
     private final MovieEmotionSummaryRepository movieEmotionSummaryRepository;
-    private final ReviewRepository reviewRepository;
+    private final MovieRatingStatsService movieRatingStatsService;
     private final RestTemplate fastApiRestTemplate;
     private final MovieRepository movieRepository;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${spring.fastapi.url}")
     private String fastApiUrl;
 
     // 사용자의 감정 벡터를 기반으로 영화 추천 리스트 반환
     public List<MovieRecommendationDTO> recommendByEmotion(EmotionRequestDTO userEmotion) {
-        MovieSimilarityResDto[] responseArray = fastApiRestTemplate.postForObject(
-                fastApiUrl,
-                userEmotion,
-                MovieSimilarityResDto[].class
-        );
+        MovieSimilarityResDto[] responseArray = resilienceRegistry.guard("fastapi").call(() ->
+                fastApiRestTemplate.postForObject(
+                        fastApiUrl,
+                        userEmotion,
+                        MovieSimilarityResDto[].class
+                ));
 
         if (responseArray == null) {
             throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
@@ -50,6 +53,8 @@ public class EmotionRecommendationService {
 
         List<MovieSimilarityResDto> response = Arrays.asList(responseArray);
         List<MovieRecommendationDTO> recommends = new ArrayList<>();
+        Map<Long, BigDecimal> ratings = movieRatingStatsService.averages(
+                response.stream().map(MovieSimilarityResDto::getMovieId).toList());
 
         for (MovieSimilarityResDto recommendMovie : response) {
             Movie movie = movieRepository.findById(recommendMovie.getMovieId())
@@ -67,13 +72,7 @@ public class EmotionRecommendationService {
                 default -> 0;
             };
 
-            Double ratingAvg = reviewRepository.findAverageByMovieId(movieEmotion.getMovieId());
-            BigDecimal rounded;
-            if (ratingAvg == null || ratingAvg == 0.00) {
-                rounded = BigDecimal.ZERO.setScale(2);
-            } else {
-                rounded = BigDecimal.valueOf(ratingAvg).setScale(2, RoundingMode.HALF_UP);
-            }
+            BigDecimal rounded = ratings.get(movieEmotion.getMovieId());
 
             MovieRecommendationDTO dto = MovieRecommendationDTO.builder()
                     .movieId(movie.getId())
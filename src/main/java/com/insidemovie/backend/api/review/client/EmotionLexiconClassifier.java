@@ -0,0 +1,134 @@
+package com.insidemovie.backend.api.review.client;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 감정 사전 기반 간이 분류기 (모델 장애 / 지연 시 대체용).
+ * 본문에서 감정 어간("슬펐", "무섭" 등)을 찾아 가중치를 더하고, 모델과 같은 감정별 확률(합 1)로 돌려준다.
+ *  - 사전은 어간 첫 글자 → 어간 목록(길이 내림차순) 맵이라 위치마다 첫 글자가 같은 어간만 비교
+ *  - 같은 위치에서는 가장 긴 어간을 쓰고 그 뒤부터 이어서 찾음 ("재미없" 이 "재미" 보다 우선)
+ *  - 부정: 앞에 "안 / 못", 뒤에 "지 않 / 지 못" 이 붙으면 긍정은 실망(disgust)으로 돌리고 부정 감정은 버림
+ * 정확도는 모델보다 낮으므로 결과는 degraded 로 표시하고 모델이 회복되면 다시 분석한다.
+ */
+@Component
+public class EmotionLexiconClassifier {
+
+    private static final String[] EMOTIONS = {"joy", "sadness", "anger", "fear", "disgust"};
+    private static final int JOY = 0, SADNESS = 1, ANGER = 2, FEAR = 3, DISGUST = 4;
+
+    // 감정 단서가 적을 때 한 감정으로 쏠리지 않도록 더하는 값
+    private static final double PRIOR = 0.2;
+    private static final double NEGATED_JOY_TO_DISGUST = 0.7;
+
+    private static final String[] NEGATION_PREFIXES = {"안 ", "안", "못 ", "못"};
+    private static final String[] NEGATION_SUFFIXES = {"지 않", "지않", "지는 않", "지는않", "진 않", "지 못", "지못"};
+    private static final int NEGATION_SUFFIX_SPAN = 3;
+
+    private record Term(String stem, int emotion, float weight) {
+    }
+
+    private final Map<Character, List<Term>> lexicon = new HashMap<>();
+
+    public EmotionLexiconClassifier() {
+        List<Term> terms = new ArrayList<>();
+        add(terms, JOY, 1.0f, "재밌", "재미있", "재미났", "좋", "최고", "감동", "행복", "웃기",
+                "웃겼", "웃음", "즐겁", "즐거", "신나", "신났", "훌륭", "명작", "사랑", "추천", "만족", "유쾌", "설레",
+                "설렜", "따뜻", "기쁘", "기뻤", "꿀잼", "대박", "완벽", "멋지", "멋졌", "멋있", "힐링", "인생영화", "감탄");
+        add(terms, JOY, 0.3f, "ㅋㅋ", "ㅎㅎ");
+        add(terms, SADNESS, 1.0f, "슬프", "슬펐", "슬픔", "슬퍼", "눈물", "울었", "울컥", "울게", "먹먹", "아프", "아팠",
+                "안타깝", "안타까", "그립", "그리워", "외롭", "외로", "우울", "쓸쓸", "짠하", "짠했", "펑펑", "여운", "서글");
+        add(terms, SADNESS, 0.3f, "ㅠ", "ㅜ");
+        add(terms, ANGER, 1.0f, "화나", "화났", "화가", "짜증", "분노", "열받", "빡치", "빡쳤", "어이없", "어이가 없",
+                "최악", "돈아깝", "돈 아깝", "시간아깝", "시간 아깝", "억지", "답답", "욕나", "괘씸");
+        add(terms, FEAR, 1.0f, "무섭", "무서", "공포", "소름", "긴장", "섬뜩", "오싹", "깜짝", "불안", "두렵", "두려",
+                "끔찍", "쫄깃", "조마조마", "겁나", "겁났", "살벌");
+        add(terms, DISGUST, 1.0f, "역겹", "역겨", "혐오", "불쾌", "지루", "노잼", "재미없", "재미 없", "별로", "실망",
+                "유치", "뻔하", "뻔한", "뻔했", "졸렸", "졸려", "잔인", "징그럽", "징그러", "더럽", "찝찝", "거북");
+        for (Term term : terms) {
+            lexicon.computeIfAbsent(term.stem().charAt(0), c -> new ArrayList<>()).add(term);
+        }
+        lexicon.values().forEach(list -> list.sort(Comparator.comparingInt((Term t) -> t.stem().length()).reversed()));
+    }
+
+    /**
+     * 본문 → 감정별 확률 (키: joy / sadness / anger / fear / disgust, 합 1)
+     */
+    public Map<String, Double> classify(String text) {
+        double[] scores = new double[EMOTIONS.length];
+        if (text != null) {
+            int i = 0;
+            while (i < text.length()) {
+                Term term = match(text, i);
+                if (term == null) {
+                    i++;
+                    continue;
+                }
+                int end = i + term.stem().length();
+                if (negated(text, i, end)) {
+                    if (term.emotion() == JOY) {
+                        scores[DISGUST] += term.weight() * NEGATED_JOY_TO_DISGUST;
+                    }
+                } else {
+                    scores[term.emotion()] += term.weight();
+                }
+                i = end;
+            }
+        }
+
+        double total = 0;
+        for (int e = 0; e < scores.length; e++) {
+            scores[e] += PRIOR;
+            total += scores[e];
+        }
+        Map<String, Double> probabilities = new HashMap<>(8);
+        for (int e = 0; e < scores.length; e++) {
+            probabilities.put(EMOTIONS[e], scores[e] / total);
+        }
+        return probabilities;
+    }
+
+    // 해당 위치에서 시작하는 가장 긴 어간 (목록은 길이 내림차순)
+    private Term match(String text, int start) {
+        List<Term> candidates = lexicon.get(text.charAt(start));
+        if (candidates == null) {
+            return null;
+        }
+        for (Term term : candidates) {
+            if (text.startsWith(term.stem(), start)) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private boolean negated(String text, int start, int end) {
+        for (String prefix : NEGATION_PREFIXES) {
+            int from = start - prefix.length();
+            // "불안", "편안" 처럼 단어 중간의 "안" 은 부정이 아님
+            if (from >= 0 && text.startsWith(prefix, from)
+                    && (from == 0 || Character.isWhitespace(text.charAt(from - 1)))) {
+                return true;
+            }
+        }
+        for (int offset = 0; offset <= NEGATION_SUFFIX_SPAN && end + offset < text.length(); offset++) {
+            for (String suffix : NEGATION_SUFFIXES) {
+                if (text.startsWith(suffix, end + offset)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void add(List<Term> terms, int emotion, float weight, String... stems) {
+        for (String stem : stems) {
+            terms.add(new Term(stem, emotion, weight));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.insidemovie.backend.api.review.client;
+
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감정 분석 요청 마이크로 배칭.
+ * 동시에 들어온 본문을 최대 max-size 건 또는 첫 요청 후 max-wait 까지 모아 한 번의 /predict/batch 로 보내고,
+ * 결과를 순서대로 각 요청의 future 에 돌려준다.
+ *  - 전송은 senders(max-in-flight 스레드)에서 하고, 모두 전송 중이면 수집 스레드가 직접 보내며 대기(배압)
+ *  - 메트릭: emotion.predict.batch.size / emotion.predict.queue.delay / emotion.predict.batch.latency
+ *  - 배치가 요청 문제(429 외 4xx)로 거절되면 건별 /predict/overall_avg 로 다시 보내 문제 본문만 실패시킨다
+ *  - enabled=false 면 배칭 없이 건별 /predict/overall_avg 호출 (배치 엔드포인트가 없는 모델 서버용)
+ */
+@Slf4j
+@Component
+public class EmotionPredictBatcher {
+
+    private final EmotionPredictClient emotionPredictClient;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int maxInFlight;
+    private final BlockingQueue<Pending> queue;
+
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+    private final Timer batchLatency;
+
+    private ThreadPoolTaskExecutor senders;
+    private Thread collector;
+    private volatile boolean running;
+
+    private record Pending(String text, CompletableFuture<Map<String, Double>> future, long enqueuedNanos) {
+    }
+
+    public EmotionPredictBatcher(
+            EmotionPredictClient emotionPredictClient,
+            MeterRegistry meterRegistry,
+            @Value("${emotion.batch.enabled:true}") boolean enabled,
+            @Value("${emotion.batch.max-size:16}") int maxBatchSize,
+            @Value("${emotion.batch.max-wait:20ms}") Duration maxWait,
+            @Value("${emotion.batch.max-in-flight:2}") int maxInFlight,
+            @Value("${emotion.batch.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.emotionPredictClient = emotionPredictClient;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxInFlight = maxInFlight;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = DistributionSummary.builder("emotion.predict.batch.size")
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder("emotion.predict.queue.delay")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("emotion.predict.batch.latency")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        senders = new ThreadPoolTaskExecutor();
+        senders.setThreadNamePrefix("emotion-predict-");
+        senders.setCorePoolSize(maxInFlight);
+        senders.setMaxPoolSize(maxInFlight);
+        senders.setQueueCapacity(0);
+        senders.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        senders.setWaitForTasksToCompleteOnShutdown(true);
+        senders.setAwaitTerminationSeconds(30);
+        senders.initialize();
+
+        running = true;
+        collector = new Thread(this::collect, "emotion-batch-collector");
+        collector.setDaemon(true);
+        collector.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        collector.interrupt();
+        senders.shutdown();
+        List<Pending> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(p -> p.future().completeExceptionally(unavailable()));
+    }
+
+    /**
+     * 본문 하나의 감정 확률 (배치 전송 후 완료되는 future)
+     */
+    public CompletableFuture<Map<String, Double>> predict(String text) {
+        if (!enabled) {
+            return CompletableFuture.supplyAsync(() -> emotionPredictClient.predict(text), senders);
+        }
+        Pending pending = new Pending(text, new CompletableFuture<>(), System.nanoTime());
+        if (!running || !queue.offer(pending)) {
+            pending.future().completeExceptionally(unavailable());
+        }
+        return pending.future();
+    }
+
+    private void collect() {
+        while (running) {
+            try {
+                Pending first = queue.take();
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                // 대기 시간은 첫 요청이 들어온 시점부터 계산 (뒤에 온 요청 때문에 늘어나지 않음)
+                long deadline = first.enqueuedNanos() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                senders.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[감정 배치] 수집 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        long now = System.nanoTime();
+        batch.forEach(p -> queueDelay.record(now - p.enqueuedNanos(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+
+        List<String> texts = batch.stream().map(Pending::text).toList();
+        try {
+            List<Map<String, Double>> results = batchLatency.record(() -> emotionPredictClient.predictBatch(texts));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Exception e) {
+            if (batch.size() > 1 && EmotionPredictClient.isRejectedRequest(e)) {
+                // 한 본문 때문에 배치 전체가 거절됨(422 등) → 건별로 다시 보내 원인 본문만 실패시킴
+                log.warn("[감정 배치] {}건 배치 요청 거절 → 건별 재요청: {}", batch.size(), e.getMessage());
+                batch.forEach(this::sendOne);
+                return;
+            }
+            log.warn("[감정 배치] {}건 추론 실패: {}", batch.size(), e.getMessage());
+            batch.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+
+    private void sendOne(Pending pending) {
+        try {
+            pending.future().complete(emotionPredictClient.predict(pending.text()));
+        } catch (Exception e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private ExternalServiceException unavailable() {
+        return new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+    }
+}
@@ -0,0 +1,86 @@
+package com.insidemovie.backend.api.review.client;
+
+import com.insidemovie.backend.api.review.dto.PredictBatchRequestDTO;
+import com.insidemovie.backend.api.review.dto.PredictBatchResponseDTO;
+import com.insidemovie.backend.api.review.dto.PredictRequestDTO;
+import com.insidemovie.backend.api.review.dto.PredictResponseDTO;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI 감정 분석 모델 호출 (리뷰 본문 → 감정별 확률).
+ * 여러 리뷰를 한 번에 보내는 predictBatch 는 EmotionPredictBatcher 에서 사용한다.
+ * 호출은 "fastapi" ResilienceGuard 를 거치며, 차단 중이면 호출 없이 ExternalServiceException (작업은 재시도 대기).
+ */
+@Component
+@RequiredArgsConstructor
+public class EmotionPredictClient {
+
+    private final RestTemplate fastApiRestTemplate;
+    private final ResilienceRegistry resilienceRegistry;
+
+    public Map<String, Double> predict(String content) {
+        PredictResponseDTO response = post("/predict/overall_avg", new PredictRequestDTO(content),
+                PredictResponseDTO.class);
+        if (response == null || response.getProbabilities() == null) {
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        }
+        return response.getProbabilities();
+    }
+
+    /**
+     * 여러 본문을 한 번의 추론 요청으로 처리 (결과는 texts 순서)
+     */
+    public List<Map<String, Double>> predictBatch(List<String> texts) {
+        PredictBatchResponseDTO response = post("/predict/batch", new PredictBatchRequestDTO(texts),
+                PredictBatchResponseDTO.class);
+        if (response == null || response.getResults() == null || response.getResults().size() != texts.size()) {
+            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        }
+        return response.getResults().stream()
+                .map(r -> {
+                    if (r == null || r.getProbabilities() == null) {
+                        throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+                    }
+                    return r.getProbabilities();
+                })
+                .toList();
+    }
+
+    /**
+     * 모델 서버가 요청 자체를 거절했는지 (429 외 4xx, 예: 처리할 수 없는 본문에 422).
+     * 다시 보내도 같은 결과이므로 배치라면 건별로 나눠 원인 본문만 실패시킨다.
+     */
+    public static boolean isRejectedRequest(Throwable e) {
+        Throwable cause = e instanceof ExternalServiceException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof HttpClientErrorException && !ResilienceGuard.isDependencyFailure(cause);
+    }
+
+    /**
+     * 원래 예외(HttpStatusCodeException 등)가 guard 를 지나가야 4xx(422 등 요청 문제)를 장애로 세지 않으므로
+     * ExternalServiceException 변환은 guard 밖에서 한다 (원래 예외는 cause 로 남김).
+     */
+    private <T> T post(String path, Object request, Class<T> responseType) {
+        try {
+            return guard().call(() -> fastApiRestTemplate.postForObject(path, request, responseType));
+        } catch (RestClientException e) {
+            ExternalServiceException ex = new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    private ResilienceGuard guard() {
+        return resilienceRegistry.guard("fastapi");
+    }
+}
@@ -0,0 +1,60 @@
+package com.insidemovie.backend.api.review.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * review_like (review_id, member_id) 유니크 키 보장.
+ * 좋아요 일괄 반영(INSERT IGNORE)은 이 키가 있어야 중복 행을 만들지 않는데,
+ * ddl-auto: update 는 기존 중복 행이 있으면 키 추가에 실패하고 경고만 남기므로 기동 시 직접 정리 후 추가한다.
+ * 키가 이미 있으면 information_schema 조회만 수행하고, 끝내 키를 만들 수 없으면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "review.like.schema-migration-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReviewLikeSchemaMigration implements ApplicationRunner {
+
+    static final String UNIQUE_KEY = "uk_review_like_review_member";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (hasUniqueKey()) {
+            return;
+        }
+        try {
+            // 같은 (리뷰, 회원) 중 가장 먼저 생긴 행만 남김
+            int removed = jdbcTemplate.update("DELETE dup FROM review_like dup "
+                    + "JOIN review_like keep ON keep.review_id = dup.review_id AND keep.member_id = dup.member_id "
+                    + "AND keep.review_like_id < dup.review_like_id");
+            if (removed > 0) {
+                // 중복 행이 빠진 리뷰의 like_count 다시 계산
+                jdbcTemplate.update("UPDATE review r SET like_count = "
+                        + "(SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.review_id) "
+                        + "WHERE r.like_count <> (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.review_id)");
+            }
+            jdbcTemplate.execute("ALTER TABLE review_like ADD CONSTRAINT " + UNIQUE_KEY
+                    + " UNIQUE (review_id, member_id)");
+            log.info("[리뷰 좋아요 스키마] 중복 {}건 정리 후 {} 추가", removed, UNIQUE_KEY);
+        } catch (Exception e) {
+            log.error("[리뷰 좋아요 스키마] {} 추가 실패: {}", UNIQUE_KEY, e.getMessage(), e);
+        }
+        if (!hasUniqueKey()) {
+            throw new IllegalStateException("review_like 유니크 키(" + UNIQUE_KEY + ")가 없어 좋아요 반영을 시작할 수 없습니다.");
+        }
+    }
+
+    private boolean hasUniqueKey() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'review_like' "
+                + "AND INDEX_NAME = ? AND NON_UNIQUE = 0", Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+}
@@ -4,11 +4,13 @@ import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
 import com.insidemovie.backend.api.constant.ReviewSort;
 import com.insidemovie.backend.api.review.dto.*;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.review.dto.MyReviewResponseDTO;
 import com.insidemovie.backend.api.review.dto.ReviewCreateDTO;
 import com.insidemovie.backend.api.review.dto.ReviewResponseDTO;
 import com.insidemovie.backend.api.review.dto.ReviewUpdateDTO;
+import com.insidemovie.backend.api.review.service.EmotionAnalysisService;
 import com.insidemovie.backend.api.review.service.ReviewService;
 import com.insidemovie.backend.common.exception.ForbiddenException;
 import com.insidemovie.backend.common.exception.NotFoundException;
@@ -38,6 +40,7 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final MemberRepository memberRepository;
+    private final EmotionAnalysisService emotionAnalysisService;
 
     @Operation(
             summary = "리뷰 등록 API", description = "새로운 리뷰를 등록합니다.")
@@ -55,11 +58,7 @@ public class ReviewController {
             throw new ForbiddenException(ErrorStatus.USER_BANNED_EXCEPTION.getMessage());
         }
 
-        Long id = reviewService.createReview(movieId, reviewCreateDTO, userDetails.getUsername());
-
-        ReviewCreatedResponseDTO body = ReviewCreatedResponseDTO.builder()
-                .reviewId(id)
-                .build();
+        ReviewCreatedResponseDTO body = reviewService.createReview(movieId, reviewCreateDTO, userDetails.getUsername());
 
         return ApiResponse.success(SuccessStatus.CREATE_REVIEW_SUCCESS, body);
     }
@@ -71,10 +70,30 @@ public class ReviewController {
             @PathVariable Long movieId,
             @RequestParam(defaultValue = "LATEST") ReviewSort sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails
     ) {
         Pageable pageable = PageRequest.of(page, size, sort.toSort());
-        PageResDto<ReviewResponseDTO> reviewPage = reviewService.getReviewsByMovie(movieId, pageable);
+        String memberEmail = userDetails != null ? userDetails.getUsername() : null;
+        PageResDto<ReviewResponseDTO> reviewPage = reviewService.getReviewsByMovie(movieId, pageable, memberEmail);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_SUCCESS, reviewPage);
+    }
+
+    @Operation(
+            summary = "리뷰 목록 커서 조회 API",
+            description = "특정 영화에 대한 리뷰 목록을 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, 전체 개수는 제공하지 않습니다."
+    )
+    @GetMapping("/movies/{movieId}/reviews/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResDto<ReviewResponseDTO>>> getReviewsByMovieCursor(
+            @PathVariable Long movieId,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String memberEmail = userDetails != null ? userDetails.getUsername() : null;
+        CursorPageResDto<ReviewResponseDTO> reviewPage =
+                reviewService.getReviewsByMovieCursor(movieId, sort, cursor, size, memberEmail);
         return ApiResponse.success(SuccessStatus.SEND_REVIEW_SUCCESS, reviewPage);
     }
 
@@ -105,6 +124,16 @@ public class ReviewController {
         return ApiResponse.success_only(SuccessStatus.MODIFY_REVIEW_SUCCESS);
     }
 
+    @Operation(
+            summary = "리뷰 감정 분석 상태 조회 API",
+            description = "리뷰 작성 / 수정 후 비동기로 진행되는 감정 분석 상태(PENDING / DONE / FAILED)와 결과를 조회합니다."
+    )
+    @GetMapping("/reviews/{reviewId}/emotion")
+    public ResponseEntity<ApiResponse<ReviewEmotionStatusDTO>> getReviewEmotionStatus(@PathVariable Long reviewId) {
+        ReviewEmotionStatusDTO dto = emotionAnalysisService.getStatus(reviewId);
+        return ApiResponse.success(SuccessStatus.SEND_REVIEW_EMOTION_STATUS_SUCCESS, dto);
+    }
+
     @Operation(
             summary = "리뷰 삭제 API", description = "리뷰를 삭제 합니다.")
     @DeleteMapping("/reviews/{reviewId}")
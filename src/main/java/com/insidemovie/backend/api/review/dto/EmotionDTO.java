@@ -1,8 +1,11 @@
 package com.insidemovie.backend.api.review.dto;
 
+import com.insidemovie.backend.api.review.entity.Emotion;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 
@@ -13,4 +16,28 @@ public class EmotionDTO {
     private Double disgust;
     private Double sadness;
     private String repEmotion;
+    private boolean degraded;  // 모델 장애 중 사전 기반으로 낸 임시 결과 (모델 회복 후 갱신됨)
+
+    public static EmotionDTO fromEntity(Emotion e) {
+        Map<String, Double> probs = Map.of(
+                "anger", e.getAnger(),
+                "fear", e.getFear(),
+                "joy", e.getJoy(),
+                "disgust", e.getDisgust(),
+                "sadness", e.getSadness()
+        );
+        String rep = probs.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("disgust");
+        return EmotionDTO.builder()
+                .anger(probs.get("anger"))
+                .fear(probs.get("fear"))
+                .joy(probs.get("joy"))
+                .disgust(probs.get("disgust"))
+                .sadness(probs.get("sadness"))
+                .repEmotion(rep)
+                .degraded(e.isDegraded())
+                .build();
+    }
 }
@@ -0,0 +1,13 @@
+package com.insidemovie.backend.api.review.dto;
+
+import com.insidemovie.backend.api.review.entity.Emotion;
+
+/**
+ * 리뷰 감정 한 건의 값 (영화 감정 누적값에 더하거나 뺄 때 사용)
+ */
+public record EmotionVector(double joy, double sadness, double anger, double fear, double disgust) {
+
+    public static EmotionVector of(Emotion e) {
+        return new EmotionVector(e.getJoy(), e.getSadness(), e.getAnger(), e.getFear(), e.getDisgust());
+    }
+}
@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PredictBatchRequestDTO {
+    private List<String> texts;
+}
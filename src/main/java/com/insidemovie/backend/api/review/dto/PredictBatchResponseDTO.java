@@ -0,0 +1,12 @@
+package com.insidemovie.backend.api.review.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PredictBatchResponseDTO {
+    private List<PredictResponseDTO> results;  // 요청 texts 와 같은 순서
+}
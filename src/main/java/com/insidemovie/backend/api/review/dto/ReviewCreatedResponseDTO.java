@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.review.dto;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,4 +9,5 @@ import lombok.Getter;
 public class ReviewCreatedResponseDTO {
 
     private Long reviewId;
+    private EmotionStatus emotionStatus;  // 보통 PENDING (감정 분석은 비동기), 같은 본문의 결과가 캐시에 있으면 DONE
 }
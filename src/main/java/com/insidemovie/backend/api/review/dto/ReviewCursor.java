@@ -0,0 +1,43 @@
+package com.insidemovie.backend.api.review.dto;
+
+import com.insidemovie.backend.api.constant.ReviewSort;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.common.exception.BadRequestException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 리뷰 커서 페이지네이션 위치 (이전 페이지 마지막 리뷰의 정렬 키)
+ * 클라이언트에는 정렬 기준까지 포함해 Base64 로 인코딩한 불투명 문자열로 전달한다.
+ */
+public record ReviewCursor(ReviewSort sort, long likeCount, LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static ReviewCursor of(ReviewSort sort, Review last) {
+        return new ReviewCursor(sort, last.getLikeCount(), last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort.name(), String.valueOf(likeCount), createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만든 커서는 위치가 맞지 않으므로 거부
+    public static ReviewCursor decode(String value, ReviewSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4 || ReviewSort.valueOf(parts[0]) != sort) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ReviewCursor(sort, Long.parseLong(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.insidemovie.backend.api.review.dto;
+
+import com.insidemovie.backend.api.constant.EmotionStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReviewEmotionStatusDTO {
+
+    private Long reviewId;
+    private EmotionStatus status;  // PENDING / DONE / FAILED
+    private EmotionDTO emotion;    // DONE 일 때만 값이 있음
+}
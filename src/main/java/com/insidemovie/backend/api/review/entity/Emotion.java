@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Entity
 @Builder
 @Getter
@@ -25,7 +27,28 @@ public class Emotion {
     private double fear;
     private double disgust;
 
+    // 모델 대신 사전 기반 분류기로 낸 임시 결과 (모델 회복 후 재분석 대상)
+    @Column(nullable = false)
+    private boolean degraded;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "review_id", nullable = false, unique = true)
     private Review review;
+
+    // 모델 응답(감정별 확률)으로 생성
+    public static Emotion of(Review review, Map<String, Double> probabilities, boolean degraded) {
+        Emotion emotion = Emotion.builder().review(review).build();
+        emotion.update(probabilities, degraded);
+        return emotion;
+    }
+
+    // 리뷰 수정 후 재분석 / 임시 결과 재분석 결과 반영
+    public void update(Map<String, Double> probabilities, boolean degraded) {
+        this.degraded = degraded;
+        this.joy = probabilities.getOrDefault("joy", 0.0);
+        this.sadness = probabilities.getOrDefault("sadness", 0.0);
+        this.anger = probabilities.getOrDefault("anger", 0.0);
+        this.fear = probabilities.getOrDefault("fear", 0.0);
+        this.disgust = probabilities.getOrDefault("disgust", 0.0);
+    }
 }
@@ -0,0 +1,54 @@
+package com.insidemovie.backend.api.review.entity;
+
+import com.insidemovie.backend.api.constant.EmotionTaskStatus;
+import com.insidemovie.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 감정 분석 작업 큐 (테이블 기반 outbox).
+ * 리뷰 작성 / 수정 트랜잭션 안에서 리뷰당 한 행을 넣고(또는 다시 대기 상태로 돌리고),
+ * EmotionAnalysisWorker 가 SKIP LOCKED 로 가져가 처리한다. 성공하면 행을 지운다.
+ * 쓰기는 EmotionTaskJdbcRepository 에서만 하고, 엔티티는 테이블 생성 / 조회용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "emotion_analysis_task",
+    uniqueConstraints = @UniqueConstraint(name = "uk_emotion_task_review", columnNames = "review_id"),
+    indexes = @Index(name = "idx_emotion_task_status_next", columnList = "status, next_attempt_at")
+)
+public class EmotionAnalysisTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_id")
+    private Long id;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private EmotionTaskStatus status;
+
+    @Column(name = "revision", nullable = false)
+    private int revision;               // 리뷰 수정마다 증가 (처리 중 수정되면 이전 결과는 버림)
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;               // 현재 revision 기준 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;  // PROCESSING 임대 만료 시각 (워커 중단 대비)
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,44 @@
+package com.insidemovie.backend.api.review.entity;
+
+import com.insidemovie.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 모델 추론 결과 캐시 (정규화한 리뷰 본문의 해시 → 감정별 확률).
+ * 같은 본문("재밌어요", "최고" 등)은 모델을 다시 호출하지 않고 이 값을 쓴다. 재기동 후에도 유지된다.
+ * 쓰기는 EmotionInferenceCacheJdbcRepository 에서만 하고, 엔티티는 테이블 생성용이다.
+ * 현재 모델 버전이 아닌 행과 오래 쓰이지 않은 행은 EmotionRescoreScheduler 가 주기적으로 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "emotion_inference_cache",
+    indexes = @Index(name = "idx_emotion_cache_last_used", columnList = "last_used_at")
+)
+public class EmotionInferenceCacheEntry extends BaseTimeEntity {
+
+    // SHA-256 hex (모델 버전 + 정규화 본문)
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private double joy;
+    private double sadness;
+    private double anger;
+    private double fear;
+    private double disgust;
+
+    // 결과를 낸 모델 버전 (emotion.cache.version, 컬럼 추가 전 행은 null)
+    @Column(name = "model_version", length = 32)
+    private String modelVersion;
+
+    // 마지막으로 캐시 적중한 시각 (하루 단위로만 갱신, 컬럼 추가 전 행은 null → updated_at 기준)
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+}
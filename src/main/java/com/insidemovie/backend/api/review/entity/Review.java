@@ -1,5 +1,6 @@
 package com.insidemovie.backend.api.review.entity;
 
+import com.insidemovie.backend.api.constant.EmotionStatus;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.report.entity.Report;
@@ -14,7 +15,11 @@ import java.util.List;
 @Entity
 @Builder
 @Getter
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        // 영화별 리뷰 커서 조회: LATEST / OLDEST (정방향 / 역방향 스캔), POPULAR
+        @Index(name = "idx_review_movie_created", columnList = "movie_id, is_concealed, created_at, review_id"),
+        @Index(name = "idx_review_movie_popular", columnList = "movie_id, is_concealed, like_count, created_at, review_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Review extends BaseTimeEntity {
@@ -42,6 +47,10 @@ public class Review extends BaseTimeEntity {
     @Column(name = "is_concealed", nullable = false)
     private boolean isConcealed = false;  // 삭제여부
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "emotion_status", length = 20)
+    private EmotionStatus emotionStatus;  // 감정 분석 상태 (null: 비동기 분석 도입 이전 리뷰)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -68,6 +77,25 @@ public class Review extends BaseTimeEntity {
         this.watchedAt = watchedAt;
     }
 
+    // 비동기 분석 도입 이전 리뷰는 작성 시점에 분석이 끝난 것으로 취급
+    public EmotionStatus getEmotionStatus() {
+        return emotionStatus != null ? emotionStatus : EmotionStatus.DONE;
+    }
+
+    // 감정 분석 작업 적재 시 호출
+    public void markEmotionPending() {
+        this.emotionStatus = EmotionStatus.PENDING;
+    }
+
+    public void markEmotionDone() {
+        this.emotionStatus = EmotionStatus.DONE;
+    }
+
+    // 재시도 한도 초과
+    public void markEmotionFailed() {
+        this.emotionStatus = EmotionStatus.FAILED;
+    }
+
     // 신고가 등록되면 호출
     public void markReported() {
         this.isReported = true;
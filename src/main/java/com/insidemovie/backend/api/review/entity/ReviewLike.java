@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Builder
 @Getter
-@Table(name = "review_like")
+@Table(name = "review_like", uniqueConstraints = @UniqueConstraint(
+        name = "uk_review_like_review_member", columnNames = {"review_id", "member_id"}))  // 좋아요 일괄 반영(INSERT IGNORE) 기준
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReviewLike {
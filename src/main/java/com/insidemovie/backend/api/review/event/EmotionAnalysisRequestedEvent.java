@@ -0,0 +1,7 @@
+package com.insidemovie.backend.api.review.event;
+
+/**
+ * 리뷰 작성 / 수정으로 감정 분석 작업이 큐에 들어갔음을 알림 (커밋 후 워커를 바로 깨우는 용도)
+ */
+public record EmotionAnalysisRequestedEvent(Long reviewId) {
+}
@@ -0,0 +1,78 @@
+package com.insidemovie.backend.api.review.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * emotion_inference_cache 조회 / 저장 (JDBC).
+ * 같은 본문이 동시에 분석되어도 content_hash 기준 INSERT ... ON DUPLICATE KEY UPDATE 라 한 행만 남는다.
+ * 정리용 삭제는 LIMIT 단위로 나눠 한 번에 긴 잠금을 잡지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmotionInferenceCacheJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Map<String, Double>> find(String contentHash) {
+        List<Map<String, Double>> rows = jdbcTemplate.query(
+                "SELECT joy, sadness, anger, fear, disgust FROM emotion_inference_cache WHERE content_hash = ?",
+                (rs, i) -> Map.of(
+                        "joy", rs.getDouble("joy"),
+                        "sadness", rs.getDouble("sadness"),
+                        "anger", rs.getDouble("anger"),
+                        "fear", rs.getDouble("fear"),
+                        "disgust", rs.getDouble("disgust")
+                ),
+                contentHash);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 캐시 적중 기록 (정리 대상에서 빠지도록 last_used_at 갱신)
+     */
+    public void touch(String contentHash, String modelVersion) {
+        jdbcTemplate.update("UPDATE emotion_inference_cache SET last_used_at = NOW(6), model_version = ? "
+                        + "WHERE content_hash = ?",
+                modelVersion, contentHash);
+    }
+
+    public void save(String contentHash, String modelVersion, Map<String, Double> probabilities) {
+        jdbcTemplate.update("INSERT INTO emotion_inference_cache "
+                        + "(content_hash, joy, sadness, anger, fear, disgust, model_version, last_used_at, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6), NOW(6)) "
+                        + "ON DUPLICATE KEY UPDATE joy = VALUES(joy), sadness = VALUES(sadness), anger = VALUES(anger), "
+                        + "fear = VALUES(fear), disgust = VALUES(disgust), model_version = VALUES(model_version), "
+                        + "last_used_at = NOW(6), updated_at = NOW(6)",
+                contentHash,
+                probabilities.getOrDefault("joy", 0.0),
+                probabilities.getOrDefault("sadness", 0.0),
+                probabilities.getOrDefault("anger", 0.0),
+                probabilities.getOrDefault("fear", 0.0),
+                probabilities.getOrDefault("disgust", 0.0),
+                modelVersion);
+    }
+
+    /**
+     * 다른 모델 버전의 결과 삭제 (버전이 기록되지 않은 이전 행은 deleteUnusedFor 가 정리)
+     */
+    public int deleteOtherVersions(String modelVersion, int limit) {
+        return jdbcTemplate.update("DELETE FROM emotion_inference_cache WHERE model_version <> ? LIMIT ?",
+                modelVersion, limit);
+    }
+
+    /**
+     * days 일 동안 쓰이지 않은 결과 삭제 (기준 시각은 NOW(6) 과 같은 DB 시계로 계산)
+     */
+    public int deleteUnusedFor(int days, int limit) {
+        return jdbcTemplate.update("DELETE FROM emotion_inference_cache "
+                        + "WHERE last_used_at < NOW(6) - INTERVAL ? DAY "
+                        + "OR (last_used_at IS NULL AND updated_at < NOW(6) - INTERVAL ? DAY) LIMIT ?",
+                days, days, limit);
+    }
+}
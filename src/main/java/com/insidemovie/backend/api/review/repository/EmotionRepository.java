@@ -1,6 +1,7 @@
 package com.insidemovie.backend.api.review.repository;
 
 import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
+import com.insidemovie.backend.api.member.dto.emotion.EmotionSumDTO;
 import com.insidemovie.backend.api.review.entity.Emotion;
 import com.insidemovie.backend.api.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -30,19 +31,22 @@ public interface EmotionRepository extends JpaRepository<Emotion, Long> {
     """)
     Optional<EmotionAvgDTO> findAverageEmotionsByMemberId(@Param("memberId") Long memberId);
 
-    // 영화의 모든 리뷰 감정의 평균값 계산
+    // 영화의 모든 리뷰 감정 합계 / 개수 (movie_emotion_summary 누적값 초기화 / 검증용)
     @Query("""
-        SELECT new com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO(
-            COALESCE(AVG(e.joy), 0.0),
-            COALESCE(AVG(e.sadness), 0.0),
-            COALESCE(AVG(e.anger), 0.0),
-            COALESCE(AVG(e.fear), 0.0),
-            COALESCE(AVG(e.disgust), 0.0)
+        SELECT new com.insidemovie.backend.api.member.dto.emotion.EmotionSumDTO(
+            e.review.movie.id,
+            COUNT(e),
+            COALESCE(SUM(e.joy), 0.0),
+            COALESCE(SUM(e.sadness), 0.0),
+            COALESCE(SUM(e.anger), 0.0),
+            COALESCE(SUM(e.fear), 0.0),
+            COALESCE(SUM(e.disgust), 0.0)
         )
         FROM Emotion e
         WHERE e.review.movie.id = :movieId
+        GROUP BY e.review.movie.id
     """)
-    Optional<EmotionAvgDTO> findAverageEmotionsByMovieId(@Param("movieId") Long movieId);
+    Optional<EmotionSumDTO> findSumsByMovieId(@Param("movieId") Long movieId);
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM Emotion e WHERE e.review = :review")
@@ -0,0 +1,122 @@
+package com.insidemovie.backend.api.review.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * emotion_analysis_task 큐 조작 (JDBC).
+ *  - 적재: review_id 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE (수정 시 revision 증가 후 다시 대기)
+ *  - 가져가기: FOR UPDATE SKIP LOCKED 로 다른 워커 / 인스턴스가 잡은 행은 건너뜀
+ *  - 재분석: 임시(degraded) 결과로 끝난 리뷰를 모델 회복 후 다시 적재
+ *  - 완료 / 재시도 / 폐기: 가져갈 때의 revision 과 같을 때만 반영 (처리 중 리뷰가 수정되면 무시)
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmotionTaskJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 워커가 가져간 작업 (attempts 는 이번 시도를 포함한 횟수)
+     */
+    public record ClaimedTask(Long taskId, Long reviewId, int revision, int attempts) {
+    }
+
+    public void enqueue(Long reviewId) {
+        jdbcTemplate.update("INSERT INTO emotion_analysis_task "
+                + "(review_id, status, revision, attempts, next_attempt_at, created_at, updated_at) "
+                + "VALUES (?, 'PENDING', 0, 0, NOW(6), NOW(6), NOW(6)) "
+                + "ON DUPLICATE KEY UPDATE status = 'PENDING', revision = revision + 1, attempts = 0, "
+                + "next_attempt_at = NOW(6), locked_until = NULL, last_error = NULL, updated_at = NOW(6)", reviewId);
+    }
+
+    /**
+     * 처리할 차례인 작업을 limit 건까지 PROCESSING 으로 바꾸고 반환.
+     * 임대(lease)가 끝난 PROCESSING 행은 워커가 중단된 것으로 보고 다시 가져간다.
+     */
+    @Transactional
+    public List<ClaimedTask> claim(int limit, Duration lease) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT task_id FROM emotion_analysis_task "
+                + "WHERE (status = 'PENDING' AND next_attempt_at <= NOW(6)) "
+                + "OR (status = 'PROCESSING' AND locked_until <= NOW(6)) "
+                + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED", Long.class, limit);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String in = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = lease.toSeconds();
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update("UPDATE emotion_analysis_task SET status = 'PROCESSING', attempts = attempts + 1, "
+                + "locked_until = DATE_ADD(NOW(6), INTERVAL ? SECOND), updated_at = NOW(6) "
+                + "WHERE task_id IN (" + in + ")", args);
+        return jdbcTemplate.query("SELECT task_id, review_id, revision, attempts FROM emotion_analysis_task "
+                        + "WHERE task_id IN (" + in + ")",
+                (rs, i) -> new ClaimedTask(rs.getLong("task_id"), rs.getLong("review_id"),
+                        rs.getInt("revision"), rs.getInt("attempts")),
+                ids.toArray());
+    }
+
+    /**
+     * 처리 완료 → 행 삭제 (0 이면 처리 중 리뷰가 수정 / 삭제된 것)
+     */
+    public int complete(ClaimedTask task) {
+        return jdbcTemplate.update("DELETE FROM emotion_analysis_task WHERE task_id = ? AND revision = ?",
+                task.taskId(), task.revision());
+    }
+
+    public int retryLater(ClaimedTask task, Duration delay, String error) {
+        return jdbcTemplate.update("UPDATE emotion_analysis_task SET status = 'PENDING', "
+                        + "next_attempt_at = DATE_ADD(NOW(6), INTERVAL ? SECOND), locked_until = NULL, "
+                        + "last_error = ?, updated_at = NOW(6) WHERE task_id = ? AND revision = ?",
+                delay.toSeconds(), truncate(error), task.taskId(), task.revision());
+    }
+
+    public int deadLetter(ClaimedTask task, String error) {
+        return jdbcTemplate.update("UPDATE emotion_analysis_task SET status = 'DEAD', locked_until = NULL, "
+                        + "last_error = ?, updated_at = NOW(6) WHERE task_id = ? AND revision = ?",
+                truncate(error), task.taskId(), task.revision());
+    }
+
+    /**
+     * DEAD 작업 전체를 다시 대기 상태로 (리뷰 상태도 PENDING 으로 되돌림)
+     */
+    public int requeueDead() {
+        jdbcTemplate.update("UPDATE review r JOIN emotion_analysis_task t ON t.review_id = r.review_id "
+                + "SET r.emotion_status = 'PENDING' WHERE t.status = 'DEAD'");
+        return jdbcTemplate.update("UPDATE emotion_analysis_task SET status = 'PENDING', attempts = 0, "
+                + "next_attempt_at = NOW(6), last_error = NULL, updated_at = NOW(6) WHERE status = 'DEAD'");
+    }
+
+    /**
+     * 임시(degraded) 감정 결과가 저장된 리뷰 중 대기 작업이 없는 것을 limit 건까지 적재
+     */
+    public int enqueueDegraded(int limit) {
+        return jdbcTemplate.update("INSERT IGNORE INTO emotion_analysis_task "
+                + "(review_id, status, revision, attempts, next_attempt_at, created_at, updated_at) "
+                + "SELECT e.review_id, 'PENDING', 0, 0, NOW(6), NOW(6), NOW(6) FROM emotion e "
+                + "WHERE e.degraded = TRUE AND NOT EXISTS "
+                + "(SELECT 1 FROM emotion_analysis_task t WHERE t.review_id = e.review_id) "
+                + "ORDER BY e.emotion_id LIMIT ?", limit);
+    }
+
+    public void deleteByReviewId(Long reviewId) {
+        jdbcTemplate.update("DELETE FROM emotion_analysis_task WHERE review_id = ?", reviewId);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,55 @@
+package com.insidemovie.backend.api.review.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 모아 둔 리뷰 좋아요 토글 일괄 반영 (JDBC).
+ * review_like 는 (review_id, member_id) 유니크 키 기준 INSERT IGNORE / DELETE 라 같은 변경을 다시 적용해도 결과가 같고,
+ * review.like_count 는 증감 대신 review_like 행 수로 다시 세어 행과 어긋나지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewLikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LikeChange(Long reviewId, Long memberId, boolean liked) {
+    }
+
+    @Transactional
+    public void apply(List<LikeChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<LikeChange> likes = changes.stream().filter(LikeChange::liked).toList();
+        List<LikeChange> unlikes = changes.stream().filter(c -> !c.liked()).toList();
+
+        if (!likes.isEmpty()) {
+            // 그 사이 삭제된 리뷰(FK 위반)는 IGNORE 로 건너뜀
+            jdbcTemplate.batchUpdate("INSERT IGNORE INTO review_like (review_id, member_id) VALUES (?, ?)",
+                    likes, likes.size(), (ps, c) -> {
+                        ps.setLong(1, c.reviewId());
+                        ps.setLong(2, c.memberId());
+                    });
+        }
+        if (!unlikes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM review_like WHERE review_id = ? AND member_id = ?",
+                    unlikes, unlikes.size(), (ps, c) -> {
+                        ps.setLong(1, c.reviewId());
+                        ps.setLong(2, c.memberId());
+                    });
+        }
+
+        // 리뷰 행 잠금 순서를 고정해 동시 반영 시 교착 방지
+        List<Long> reviewIds = changes.stream().map(LikeChange::reviewId).distinct().sorted().toList();
+        jdbcTemplate.batchUpdate("UPDATE review r SET like_count = "
+                        + "(SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.review_id) "
+                        + "WHERE r.review_id = ?",
+                reviewIds, reviewIds.size(), (ps, id) -> ps.setLong(1, id));
+    }
+}
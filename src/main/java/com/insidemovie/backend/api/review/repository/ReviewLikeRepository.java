@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
@@ -14,6 +16,10 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     // 사용자가 해당 리뷰에 좋아요를 눌렀는지 확인
     boolean existsByReview_IdAndMember_Id(Long reviewId, Long memberId);
 
+    // 주어진 리뷰 중 사용자가 좋아요를 누른 리뷰 ID (리뷰 목록 일괄 조회용)
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.member.id = :memberId AND rl.review.id IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("memberId") Long memberId, @Param("reviewIds") Collection<Long> reviewIds);
+
     // 리뷰에 대한 좋아요 상태 체크
     Optional<ReviewLike> findByReview_IdAndMember_Id(Long reviewId, Long memberId);
 
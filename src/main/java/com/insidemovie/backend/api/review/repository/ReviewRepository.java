@@ -4,13 +4,14 @@ import com.insidemovie.backend.api.member.dto.emotion.EmotionAvgDTO;
 import com.insidemovie.backend.api.member.entity.Member;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.review.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,31 +25,68 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 특정 회원이 특정 영화에 작성한 리뷰 (중복 방지)
     Optional<Review> findByMemberAndMovie(Member member, Movie movie);
 
-    // 특정 회원이 작성한 리뷰 목록을 페이징하여 조회
+    // 특정 회원이 작성한 리뷰 목록을 페이징하여 조회 (작성자 / 감정은 같은 쿼리로 로딩)
+    // Member.emotionSummary 는 mappedBy 쪽 OneToOne 이라 지연 로딩이 안 되므로 그래프에 넣어야 작성자마다 SELECT 가 더 나가지 않음
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
     Page<Review> findByMember(Member member, Pageable pageable);
 
     // 내 리뷰 제외
     Page<Review> findByMovieAndIdNot(Movie movie, Long id, Pageable pageable);
 
-    // 리뷰 목록에서 숨김 리뷰 제외하고 조회
+    // 리뷰 목록에서 숨김 리뷰 제외하고 조회 (작성자 / 감정은 같은 쿼리로 로딩)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
     Page<Review> findByMovieAndIsConcealedFalse(Movie movie, Pageable pageable);
     Page<Review> findByMovieAndIdNotAndIsConcealedFalse(Movie movie, Long id, Pageable pageable);
 
+    // 커서 페이지네이션 첫 페이지 (COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    List<Review> findByMovie_IdAndIsConcealedFalse(Long movieId, Sort sort, Limit limit);
 
-    // 특정 회원이 작성한 리뷰 개수를 반환
-    long countByMember(Member member);
+    // 커서 이후 리뷰: 최신순 (idx_review_movie_created 역방향)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie.id = :movieId AND r.isConcealed = false
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<Review> findLatestAfter(@Param("movieId") Long movieId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Limit limit);
 
-    // 리뷰 좋아요 수 증가
-    @Modifying
-    @Transactional
-    @Query("UPDATE Review r SET r.likeCount = r.likeCount + 1 WHERE r.id = :reviewId")
-    void incrementLikeCount(@Param("reviewId") Long reviewId);
+    // 커서 이후 리뷰: 오래된순 (idx_review_movie_created 정방향)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie.id = :movieId AND r.isConcealed = false
+          AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+        ORDER BY r.createdAt ASC, r.id ASC
+    """)
+    List<Review> findOldestAfter(@Param("movieId") Long movieId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Limit limit);
 
-    // 리뷰 좋아요 수 감소
-    @Modifying
-    @Transactional
-    @Query("UPDATE Review r SET r.likeCount = CASE WHEN r.likeCount > 0 THEN r.likeCount - 1 ELSE 0 END WHERE r.id = :reviewId")
-    void decrementLikeCount(@Param("reviewId") Long reviewId);
+    // 커서 이후 리뷰: 좋아요순 (idx_review_movie_popular 역방향)
+    @EntityGraph(attributePaths = {"member", "member.emotionSummary", "emotion"})
+    @Query("""
+        SELECT r FROM Review r
+        WHERE r.movie.id = :movieId AND r.isConcealed = false
+          AND (r.likeCount < :likeCount
+               OR (r.likeCount = :likeCount AND r.createdAt < :createdAt)
+               OR (r.likeCount = :likeCount AND r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.likeCount DESC, r.createdAt DESC, r.id DESC
+    """)
+    List<Review> findPopularAfter(@Param("movieId") Long movieId,
+                                  @Param("likeCount") long likeCount,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+
+    // 특정 회원이 작성한 리뷰 개수를 반환
+    long countByMember(Member member);
 
     // 숨김 처리된 리뷰 수
     long countByIsConcealedTrue();
@@ -78,8 +116,14 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Object[]> countReviewsMonthly(@Param("start") LocalDateTime start,
                                        @Param("end") LocalDateTime end);
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.movie.id =:movieId")
-    Double findAverageByMovieId(@Param("movieId") Long movieId);
+    // 영화 평점의 0.5점 구간별 개수 / 합계: [구간(평점 × 2), count, sum] (movie_rating_stats 초기화 / 보정용)
+    @Query("""
+        SELECT ROUND(r.rating * 2), COUNT(r), SUM(r.rating)
+        FROM Review r
+        WHERE r.movie.id = :movieId
+        GROUP BY ROUND(r.rating * 2)
+    """)
+    List<Object[]> findRatingHistogramByMovieId(@Param("movieId") Long movieId);
 
     /**
      * 특정 영화에 달린 모든 리뷰의 감정 점수를 평균 내고,
@@ -0,0 +1,63 @@
+package com.insidemovie.backend.api.review.scheduler;
+
+import com.insidemovie.backend.api.review.service.EmotionAnalysisService;
+import com.insidemovie.backend.api.review.service.EmotionInferenceCache;
+import com.insidemovie.backend.common.resilience.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모델 장애 중 사전 기반 분류기로 낸 임시(degraded) 감정 결과를 모델이 회복되면 다시 분석.
+ * 차단기가 CLOSED 일 때만 주기마다 batch-size 건씩 적재하므로 회복 직후 모델에 요청이 몰리지 않는다.
+ * 매일 한 번 추론 결과 캐시 테이블에서 현재 모델 버전이 아닌 행과 unused-days 동안 쓰이지 않은 행도 정리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "emotion.rescore-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class EmotionRescoreScheduler {
+
+    private final EmotionAnalysisService emotionAnalysisService;
+    private final CircuitBreaker emotionModelCircuitBreaker;
+    private final EmotionInferenceCache emotionInferenceCache;
+
+    @Value("${emotion.rescore.batch-size:100}")
+    private int batchSize;
+
+    @Value("${emotion.cache.unused-days:30}")
+    private int cacheUnusedDays;
+
+    @Value("${emotion.cache.cleanup-batch-size:1000}")
+    private int cacheCleanupBatchSize;
+
+    @Scheduled(fixedDelayString = "${emotion.rescore.delay-ms:60000}", initialDelay = 30_000)
+    public void rescoreDegraded() {
+        if (emotionModelCircuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        try {
+            int queued = emotionAnalysisService.requeueDegraded(batchSize);
+            if (queued > 0) {
+                log.info("[감정 분석] 임시 결과 {}건 재분석 적재", queued);
+            }
+        } catch (Exception e) {
+            log.error("[감정 분석] 임시 결과 재분석 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${scheduler.cron.emotion_cache_cleanup}", zone = "${scheduler.zone}")
+    public void evictInferenceCache() {
+        try {
+            int removed = emotionInferenceCache.evict(cacheUnusedDays, cacheCleanupBatchSize);
+            if (removed > 0) {
+                log.info("[감정 캐시] 이전 모델 버전 / {}일 미사용 결과 {}건 삭제", cacheUnusedDays, removed);
+            }
+        } catch (Exception e) {
+            log.error("[감정 캐시] 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
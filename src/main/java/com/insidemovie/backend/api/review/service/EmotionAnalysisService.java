@@ -0,0 +1,153 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.EmotionStatus;
+import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
+import com.insidemovie.backend.api.review.dto.EmotionDTO;
+import com.insidemovie.backend.api.review.dto.EmotionVector;
+import com.insidemovie.backend.api.review.dto.ReviewEmotionStatusDTO;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.event.EmotionAnalysisRequestedEvent;
+import com.insidemovie.backend.api.review.repository.EmotionRepository;
+import com.insidemovie.backend.api.review.repository.EmotionTaskJdbcRepository;
+import com.insidemovie.backend.api.review.repository.EmotionTaskJdbcRepository.ClaimedTask;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.common.exception.NotFoundException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 리뷰 감정 분석 작업의 적재 / 결과 반영 / 실패 처리.
+ * 모델 호출은 EmotionAnalysisWorker 가 트랜잭션 밖에서 하고, 여기서는 DB 반영만 짧은 트랜잭션으로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionAnalysisService {
+
+    private final EmotionTaskJdbcRepository taskRepository;
+    private final ReviewRepository reviewRepository;
+    private final EmotionRepository emotionRepository;
+    private final MovieEmotionSummaryService movieEmotionSummaryService;
+    private final EmotionInferenceCache emotionInferenceCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${emotion.analysis.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${emotion.analysis.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${emotion.analysis.max-retry-delay:30m}")
+    private Duration maxRetryDelay;
+
+    /**
+     * 리뷰 작성 / 수정 트랜잭션 안에서 호출 (리뷰와 함께 커밋되어야 작업이 유실되지 않음)
+     * 같은 본문의 추론 결과가 캐시에 있으면 모델 호출 없이 바로 반영한다 (리뷰는 DONE)
+     */
+    @Transactional
+    public void enqueue(Review review) {
+        Map<String, Double> cached = emotionInferenceCache.get(review.getContent()).orElse(null);
+        if (cached != null) {
+            // 이전 본문으로 대기 / 처리 중인 작업은 지워서 늦게 도착한 결과가 덮어쓰지 않게 함
+            taskRepository.deleteByReviewId(review.getId());
+            apply(review, cached, false);
+            return;
+        }
+        review.markEmotionPending();
+        taskRepository.enqueue(review.getId());
+        eventPublisher.publishEvent(new EmotionAnalysisRequestedEvent(review.getId()));
+    }
+
+    /**
+     * 모델 결과 저장 + 리뷰 상태 완료 + 영화 감정 요약 재계산
+     * degraded: 모델 대신 사전 기반 분류기 결과 (emotion.degraded 로 표시, 모델 회복 후 requeueDegraded 로 재분석)
+     */
+    @Transactional
+    public void complete(ClaimedTask task, Map<String, Double> probabilities, boolean degraded) {
+        // 처리 중 수정되었으면 새 revision 작업이 다시 분석하므로 이번 결과는 버림
+        if (taskRepository.complete(task) == 0) {
+            log.info("[감정 분석] reviewId={} 처리 중 변경됨 → 결과 무시", task.reviewId());
+            return;
+        }
+        reviewRepository.findById(task.reviewId()).ifPresent(review -> apply(review, probabilities, degraded));
+    }
+
+    private void apply(Review review, Map<String, Double> probabilities, boolean degraded) {
+        // 수정 후 재분석이면 이전 값을 빼고 새 값을 더함
+        Emotion emotion = emotionRepository.findByReviewId(review.getId()).orElse(null);
+        EmotionVector removed = emotion != null ? EmotionVector.of(emotion) : null;
+        if (emotion != null) {
+            emotion.update(probabilities, degraded);
+        } else {
+            emotion = emotionRepository.save(Emotion.of(review, probabilities, degraded));
+        }
+        review.markEmotionDone();
+
+        movieEmotionSummaryService.applyDelta(review.getMovie().getId(), removed, EmotionVector.of(emotion));
+    }
+
+    /**
+     * 실패 처리: 재시도 한도 전이면 지수 백오프로 다시 대기, 넘으면 DEAD 로 보관하고 리뷰를 FAILED 로 표시
+     */
+    @Transactional
+    public void fail(ClaimedTask task, String error) {
+        if (task.attempts() >= maxAttempts) {
+            if (taskRepository.deadLetter(task, error) > 0) {
+                reviewRepository.findById(task.reviewId()).ifPresent(Review::markEmotionFailed);
+                log.error("[감정 분석] reviewId={} {}회 실패 → DEAD : {}", task.reviewId(), task.attempts(), error);
+            }
+            return;
+        }
+        taskRepository.retryLater(task, backoff(task.attempts()), error);
+    }
+
+    /**
+     * 리뷰 삭제 전 호출
+     */
+    public void cancel(Long reviewId) {
+        taskRepository.deleteByReviewId(reviewId);
+    }
+
+    @Transactional
+    public int requeueDead() {
+        return taskRepository.requeueDead();
+    }
+
+    /**
+     * 임시(degraded) 결과로 완료된 리뷰를 limit 건까지 다시 모델 분석 대기열에 넣음 (리뷰는 DONE 유지, 워커 폴링이 처리)
+     */
+    @Transactional
+    public int requeueDegraded(int limit) {
+        return taskRepository.enqueueDegraded(limit);
+    }
+
+    public ReviewEmotionStatusDTO getStatus(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW_EXCEPTION.getMessage()));
+        EmotionStatus status = review.getEmotionStatus();
+        EmotionDTO emotion = status == EmotionStatus.DONE
+                ? emotionRepository.findByReviewId(reviewId).map(EmotionDTO::fromEntity).orElse(null)
+                : null;
+        return ReviewEmotionStatusDTO.builder()
+                .reviewId(reviewId)
+                .status(status)
+                .emotion(emotion)
+                .build();
+    }
+
+    private Duration backoff(int attempts) {
+        // 30s, 1m, 2m, 4m ... (최대 maxRetryDelay)
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = retryDelay.multipliedBy(factor);
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
@@ -0,0 +1,166 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.review.client.EmotionLexiconClassifier;
+import com.insidemovie.backend.api.review.client.EmotionPredictBatcher;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.event.EmotionAnalysisRequestedEvent;
+import com.insidemovie.backend.api.review.repository.EmotionTaskJdbcRepository;
+import com.insidemovie.backend.api.review.repository.EmotionTaskJdbcRepository.ClaimedTask;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import com.insidemovie.backend.common.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * emotion_analysis_task 를 가져가 FastAPI 모델을 호출하는 워커.
+ *  - dispatcher(1 스레드): 큐가 빌 때까지 batch-size 만큼씩 가져가 처리가 끝나길 기다림
+ *  - 같은 본문의 결과가 EmotionInferenceCache 에 있으면 모델을 호출하지 않음
+ *  - 모델이 지연 SLO 를 넘기거나 실패가 잦으면 서킷 브레이커가 열리고, 그동안은 사전 기반 분류기 결과를 degraded 로 저장
+ *  - workers 는 DB 조회 / 반영만 하고, 모델 호출은 EmotionPredictBatcher 가 모아서 보냄 (추론 대기 중 스레드 점유 없음)
+ *  - 리뷰 커밋 직후 이벤트로 바로 깨우고, 주기 폴링은 재시도 / 다른 인스턴스에서 적재된 작업용
+ *  - 여러 인스턴스가 동시에 돌아도 SKIP LOCKED 로 같은 작업을 두 번 가져가지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "emotion.worker-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class EmotionAnalysisWorker {
+
+    private final EmotionTaskJdbcRepository taskRepository;
+    private final EmotionAnalysisService emotionAnalysisService;
+    private final ReviewRepository reviewRepository;
+    private final EmotionPredictBatcher emotionPredictBatcher;
+    private final EmotionInferenceCache emotionInferenceCache;
+    private final EmotionLexiconClassifier emotionLexiconClassifier;
+    private final CircuitBreaker emotionModelCircuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${emotion.fallback.enabled:true}")
+    private boolean fallbackEnabled;
+
+    @Value("${emotion.analysis.workers:4}")
+    private int workerCount;
+
+    @Value("${emotion.analysis.batch-size:32}")
+    private int batchSize;
+
+    @Value("${emotion.analysis.lease:2m}")
+    private Duration lease;
+
+    private ThreadPoolTaskExecutor dispatcher;
+    private ThreadPoolTaskExecutor workers;
+
+    @PostConstruct
+    void start() {
+        // 실행 중인 drain 외에 대기 1건만 허용 (나머지 깨우기 요청은 버려도 대기 중인 drain 이 처리)
+        dispatcher = executor("emotion-dispatch-", 1, 1);
+        dispatcher.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        dispatcher.initialize();
+        workers = executor("emotion-worker-", workerCount, Integer.MAX_VALUE);
+        workers.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdown();
+        workers.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${emotion.analysis.poll-delay-ms:5000}", initialDelay = 10_000)
+    public void poll() {
+        dispatcher.execute(this::drain);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequested(EmotionAnalysisRequestedEvent event) {
+        dispatcher.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            List<ClaimedTask> tasks;
+            while (!(tasks = taskRepository.claim(batchSize, lease)).isEmpty()) {
+                CompletableFuture.allOf(tasks.stream()
+                        .map(this::process)
+                        .toArray(CompletableFuture[]::new)
+                ).join();
+            }
+        } catch (Exception e) {
+            log.error("[감정 분석] 작업 가져오기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private CompletableFuture<Void> process(ClaimedTask task) {
+        return CompletableFuture
+                .supplyAsync(() -> reviewRepository.findById(task.reviewId()).map(Review::getContent), workers)
+                .thenComposeAsync(content -> analyze(task, content), workers)
+                .exceptionally(e -> {
+                    fail(task, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> analyze(ClaimedTask task, Optional<String> content) {
+        if (content.isEmpty()) {
+            // 처리 전에 리뷰가 삭제됨
+            return CompletableFuture.runAsync(() -> taskRepository.deleteByReviewId(task.reviewId()), workers);
+        }
+        // 적재 후 다른 리뷰에서 같은 본문이 분석됐으면 모델 호출 생략
+        Optional<Map<String, Double>> cached = emotionInferenceCache.get(content.get());
+        if (cached.isPresent()) {
+            emotionAnalysisService.complete(task, cached.get(), false);
+            return CompletableFuture.completedFuture(null);
+        }
+        // 모델이 지연 SLO 를 넘기거나 실패가 잦아 차단 중이면 사전 기반 임시 결과로 완료 (모델 회복 후 재분석)
+        // 차단기 기록은 EmotionPredictClient 의 ResilienceGuard 가 모델 호출 단위로 함
+        if (fallbackEnabled && emotionModelCircuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            emotionAnalysisService.complete(task, emotionLexiconClassifier.classify(content.get()), true);
+            meterRegistry.counter("emotion.inference.degraded").increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return emotionPredictBatcher.predict(content.get())
+                .thenAcceptAsync(probabilities -> {
+                    emotionInferenceCache.put(content.get(), probabilities);
+                    emotionAnalysisService.complete(task, probabilities, false);
+                }, workers);
+    }
+
+    private void fail(ClaimedTask task, Throwable e) {
+        log.warn("[감정 분석] reviewId={} {}번째 시도 실패: {}", task.reviewId(), task.attempts(), e.getMessage());
+        try {
+            emotionAnalysisService.fail(task, e.getMessage());
+        } catch (Exception ex) {
+            // 임대가 끝나면 다시 가져가므로 유실되지 않음
+            log.error("[감정 분석] reviewId={} 실패 기록 실패: {}", task.reviewId(), ex.getMessage());
+        }
+    }
+
+    private ThreadPoolTaskExecutor executor(String prefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,191 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.review.repository.EmotionInferenceCacheJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 감정 모델 추론 결과 캐시.
+ * 키는 (모델 버전 + 정규화한 본문)의 SHA-256 이라 공백 / 대소문자 / 유니코드 조합형만 다른 본문은 같은 결과를 쓴다.
+ *  - 1차: 인스턴스 로컬 LRU (memory-size 건), 2차: emotion_inference_cache 테이블 (재기동 / 다른 인스턴스와 공유)
+ *  - 모델을 바꾸면 version 을 올려 이전 결과를 쓰지 않게 한다 (이전 버전 행은 evict 에서 삭제)
+ *  - 테이블의 last_used_at 은 적중 시 하루에 한 번만 갱신하고, unused-days 동안 쓰이지 않은 행은 evict 에서 삭제
+ *  - 메트릭: emotion.inference.cache{result=memory|db|miss}
+ */
+@Slf4j
+@Component
+public class EmotionInferenceCache {
+
+    // 같은 키의 last_used_at 갱신 간격 (정리 기준이 일 단위라 그보다 자주 쓸 필요 없음)
+    private static final long TOUCH_INTERVAL_MS = Duration.ofDays(1).toMillis();
+
+    private final EmotionInferenceCacheJdbcRepository cacheRepository;
+    private final boolean enabled;
+    private final String version;
+    private final Map<String, Cached> memory;
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    public EmotionInferenceCache(
+            EmotionInferenceCacheJdbcRepository cacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${emotion.cache.enabled:true}") boolean enabled,
+            @Value("${emotion.cache.version:v1}") String version,
+            @Value("${emotion.cache.memory-size:10000}") int memorySize
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.enabled = enabled;
+        this.version = version;
+        this.memory = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                return size() > memorySize;
+            }
+        };
+        this.memoryHits = counter(meterRegistry, "memory");
+        this.dbHits = counter(meterRegistry, "db");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    // touchedAt: 이 인스턴스가 테이블의 last_used_at 을 마지막으로 갱신(또는 저장)한 시각
+    private record Cached(Map<String, Double> probabilities, long touchedAt) {
+    }
+
+    /**
+     * 같은 본문의 이전 추론 결과 (없으면 empty → 모델 호출)
+     */
+    public Optional<Map<String, Double>> get(String content) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = key(content);
+        Cached cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            long now = System.currentTimeMillis();
+            if (now - cached.touchedAt() >= TOUCH_INTERVAL_MS) {
+                // 메모리에서만 계속 적중하는 본문도 테이블 정리 대상이 되지 않도록
+                touch(key);
+                synchronized (memory) {
+                    memory.put(key, new Cached(cached.probabilities(), now));
+                }
+            }
+            return Optional.of(cached.probabilities());
+        }
+
+        Optional<Map<String, Double>> stored;
+        try {
+            stored = cacheRepository.find(key);
+        } catch (Exception e) {
+            log.warn("[감정 캐시] 조회 실패: {}", e.getMessage());
+            stored = Optional.empty();
+        }
+        if (stored.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        dbHits.increment();
+        touch(key);
+        synchronized (memory) {
+            memory.put(key, new Cached(stored.get(), System.currentTimeMillis()));
+        }
+        return stored;
+    }
+
+    /**
+     * 모델 결과 저장 (저장 실패는 다음에 다시 추론하면 되므로 무시)
+     */
+    public void put(String content, Map<String, Double> probabilities) {
+        if (!enabled) {
+            return;
+        }
+        String key = key(content);
+        Map<String, Double> value = Map.copyOf(probabilities);
+        synchronized (memory) {
+            memory.put(key, new Cached(value, System.currentTimeMillis()));
+        }
+        try {
+            cacheRepository.save(key, version, value);
+        } catch (Exception e) {
+            log.warn("[감정 캐시] 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 테이블 정리: 현재 모델 버전이 아닌 행과 unusedDays 일 동안 쓰이지 않은 행을 batchSize 건씩 나눠 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    public int evict(int unusedDays, int batchSize) {
+        int removed = 0;
+        int deleted;
+        do {
+            deleted = cacheRepository.deleteOtherVersions(version, batchSize);
+            removed += deleted;
+        } while (deleted == batchSize);
+
+        do {
+            deleted = cacheRepository.deleteUnusedFor(unusedDays, batchSize);
+            removed += deleted;
+        } while (deleted == batchSize);
+        return removed;
+    }
+
+    /**
+     * 정규화 후 같은 본문인지 (수정 시 재분석 여부 판단용)
+     */
+    public static boolean sameContent(String a, String b) {
+        return a != null && b != null && normalize(a).equals(normalize(b));
+    }
+
+    static String normalize(String content) {
+        return Normalizer.normalize(content, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void touch(String key) {
+        try {
+            cacheRepository.touch(key, version);
+        } catch (Exception e) {
+            log.warn("[감정 캐시] 사용 시각 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private String key(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((version + '\n' + normalize(content)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 이 SHA-256 을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("emotion.inference.cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,151 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.review.repository.ReviewLikeJdbcRepository;
+import com.insidemovie.backend.api.review.repository.ReviewLikeJdbcRepository.LikeChange;
+import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리뷰 좋아요 write-behind 버퍼.
+ * 토글은 메모리에만 기록하고(회원별 상태 + 리뷰별 LongAdder 증감), flush-delay-ms 마다 모아서
+ * review_like / review.like_count 에 한 트랜잭션으로 반영한다. 인기 리뷰에 좋아요가 몰려도 review 행 잠금은 주기당 한 번.
+ * 조회 시 좋아요 수 / 내 좋아요 여부는 DB 값에 아직 반영되지 않은 변화를 더해 돌려준다.
+ * 버퍼는 인스턴스 로컬이며, 반영 전 종료 시 @PreDestroy 에서 마지막으로 한 번 더 반영한다.
+ *
+ * 단일 인스턴스 배포 전제: 여러 인스턴스가 같은 회원의 토글을 나눠 받으면 base(첫 토글 시 DB 상태)가 낡을 수 있고,
+ * 조회 응답의 미반영 증감도 인스턴스마다 다르게 보인다. DB 는 반영 시 최종 의도(좋아요 / 취소)를 항상 쓰고
+ * like_count 를 행 수로 다시 세므로 어긋나지 않지만, 수평 확장 시에는 버퍼를 공유 저장소로 옮겨야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewLikeBuffer {
+
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewLikeJdbcRepository reviewLikeJdbcRepository;
+
+    // (리뷰, 회원) → 아직 DB 에 반영되지 않은 좋아요 상태
+    private final Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+
+    // 리뷰별 미반영 좋아요 수 변화량. 반영 후 0 이 된 항목은 제거하므로 증감은 compute 안에서 해야
+    // 제거와 겹쳐도 변화량이 사라지지 않는다.
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    private record LikeKey(Long reviewId, Long memberId) {
+    }
+
+    // base: 처음 토글될 때의 DB 상태, liked: 현재 상태
+    private record PendingLike(boolean base, boolean liked) {
+        int contribution() {
+            return (liked ? 1 : 0) - (base ? 1 : 0);
+        }
+    }
+
+    /**
+     * 좋아요 토글 후 상태 반환 (DB 상태 조회는 버퍼에 없는 첫 토글에서만)
+     */
+    public boolean toggle(Long reviewId, Long memberId) {
+        LikeKey key = new LikeKey(reviewId, memberId);
+        while (true) {
+            // DB 조회는 compute 밖에서: remapping 함수 안의 I/O 는 같은 bin 의 다른 키와 flush 의 computeIfPresent 까지 막는다
+            Boolean stored = pending.containsKey(key)
+                    ? null
+                    : reviewLikeRepository.existsByReview_IdAndMember_Id(reviewId, memberId);
+            // 같은 회원의 연속 토글은 키 단위로 직렬화 (다른 회원 / 다른 리뷰와는 무관)
+            PendingLike next = pending.compute(key, (k, cur) -> {
+                if (cur == null && stored == null) {
+                    return null;    // 확인 직후 반영되어 빠짐 → DB 상태를 다시 조회
+                }
+                boolean base = cur != null ? cur.base() : stored;
+                boolean liked = !(cur != null ? cur.liked() : base);
+                addDelta(reviewId, liked ? 1 : -1);
+                return new PendingLike(base, liked);
+            });
+            if (next != null) {
+                return next.liked();
+            }
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 수 변화량
+     */
+    public long pendingDelta(Long reviewId) {
+        LongAdder delta = deltas.get(reviewId);
+        return delta != null ? delta.sum() : 0L;
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 내 좋아요 상태 (버퍼에 없으면 empty → DB 값 사용)
+     */
+    public Optional<Boolean> pendingLiked(Long reviewId, Long memberId) {
+        PendingLike p = pending.get(new LikeKey(reviewId, memberId));
+        return p != null ? Optional.of(p.liked()) : Optional.empty();
+    }
+
+    /**
+     * 리뷰 삭제 시 미반영 토글 폐기.
+     * flush 와 같은 락으로 직렬화: 폐기 전에 찍은 스냅샷을 반영하던 flush 가 폐기 후에 변화량을 되돌려
+     * 삭제된 리뷰의 deltas 항목(0 이 아니라 정리되지 않음)을 다시 만들지 않도록.
+     */
+    public synchronized void discard(Long reviewId) {
+        pending.keySet().removeIf(key -> key.reviewId().equals(reviewId));
+        deltas.remove(reviewId);
+    }
+
+    @Scheduled(fixedDelayString = "${review.like.flush-delay-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<LikeKey, PendingLike> snapshot = new HashMap<>(pending);
+        // 처음 상태로 되돌아온 토글도 최종 의도를 그대로 씀 (base 가 다른 인스턴스 반영으로 낡았을 수 있음, 멱등)
+        List<LikeChange> changes = snapshot.entrySet().stream()
+                .map(e -> new LikeChange(e.getKey().reviewId(), e.getKey().memberId(), e.getValue().liked()))
+                .toList();
+        try {
+            reviewLikeJdbcRepository.apply(changes);
+        } catch (Exception e) {
+            log.error("[리뷰 좋아요] {}건 반영 실패, 다음 주기에 재시도: {}", changes.size(), e.getMessage(), e);
+            return;
+        }
+
+        snapshot.forEach((key, flushed) -> {
+            // 반영하는 동안 다시 토글됐으면 반영한 상태를 새 기준으로 남김
+            pending.computeIfPresent(key, (k, cur) ->
+                    cur == flushed ? null : new PendingLike(flushed.liked(), cur.liked()));
+            addDelta(key.reviewId(), -flushed.contribution());
+        });
+        // 반영이 끝나 변화량이 0 이 된 리뷰는 제거 (토글된 적 있는 리뷰가 계속 쌓이지 않도록)
+        snapshot.keySet().stream().map(LikeKey::reviewId).distinct()
+                .forEach(id -> deltas.computeIfPresent(id, (k, a) -> a.sum() == 0 ? null : a));
+        log.debug("[리뷰 좋아요] {}건 반영", changes.size());
+    }
+
+    private void addDelta(Long reviewId, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        deltas.compute(reviewId, (id, delta) -> {
+            LongAdder d = delta != null ? delta : new LongAdder();
+            d.add(amount);
+            return d;
+        });
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
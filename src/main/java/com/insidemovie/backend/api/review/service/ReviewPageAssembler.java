@@ -0,0 +1,106 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.constant.ReportStatus;
+import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
+import com.insidemovie.backend.api.report.repository.ReportRepository;
+import com.insidemovie.backend.api.review.dto.EmotionDTO;
+import com.insidemovie.backend.api.review.dto.ReviewResponseDTO;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 리뷰 목록 응답 생성.
+ * 작성자 / 작성자 대표 감정 / 감정은 페이지 조회 시 함께 로딩된 값을 쓰고(@EntityGraph),
+ * 내 좋아요 / 신고 상태는 페이지의 ID 로 각각 한 번씩만 조회한다 (리뷰 수와 무관하게 최대 2회).
+ * 좋아요 수 / 내 좋아요는 ReviewLikeBuffer 의 미반영 토글을 반영한 값.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewPageAssembler {
+
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReportRepository reportRepository;
+    private final ReviewLikeBuffer reviewLikeBuffer;
+
+    public Page<ReviewResponseDTO> assemble(Page<Review> page, Long currentUserId) {
+        return new PageImpl<>(assemble(page.getContent(), currentUserId), page.getPageable(), page.getTotalElements());
+    }
+
+    public ReviewResponseDTO assemble(Review review, Long currentUserId) {
+        return assemble(List.of(review), currentUserId).get(0);
+    }
+
+    public List<ReviewResponseDTO> assemble(List<Review> reviews, Long currentUserId) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
+
+        Set<Long> likedIds = currentUserId == null
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewIds(currentUserId, reviewIds));
+
+        // 신고된 리뷰에만 신고 행이 있으므로 그 리뷰들만 조회, 리뷰당 첫 신고의 상태를 사용
+        List<Long> reportedIds = reviews.stream()
+                .filter(Review::isReported)
+                .map(Review::getId)
+                .toList();
+        Map<Long, ReportStatus> reportStatuses = new HashMap<>();
+        if (!reportedIds.isEmpty()) {
+            for (Object[] row : reportRepository.findStatusesByReviewIds(reportedIds)) {
+                reportStatuses.putIfAbsent((Long) row[0], (ReportStatus) row[1]);
+            }
+        }
+
+        return reviews.stream()
+                .map(r -> toResponseDTO(
+                        r,
+                        currentUserId,
+                        memberEmotionOf(r),
+                        currentUserId != null && reviewLikeBuffer.pendingLiked(r.getId(), currentUserId)
+                                .orElse(likedIds.contains(r.getId())),
+                        reportStatuses.get(r.getId())
+                ))
+                .toList();
+    }
+
+    // Member.emotionSummary 는 목록 조회 EntityGraph 로 함께 로딩됨 (요약이 없거나 대표 감정이 없으면 NONE)
+    private static EmotionType memberEmotionOf(Review review) {
+        MemberEmotionSummary summary = review.getMember().getEmotionSummary();
+        return summary != null && summary.getRepEmotionType() != null ? summary.getRepEmotionType() : EmotionType.NONE;
+    }
+
+    private ReviewResponseDTO toResponseDTO(Review review, Long currentUserId, EmotionType memberEmotionType,
+                                            boolean myLike, ReportStatus reportStatus) {
+        boolean myReview = currentUserId != null && review.getMember().getId().equals(currentUserId);
+        EmotionDTO emotionDTO = review.getEmotion() != null ? EmotionDTO.fromEntity(review.getEmotion()) : null;
+
+        return ReviewResponseDTO.builder()
+                .reviewId(review.getId())
+                .content(review.getContent())
+                .rating(review.getRating())
+                .spoiler(review.isSpoiler())
+                .watchedAt(review.getWatchedAt())
+                .createdAt(review.getCreatedAt())
+                .likeCount(Math.max(0L, review.getLikeCount() + reviewLikeBuffer.pendingDelta(review.getId())))
+                .nickname(review.getMember().getNickname())
+                .memberId(review.getMember().getId())
+                .memberEmotion(memberEmotionType.name())
+                .movieId(review.getMovie().getId())
+                .myReview(myReview)
+                .myLike(myLike)
+                .emotion(emotionDTO)
+                .emotionStatus(review.getEmotionStatus())
+                .isReported(review.isReported())
+                .isConcealed(review.isConcealed())
+                .reportStatus(reportStatus)
+                .build();
+    }
+}
@@ -1,62 +1,59 @@
 package com.insidemovie.backend.api.review.service;
 
-import com.insidemovie.backend.api.constant.EmotionType;
 import com.insidemovie.backend.api.member.entity.Member;
-import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
-import com.insidemovie.backend.api.member.repository.MemberEmotionSummaryRepository;
 import com.insidemovie.backend.api.member.repository.MemberRepository;
+import com.insidemovie.backend.api.constant.EmotionStatus;
+import com.insidemovie.backend.api.constant.ReviewSort;
 import com.insidemovie.backend.api.member.service.MemberService;
+import com.insidemovie.backend.api.movie.dto.CursorPageResDto;
 import com.insidemovie.backend.api.movie.dto.PageResDto;
 import com.insidemovie.backend.api.movie.entity.Movie;
 import com.insidemovie.backend.api.movie.repository.MovieRepository;
-import com.insidemovie.backend.api.constant.ReportStatus;
 import com.insidemovie.backend.api.movie.service.MovieEmotionSummaryService;
-import com.insidemovie.backend.api.movie.service.MovieService;
+import com.insidemovie.backend.api.movie.service.MovieRatingStatsService;
 import com.insidemovie.backend.api.review.dto.*;
-import com.insidemovie.backend.api.review.entity.Emotion;
 import com.insidemovie.backend.api.review.entity.Review;
-import com.insidemovie.backend.api.review.entity.ReviewLike;
 import com.insidemovie.backend.api.review.repository.EmotionRepository;
 import com.insidemovie.backend.api.review.repository.ReviewLikeRepository;
 import com.insidemovie.backend.api.review.repository.ReviewRepository;
 import com.insidemovie.backend.common.exception.BadRequestException;
-import com.insidemovie.backend.common.exception.ExternalServiceException;
 import com.insidemovie.backend.common.exception.NotFoundException;
 import com.insidemovie.backend.common.exception.UnAuthorizedException;
 import com.insidemovie.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
-import java.util.Optional;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final MovieRepository movieRepository;
-    private final RestTemplate fastApiRestTemplate;
     private final EmotionRepository emotionRepository;
     private final MemberService memberService;
-    private final MovieService movieService;
-    private final MemberEmotionSummaryRepository memberEmotionSummaryRepository;
     private final MovieEmotionSummaryService movieEmotionSummaryService;
+    private final MovieRatingStatsService movieRatingStatsService;
+    private final EmotionAnalysisService emotionAnalysisService;
+    private final ReviewPageAssembler reviewPageAssembler;
+    private final ReviewLikeBuffer reviewLikeBuffer;
 
     // 리뷰 작성
     @Transactional
-    public Long createReview(Long movieId, ReviewCreateDTO reviewCreateDTO, String memberEmail) {
+    public ReviewCreatedResponseDTO createReview(Long movieId, ReviewCreateDTO reviewCreateDTO, String memberEmail) {
 
         Member member = memberRepository.findByEmail(memberEmail)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
@@ -80,61 +77,74 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        movieRatingStatsService.applyDelta(movieId, null, savedReview.getRating());
 
-        // 감정 분석
-        try {
-            PredictRequestDTO request = new PredictRequestDTO(savedReview.getContent());
-            PredictResponseDTO response = fastApiRestTemplate.postForObject(
-                    "/predict/overall_avg",
-                    request,
-                    PredictResponseDTO.class
-            );
-
-            if (response == null || response.getProbabilities() == null) {
-                throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-            }
-
-            Map<String, Double> probabilities = response.getProbabilities();
-            Emotion emotion = Emotion.builder()
-                    .anger(probabilities.getOrDefault("anger", 0.0))
-                    .fear(probabilities.getOrDefault("fear", 0.0))
-                    .joy(probabilities.getOrDefault("joy", 0.0))
-                    .disgust(probabilities.getOrDefault("disgust", 0.0))
-                    .sadness(probabilities.getOrDefault("sadness", 0.0))
-                    .review(savedReview)
-                    .build();
-            emotionRepository.save(emotion);
-
-            // 리뷰 등록 후 영화 감정 요약 업데이트
-            movieService.getMovieEmotionSummary(movieId);
-            // 영화 감정 요약 재계산 호출
-            movieEmotionSummaryService.recalcMovieSummary(movieId);
-
-
-        } catch (RestClientException e) {
-            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-        }
-        return savedReview.getId();
+        // 감정 분석은 커밋 후 워커가 처리 (리뷰는 PENDING 상태로 먼저 저장, 같은 본문의 결과가 캐시에 있으면 바로 DONE)
+        emotionAnalysisService.enqueue(savedReview);
+
+        return ReviewCreatedResponseDTO.builder()
+                .reviewId(savedReview.getId())
+                .emotionStatus(savedReview.getEmotionStatus())
+                .build();
     }
 
-    // 영화별 리뷰 목록 조회
+    // 영화별 리뷰 목록 조회 (memberEmail 은 비로그인 시 null)
     @Transactional
     public PageResDto<ReviewResponseDTO> getReviewsByMovie(
             Long movieId,
-            Pageable pageable
+            Pageable pageable,
+            String memberEmail
     ) {
 
         Movie movie = movieRepository.findById(movieId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage()));
 
-        Long currentUserId = null;
+        Long currentUserId = memberEmail == null ? null
+                : memberRepository.findByEmail(memberEmail).map(Member::getId).orElse(null);
 
         Page<Review> reviewPage = reviewRepository.findByMovieAndIsConcealedFalse(movie, pageable);
 
-        final Long uid = currentUserId;
-        Page<ReviewResponseDTO> dtoPage = reviewPage.map(r -> toResponseDTO(r, uid));
+        return new PageResDto<>(reviewPageAssembler.assemble(reviewPage, currentUserId));
+    }
+
+    // 영화별 리뷰 목록 커서 조회 (OFFSET / COUNT 없이 이전 페이지 마지막 리뷰 다음부터)
+    @Transactional
+    public CursorPageResDto<ReviewResponseDTO> getReviewsByMovieCursor(
+            Long movieId,
+            ReviewSort sort,
+            String cursor,
+            int size,
+            String memberEmail
+    ) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_MOVIE_EXCEPTION.getMessage());
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Review> reviews;
+        if (cursor == null || cursor.isBlank()) {
+            reviews = reviewRepository.findByMovie_IdAndIsConcealedFalse(movieId, sort.toSort(), limit);
+        } else {
+            ReviewCursor after = ReviewCursor.decode(cursor, sort);
+            reviews = switch (sort) {
+                case OLDEST -> reviewRepository.findOldestAfter(movieId, after.createdAt(), after.id(), limit);
+                case POPULAR -> reviewRepository.findPopularAfter(movieId, after.likeCount(), after.createdAt(), after.id(), limit);
+                case LATEST -> reviewRepository.findLatestAfter(movieId, after.createdAt(), after.id(), limit);
+            };
+        }
 
-        return new PageResDto<>(dtoPage);
+        boolean hasNext = reviews.size() > pageSize;
+        if (hasNext) {
+            reviews = reviews.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? ReviewCursor.of(sort, reviews.get(reviews.size() - 1)).encode() : null;
+
+        Long currentUserId = memberEmail == null ? null
+                : memberRepository.findByEmail(memberEmail).map(Member::getId).orElse(null);
+
+        return new CursorPageResDto<>(reviewPageAssembler.assemble(reviews, currentUserId), pageSize, nextCursor, hasNext);
     }
 
     // 내 리뷰 단건 조회
@@ -152,7 +162,7 @@ public class ReviewService {
         Review review = reviewRepository.findByMemberAndMovie(member, movie)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW_EXCEPTION.getMessage()));
 
-        return toResponseDTO(review, member.getId());
+        return reviewPageAssembler.assemble(review, member.getId());
     }
 
     // 리뷰 수정
@@ -169,6 +179,9 @@ public class ReviewService {
             throw new UnAuthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
         }
 
+        double previousRating = review.getRating();
+        String previousContent = review.getContent();
+
         // 리뷰 수정
         review.modify(
                 reviewUpdateDTO.getContent(),
@@ -176,42 +189,15 @@ public class ReviewService {
                 reviewUpdateDTO.isSpoiler(),
                 reviewUpdateDTO.getWatchedAt()
         );
+        if (previousRating != review.getRating()) {
+            movieRatingStatsService.applyDelta(review.getMovie().getId(), previousRating, review.getRating());
+        }
 
-        // 기존 감정 삭제 (Emotion 테이블에서)
-        emotionRepository.deleteByReview(review);
-
-        // 새로운 감정 분석 요청
-        try {
-            PredictRequestDTO request = new PredictRequestDTO(reviewUpdateDTO.getContent());
-            PredictResponseDTO response = fastApiRestTemplate.postForObject(
-                    "/predict/overall_avg",
-                    request,
-                    PredictResponseDTO.class
-            );
-
-            if (response == null || response.getProbabilities() == null) {
-                throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
-            }
-
-            Map<String, Double> probabilities = response.getProbabilities();
-
-            Emotion newEmotion = Emotion.builder()
-                    .anger(probabilities.getOrDefault("anger", 0.0))
-                    .fear(probabilities.getOrDefault("fear", 0.0))
-                    .joy(probabilities.getOrDefault("joy", 0.0))
-                    .disgust(probabilities.getOrDefault("disgust", 0.0))
-                    .sadness(probabilities.getOrDefault("sadness", 0.0))
-                    .review(review)
-                    .build();
-
-            emotionRepository.save(newEmotion);
-            movieEmotionSummaryService.recalcMovieSummary(review.getMovie().getId());
-
-            // 영화 감정 요약 갱신
-            movieService.getMovieEmotionSummary(review.getMovie().getId());
-
-        } catch (RestClientException e) {
-            throw new ExternalServiceException(ErrorStatus.EXTERNAL_SERVICE_ERROR.getMessage());
+        // 감정 재분석 요청 (기존 감정은 새 결과가 나올 때까지 유지)
+        // 평점 / 스포일러만 바뀌었거나 공백 정도만 다르면 이전 결과를 그대로 씀
+        if (!EmotionInferenceCache.sameContent(previousContent, review.getContent())
+                || review.getEmotionStatus() != EmotionStatus.DONE) {
+            emotionAnalysisService.enqueue(review);
         }
     }
 
@@ -229,10 +215,17 @@ public class ReviewService {
             throw new UnAuthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
         }
 
+        // 영화 감정 누적값에서 뺄 값 (분석 전 리뷰면 null)
+        EmotionVector removed = emotionRepository.findByReviewId(reviewId)
+                .map(EmotionVector::of)
+                .orElse(null);
+
+        reviewLikeBuffer.discard(reviewId);  // 미반영 좋아요 토글 폐기
         reviewLikeRepository.deleteByReviewId(reviewId);  // 좋아요 삭제
+        emotionAnalysisService.cancel(reviewId);  // 대기 중인 감정 분석 작업 삭제
         reviewRepository.delete(review);  // 리뷰 삭제
-        movieService.getMovieEmotionSummary(review.getMovie().getId());
-        movieEmotionSummaryService.recalcMovieSummary(review.getMovie().getId());
+        movieRatingStatsService.applyDelta(review.getMovie().getId(), review.getRating(), null);
+        movieEmotionSummaryService.applyDelta(review.getMovie().getId(), removed, null);
     }
 
     // 좋아요 토글
@@ -242,23 +235,12 @@ public class ReviewService {
         Member member = memberRepository.findByEmail(memberEmail)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
 
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW_EXCEPTION.getMessage()));
-
-        Optional<ReviewLike> optionalLike =
-                reviewLikeRepository.findByReview_IdAndMember_Id(reviewId, member.getId());
-
-        if (optionalLike.isPresent()) {
-            reviewLikeRepository.delete(optionalLike.get());
-            reviewRepository.decrementLikeCount(reviewId);
-        } else {
-            ReviewLike newLike = ReviewLike.builder()
-                    .review(review)
-                    .member(member)
-                    .build();
-            reviewLikeRepository.save(newLike);
-            reviewRepository.incrementLikeCount(reviewId);
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new NotFoundException(ErrorStatus.NOT_FOUND_REVIEW_EXCEPTION.getMessage());
         }
+
+        // review_like / like_count 는 버퍼가 주기적으로 모아서 반영
+        reviewLikeBuffer.toggle(reviewId, member.getId());
     }
 
     // 내가 작성한 리뷰 목록
@@ -270,71 +252,7 @@ public class ReviewService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.NOT_FOUND_MEMBERID_EXCEPTION.getMessage()));
 
         Page<Review> myReviews = reviewRepository.findByMember(member, pageable);
-        Long currentUserId = member.getId();
-        Page<ReviewResponseDTO> dto = myReviews.map(review -> toResponseDTO(review, currentUserId));
 
-        return new PageResDto<>(dto);
-    }
-
-    private ReviewResponseDTO toResponseDTO(Review review, Long currentUserId) {
-        boolean myReview = currentUserId != null && review.getMember().getId().equals(currentUserId);
-        boolean myLike = currentUserId != null &&
-                reviewLikeRepository.existsByReview_IdAndMember_Id(review.getId(), currentUserId);
-
-        ReportStatus reportStatus = review.getReports().stream()
-                .map(com.insidemovie.backend.api.report.entity.Report::getStatus)
-                .findFirst()
-                .orElse(null);
-
-        // 리뷰 자체 감정
-        EmotionDTO emotionDTO = emotionRepository.findByReviewId(review.getId())
-                .map(e -> {
-                    Map<String, Double> probs = Map.of(
-                            "anger", e.getAnger(),
-                            "fear", e.getFear(),
-                            "joy", e.getJoy(),
-                            "disgust", e.getDisgust(),
-                            "sadness", e.getSadness()
-                    );
-                    String rep = probs.entrySet().stream()
-                            .max(Map.Entry.comparingByValue())
-                            .map(Map.Entry::getKey)
-                            .orElse("disgust");
-                    return EmotionDTO.builder()
-                            .anger(probs.get("anger"))
-                            .fear(probs.get("fear"))
-                            .joy(probs.get("joy"))
-                            .disgust(probs.get("disgust"))
-                            .sadness(probs.get("sadness"))
-                            .repEmotion(rep)
-                            .build();
-                })
-                .orElse(null);
-
-        EmotionType memberEmotionType = memberEmotionSummaryRepository
-                .findByMemberId(review.getMember().getId())
-                .map(MemberEmotionSummary::getRepEmotionType)
-                .orElse(EmotionType.NONE);
-
-
-        return ReviewResponseDTO.builder()
-                .reviewId(review.getId())
-                .content(review.getContent())
-                .rating(review.getRating())
-                .spoiler(review.isSpoiler())
-                .watchedAt(review.getWatchedAt())
-                .createdAt(review.getCreatedAt())
-                .likeCount(review.getLikeCount())
-                .nickname(review.getMember().getNickname())
-                .memberId(review.getMember().getId())
-                .memberEmotion(memberEmotionType.name())
-                .movieId(review.getMovie().getId())
-                .myReview(myReview)
-                .myLike(myLike)
-                .emotion(emotionDTO)
-                .isReported(review.isReported())
-                .isConcealed(review.isConcealed())
-                .reportStatus(reportStatus)
-                .build();
+        return new PageResDto<>(reviewPageAssembler.assemble(myReviews, member.getId()));
     }
 }
@@ -0,0 +1,50 @@
+package com.insidemovie.backend.common.config;
+
+import com.insidemovie.backend.common.resilience.CircuitBreaker;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class ResilienceConfig {
+
+    // 차단 중인 외부 의존성 (앱 자체는 동작하므로 DOWN 이 아닌 별도 상태, http 200)
+    static final Status DEGRADED = new Status("DEGRADED");
+
+    /**
+     * FastAPI 감정 모델 호출 차단기 (열려 있는 동안 EmotionAnalysisWorker 는 사전 기반 분류기 사용)
+     */
+    @Bean
+    public CircuitBreaker emotionModelCircuitBreaker(ResilienceRegistry resilienceRegistry) {
+        return resilienceRegistry.guard("fastapi").getCircuitBreaker();
+    }
+
+    /**
+     * /actuator/health 의 externalDependencies.{이름} (서킷 상태 / 동시 호출 여유)
+     */
+    @Bean
+    public CompositeHealthContributor externalDependencies(ResilienceRegistry resilienceRegistry) {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        for (ResilienceGuard guard : resilienceRegistry.guards()) {
+            indicators.put(guard.getName(), () -> health(guard));
+        }
+        return CompositeHealthContributor.fromMap(indicators);
+    }
+
+    private static Health health(ResilienceGuard guard) {
+        CircuitBreaker.State state = guard.getCircuitBreaker().getState();
+        return Health.status(state == CircuitBreaker.State.CLOSED ? Status.UP : DEGRADED)
+                .withDetail("circuit", state.name())
+                .withDetail("bulkheadAvailable", guard.getBulkhead().getAvailable())
+                .withDetail("bulkheadMax", guard.getBulkhead().getMaxConcurrent())
+                .build();
+    }
+}
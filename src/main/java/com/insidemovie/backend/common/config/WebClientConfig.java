@@ -1,20 +1,46 @@
 package com.insidemovie.backend.common.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebClientConfig {
     @Bean
-    public RestTemplate fastApiRestTemplate(RestTemplateBuilder builder) {
-        // 배포
-        // return builder.rootUri("http://52.79.175.149:8000").build();
-        // 로컬
-        return builder.rootUri("http://localhost:8000").build();
+    public RestTemplate fastApiRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${fastapi.base-url:http://localhost:8000}") String fastApiUrl,
+            @Value("${fastapi.timeout.connect:3s}") Duration connectTimeout,
+            @Value("${fastapi.timeout.read:10s}") Duration readTimeout
+    ) {
+        // 배포: fastapi.base-url=http://52.79.175.149:8000
+        return builder.rootUri(fastApiUrl)
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .build();
+    }
 
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${kakao.timeout.connect:3s}") Duration connectTimeout,
+            @Value("${kakao.timeout.read:5s}") Duration readTimeout
+    ) {
+        // 로그인 요청 스레드에서 호출되므로 무한 대기하지 않도록 타임아웃 지정
+        return builder.connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .build();
     }
 
     @Bean
@@ -24,4 +50,50 @@ public class WebClientConfig {
     ) {
         return builder.rootUri(kobisApiUrl).build();
     }
+
+    /**
+     * 외부 API 공용 keep-alive 커넥션 풀 (Reactor Netty)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalApiConnectionProvider(
+            @Value("${external-api.pool.max-connections:64}") int maxConnections,
+            @Value("${external-api.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount
+    ) {
+        return ConnectionProvider.builder("external-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .maxIdleTime(Duration.ofSeconds(30))   // 서버가 먼저 끊기 전에 정리
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient tmdbWebClient(WebClient.Builder builder, ConnectionProvider externalApiConnectionProvider) {
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(externalApiConnectionProvider, 5, 10)))
+                // 상세 응답(credits 포함)은 기본 256KB 를 넘을 수 있음
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .build();
+    }
+
+    @Bean
+    public WebClient kobisWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider externalApiConnectionProvider,
+            @Value("${kobis.api.base-url}") String kobisApiUrl
+    ) {
+        return builder.clone()
+                .baseUrl(kobisApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient(externalApiConnectionProvider, 5, 10)))
+                .build();
+    }
+
+    private HttpClient httpClient(ConnectionProvider provider, int connectSeconds, int readSeconds) {
+        return HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectSeconds * 1000)
+                .responseTimeout(Duration.ofSeconds(readSeconds))
+                .doOnConnected(conn -> conn.addHandlerLast(new ReadTimeoutHandler(readSeconds, TimeUnit.SECONDS)))
+                .keepAlive(true);
+    }
 }
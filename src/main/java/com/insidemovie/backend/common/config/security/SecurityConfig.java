@@ -54,7 +54,7 @@ public class SecurityConfig {
 
             // URL access rules
             .authorizeHttpRequests(auth -> auth
-                // Public: H2 console, Swagger
+                // Public: H2 console, Swagger, TMDB / FastAPI stub(각 stub 프로필 전용)
                 .requestMatchers(
                     "/h2-console/**",
                     "/swagger-ui/**",
@@ -62,7 +62,9 @@ public class SecurityConfig {
                     "/swagger-resources/**",
                     "/swagger-ui.html",
                     "/webjars/**",
-                    "/api-doc"
+                    "/api-doc",
+                    "/tmdb-stub/**",
+                    "/fastapi-stub/**"
                 ).permitAll()
 
                 // Public: member endpoints
@@ -79,6 +81,9 @@ public class SecurityConfig {
                     "/api/v1/match/winners"
                 ).permitAll()
 
+                // Public: 헬스 체크 (로드밸런서 / 운영 프로브, 컴포넌트 상세는 인증된 요청에만 표시)
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+
                 // Role-based
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
 
@@ -100,6 +105,7 @@ public class SecurityConfig {
                         "/api/v1/movies/*/emotion-summary",
                         "/api/v1/movies/emotions/*",
                         "/api/v1/movies/*/reviews",
+                        "/api/v1/movies/*/reviews/cursor",
                         "/api/v1/boxoffice/**"
                 ).permitAll()
 
@@ -0,0 +1,43 @@
+package com.insidemovie.backend.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 의존성별 동시 호출 수 제한.
+ * 한도가 차면 max-wait 까지만 기다리고 거절하므로, 느린 의존성 하나가 요청 스레드를 모두 붙잡지 못한다.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    public Bulkhead(int maxConcurrent, Duration maxWait) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,166 @@
+package com.insidemovie.backend.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * 호출 결과 기반 서킷 브레이커.
+ *  - CLOSED: 최근 window-size 건 중 실패 또는 느린 호출(slow-call 초과) 비율이 임계치를 넘으면 OPEN
+ *  - OPEN: open-duration 동안 호출 차단 (호출부는 fallback 사용)
+ *  - HALF_OPEN: half-open-probes 건만 시험 호출, 모두 정상이면 CLOSED / 하나라도 실패·지연이면 다시 OPEN
+ * 호출부는 tryAcquire() 가 true 일 때만 호출하고, 끝나면 반드시 onSuccess / onFailure / release 로 결과를 알린다.
+ * 외부 호출에는 보통 ResilienceGuard 를 통해 사용한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * @param failureRateThreshold  실패 비율 임계치 (0~1)
+     * @param slowCallRateThreshold 느린 호출 비율 임계치 (0~1)
+     * @param slowCall              이 시간을 넘으면 느린 호출 (지연 SLO)
+     * @param windowSize            비율을 계산하는 최근 호출 수
+     * @param minimumCalls          이만큼 쌓이기 전에는 열지 않음
+     * @param openDuration          OPEN 유지 시간
+     * @param halfOpenProbes        HALF_OPEN 에서 허용하는 시험 호출 수
+     */
+    public record Config(double failureRateThreshold, double slowCallRateThreshold, Duration slowCall,
+                         int windowSize, int minimumCalls, Duration openDuration, int halfOpenProbes) {
+    }
+
+    private final String name;
+    private final Config config;
+    private final long slowCallNanos;
+
+    // 최근 호출 결과 링 버퍼 (0: 정상, 1: 느림, 2: 실패)
+    private final byte[] window;
+    private int position;
+    private int recorded;
+    private int slowCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public CircuitBreaker(String name, Config config) {
+        this.name = name;
+        this.config = config;
+        this.slowCallNanos = config.slowCall().toNanos();
+        this.window = new byte[config.windowSize()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        transitionIfOpenExpired();
+        return state;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN 에서는 시험 호출 자리를 차지함)
+     */
+    public synchronized boolean tryAcquire() {
+        transitionIfOpenExpired();
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probesInFlight + probesSucceeded >= config.halfOpenProbes()) {
+                    yield false;
+                }
+                probesInFlight++;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 결과 없이 끝난 호출(취소 등)의 시험 호출 자리 반납
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized void onSuccess(long elapsedNanos) {
+        record(elapsedNanos > slowCallNanos ? (byte) 1 : (byte) 0);
+    }
+
+    public synchronized void onFailure(long elapsedNanos) {
+        record((byte) 2);
+    }
+
+    private void record(byte outcome) {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (outcome != 0) {
+                open();
+            } else if (++probesSucceeded >= config.halfOpenProbes()) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 열리기 전에 시작된 호출의 결과는 무시
+            return;
+        }
+
+        if (recorded == window.length) {
+            byte evicted = window[position];
+            if (evicted == 1) {
+                slowCount--;
+            } else if (evicted == 2) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = outcome;
+        position = (position + 1) % window.length;
+        if (outcome == 1) {
+            slowCount++;
+        } else if (outcome == 2) {
+            failureCount++;
+        }
+
+        if (recorded >= config.minimumCalls()
+                && ((double) failureCount / recorded >= config.failureRateThreshold()
+                || (double) slowCount / recorded >= config.slowCallRateThreshold())) {
+            open();
+        }
+    }
+
+    private void transitionIfOpenExpired() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= config.openDuration().toNanos()) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probesSucceeded = 0;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        position = 0;
+        recorded = 0;
+        slowCount = 0;
+        failureCount = 0;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+    }
+}
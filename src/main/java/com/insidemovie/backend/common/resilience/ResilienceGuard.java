@@ -0,0 +1,166 @@
+package com.insidemovie.backend.common.resilience;
+
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성 하나의 호출 보호 (동시 호출 제한 → 서킷 브레이커 → 타임아웃).
+ *  - 차단 중이거나 동시 호출 한도를 max-wait 안에 얻지 못하면 호출하지 않고 ExternalServiceException
+ *  - 4xx 응답(429 제외)은 의존성이 정상 응답한 것이므로 실패로 세지 않음
+ *  - blocking 호출의 타임아웃은 클라이언트(RestTemplate) 설정을 따르고, 그보다 오래 걸리면 느린 호출로 기록
+ *  - 메트릭: resilience.calls{dependency, result=success|failure|rejected|short_circuited}
+ */
+@Slf4j
+public class ResilienceGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ResilienceGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Duration timeout,
+                           MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * blocking 호출 보호
+     */
+    public <T> T call(Supplier<T> call) {
+        if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            throw shortCircuited();
+        }
+        if (!bulkhead.tryAcquire()) {
+            throw rejected();
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                throw shortCircuited();
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                record(null, System.nanoTime() - start);
+                return result;
+            } catch (RuntimeException e) {
+                record(e, System.nanoTime() - start);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 비동기(Reactor) 호출 보호. 동시 호출 자리를 기다리는 동안은 boundedElastic 스레드를 사용한다.
+     */
+    public <T> Mono<T> mono(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+                return Mono.<T>error(shortCircuited());
+            }
+            return Mono.fromCallable(bulkhead::tryAcquire)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(acquired -> {
+                        if (!acquired) {
+                            return Mono.<T>error(rejected());
+                        }
+                        if (!circuitBreaker.tryAcquire()) {
+                            bulkhead.release();
+                            return Mono.<T>error(shortCircuited());
+                        }
+                        long start = System.nanoTime();
+                        AtomicReference<Throwable> error = new AtomicReference<>();
+                        return call.get()
+                                .timeout(timeout)
+                                .doOnError(error::set)
+                                .doFinally(signal -> {
+                                    try {
+                                        if (signal == SignalType.CANCEL) {
+                                            // 결과 없이 취소된 호출은 판단에서 제외
+                                            circuitBreaker.release();
+                                        } else {
+                                            record(error.get(), System.nanoTime() - start);
+                                        }
+                                    } finally {
+                                        bulkhead.release();
+                                    }
+                                });
+                    });
+        });
+    }
+
+    /**
+     * 의존성 장애로 볼 예외인지 (응답 없음 / 타임아웃 / 5xx / 429 / 차단)
+     */
+    public static boolean isDependencyFailure(Throwable e) {
+        if (e instanceof HttpStatusCodeException http) {
+            return http.getStatusCode().is5xxServerError() || http.getStatusCode().value() == 429;
+        }
+        if (e instanceof WebClientResponseException http) {
+            return http.getStatusCode().is5xxServerError() || http.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    private void record(Throwable e, long elapsedNanos) {
+        if (e != null && isDependencyFailure(e)) {
+            circuitBreaker.onFailure(elapsedNanos);
+            count("failure");
+        } else {
+            circuitBreaker.onSuccess(elapsedNanos);
+            count("success");
+        }
+    }
+
+    private ExternalServiceException shortCircuited() {
+        count("short_circuited");
+        return new ExternalServiceException(ErrorStatus.EXTERNAL_DEPENDENCY_UNAVAILABLE.getMessage());
+    }
+
+    private ExternalServiceException rejected() {
+        count("rejected");
+        log.warn("[외부 호출] {} 동시 호출 한도({}) 초과 → 거절", name, bulkhead.getMaxConcurrent());
+        return new ExternalServiceException(ErrorStatus.EXTERNAL_DEPENDENCY_UNAVAILABLE.getMessage());
+    }
+
+    private void count(String result) {
+        counters.computeIfAbsent(result, r -> Counter.builder("resilience.calls")
+                .tag("dependency", name)
+                .tag("result", r)
+                .register(meterRegistry)
+        ).increment();
+    }
+}
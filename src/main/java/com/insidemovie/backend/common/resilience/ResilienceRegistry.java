@@ -0,0 +1,80 @@
+package com.insidemovie.backend.common.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 의존성(tmdb / kobis / kakao / fastapi)별 ResilienceGuard.
+ * 설정은 resilience.{이름}.* 에서 읽고, 없는 항목은 기본값을 쓴다.
+ * 메트릭: resilience.circuit.state{dependency} (0: CLOSED, 1: HALF_OPEN, 2: OPEN), resilience.bulkhead.available{dependency}
+ */
+@Component
+public class ResilienceRegistry {
+
+    private final Map<String, ResilienceGuard> guards = new LinkedHashMap<>();
+
+    public ResilienceRegistry(
+            Environment env,
+            MeterRegistry meterRegistry,
+            @Value("${resilience.dependencies:tmdb,kobis,kakao,fastapi}") List<String> dependencies
+    ) {
+        for (String name : dependencies) {
+            ResilienceGuard guard = create(env, meterRegistry, name);
+            guards.put(name, guard);
+            Gauge.builder("resilience.circuit.state", guard.getCircuitBreaker(), ResilienceRegistry::stateValue)
+                    .tag("dependency", name)
+                    .register(meterRegistry);
+            Gauge.builder("resilience.bulkhead.available", guard.getBulkhead(), Bulkhead::getAvailable)
+                    .tag("dependency", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    public ResilienceGuard guard(String name) {
+        ResilienceGuard guard = guards.get(name);
+        if (guard == null) {
+            throw new IllegalArgumentException("등록되지 않은 외부 의존성: " + name);
+        }
+        return guard;
+    }
+
+    public Collection<ResilienceGuard> guards() {
+        return guards.values();
+    }
+
+    private static ResilienceGuard create(Environment env, MeterRegistry meterRegistry, String name) {
+        String prefix = "resilience." + name + ".";
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, new CircuitBreaker.Config(
+                env.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5),
+                env.getProperty(prefix + "slow-call-rate-threshold", Double.class, 0.5),
+                env.getProperty(prefix + "slow-call", Duration.class, Duration.ofSeconds(3)),
+                env.getProperty(prefix + "window-size", Integer.class, 20),
+                env.getProperty(prefix + "minimum-calls", Integer.class, 10),
+                env.getProperty(prefix + "open-duration", Duration.class, Duration.ofSeconds(30)),
+                env.getProperty(prefix + "half-open-probes", Integer.class, 3)
+        ));
+        Bulkhead bulkhead = new Bulkhead(
+                env.getProperty(prefix + "max-concurrent", Integer.class, 20),
+                env.getProperty(prefix + "max-wait", Duration.class, Duration.ofMillis(100))
+        );
+        Duration timeout = env.getProperty(prefix + "timeout", Duration.class, Duration.ofSeconds(10));
+        return new ResilienceGuard(name, circuitBreaker, bulkhead, timeout, meterRegistry);
+    }
+
+    private static double stateValue(CircuitBreaker circuitBreaker) {
+        return switch (circuitBreaker.getState()) {
+            case CLOSED -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN -> 2;
+        };
+    }
+}
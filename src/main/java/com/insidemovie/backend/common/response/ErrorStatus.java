@@ -23,6 +23,8 @@ public enum ErrorStatus {
     DUPLICATE_REPORT_EXCEPTION(HttpStatus.BAD_REQUEST, "이미 신고한 리뷰입니다."),
     BAD_REQUEST_ALREADY_LOGOUT(HttpStatus.BAD_REQUEST, "이미 로그아웃 된 사용자입니다."),
     DUPLICATE_VOTE_EXCEPTION(HttpStatus.BAD_REQUEST, "이미 투표한 사용자입니다."),
+    INVALID_BACKFILL_RANGE(HttpStatus.BAD_REQUEST, "백필 기간이 올바르지 않습니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST, "커서 값이 올바르지 않습니다."),
 
     /** 401 UNAUTHORIZED */
     USER_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
@@ -46,12 +48,16 @@ public enum ErrorStatus {
     NOT_FOUND_MATCH(HttpStatus.NOT_FOUND, "최근 매치를 찾을 수 없습니다."),
     NOT_FOUND_WINNER(HttpStatus.NOT_FOUND, "우승 영화 검색에 실패하였습니다."),
 
+    /** 409 CONFLICT */
+    BOXOFFICE_BACKFILL_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 박스오피스 백필이 진행 중입니다."),
+
     /** 500 SERVER_ERROR */
     FAIL_UPLOAD_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"파일 업로드 실패하였습니다."),
 
     /** 503 ERROR */
     EXTERNAL_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "외부 감정 분석 서비스 호출에 실패하였습니다."),
     EXTERNAL_RECOMMEND_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "외부 영화 추천 서비스 호출에 실패하였습니다."),
+    EXTERNAL_DEPENDENCY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus httpStatus;
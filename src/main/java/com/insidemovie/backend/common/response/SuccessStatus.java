@@ -23,6 +23,7 @@ public enum SuccessStatus {
     UPDATE_PASSWORD_SUCCESS(HttpStatus.OK, "비밀번호 수정 성공"),
     SEND_REVIEW_LIKE_SUCCESS(HttpStatus.OK, "리뷰 좋아요 토글 성공"),
     SEND_MY_REVIEW_SUCCESS(HttpStatus.OK, "내 리뷰 조회 성공"),
+    SEND_REVIEW_EMOTION_STATUS_SUCCESS(HttpStatus.OK, "리뷰 감정 분석 상태 조회 성공"),
     SEND_MY_MOVIE_SUCCESS(HttpStatus.OK, "내 영화 좋아요 목록 조회 성공"),
     REPORT_CREATE_SUCCESS(HttpStatus.OK, "신고 접수 성공"),
     SEND_MEMBER_LIST_SUCCESS(HttpStatus.OK, "사용자 목록 조회 성공"),
@@ -48,6 +49,7 @@ public enum SuccessStatus {
     CHECK_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 중복 여부 확인 성공"),
     SEND_POPULAR_MOVIES_SUCCESS(HttpStatus.OK, "인기 영화 조회 성공"),
     SEND_BOXOFFICE_MOVIE_DETAIL_SUCCESS(HttpStatus.OK, "박스오피스의 상세정보 조회 성공"),
+    SEND_BOXOFFICE_TREND_SUCCESS(HttpStatus.OK, "영화 박스오피스 추이 조회 성공"),
     SEND_GENRE_MOVIES_SUCCESS(HttpStatus.OK, "장르별 영화 조회 성공"),
     SEND_WATCHED_MOVIES_SUCCESS(HttpStatus.OK, "내가 관람한 영화 조회 성공"),
     SEND_RECOMMEND_MOVIES_SUCCESS(HttpStatus.OK, "추천 영화 조회 성공"),
@@ -56,6 +58,9 @@ public enum SuccessStatus {
     GET_WINNER_SUCCESS(HttpStatus.OK, "우승 내역 조회 성공"),
     SEND_EMAIL_SUCCESS(HttpStatus.OK, "이메일 인증코드 전송 성공"),
     VERIFY_CODE_SUCCESS(HttpStatus.OK, "인증번호 검증 성공"),
+    START_BOXOFFICE_BACKFILL_SUCCESS(HttpStatus.OK, "박스오피스 백필 시작"),
+    SEND_BOXOFFICE_BACKFILL_STATUS_SUCCESS(HttpStatus.OK, "박스오피스 백필 진행 상황 조회 성공"),
+    REQUEUE_EMOTION_TASK_SUCCESS(HttpStatus.OK, "실패한 감정 분석 작업 재처리 요청 성공"),
 
 
     /** 201 CREATED */
@@ -0,0 +1,80 @@
+package com.insidemovie.backend.common.stub;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+
+/**
+ * 오프라인 테스트용 감정 분석 모델 가짜 서버 (fastapi-stub 프로필에서만 활성화).
+ * fastapi.base-url 을 http://localhost:8080/fastapi-stub 로 두면
+ * 단건 / 배치 예측을 본문 해시 기반의 결정적인 확률로 응답한다.
+ * 지연은 요청당 고정 비용(latency-ms) + 건당 비용(per-item-ms)으로 흉내 내 배칭 효과를 확인할 수 있다.
+ */
+@Hidden
+@Profile("fastapi-stub")
+@RestController
+@RequestMapping("/fastapi-stub")
+public class FastApiStubController {
+
+    private static final List<String> EMOTIONS = List.of("joy", "sadness", "anger", "fear", "disgust");
+
+    @Value("${fastapi.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${fastapi.stub.per-item-ms:0}")
+    private long perItemMs;
+
+    @PostMapping("/predict/overall_avg")
+    public Map<String, Object> predict(@RequestBody Map<String, String> body) {
+        String text = body.getOrDefault("text", "");
+        delay(1);
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("text", text);
+        m.put("probabilities", probabilities(text));
+        return m;
+    }
+
+    @PostMapping("/predict/batch")
+    public Map<String, Object> predictBatch(@RequestBody Map<String, List<String>> body) {
+        List<String> texts = body.getOrDefault("texts", List.of());
+        delay(texts.size());
+        List<Map<String, Object>> results = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("text", text);
+            m.put("probabilities", probabilities(text));
+            results.add(m);
+        }
+        return Map.of("results", results);
+    }
+
+    private Map<String, Double> probabilities(String text) {
+        Random random = new Random(text.hashCode());
+        double[] raw = new double[EMOTIONS.size()];
+        double sum = 0;
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = random.nextDouble() + 0.01;
+            sum += raw[i];
+        }
+        Map<String, Double> m = new LinkedHashMap<>();
+        for (int i = 0; i < raw.length; i++) {
+            m.put(EMOTIONS.get(i), raw[i] / sum);
+        }
+        return m;
+    }
+
+    private void delay(int items) {
+        long millis = latencyMs + perItemMs * items;
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
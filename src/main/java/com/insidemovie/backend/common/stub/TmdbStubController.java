@@ -0,0 +1,120 @@
+package com.insidemovie.backend.common.stub;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+
+/**
+ * 오프라인 테스트용 TMDB 가짜 서버 (tmdb-stub 프로필에서만 활성화).
+ * tmdb.api.base-url 을 http://localhost:8080/tmdb-stub/3 로 두면
+ * 목록 / 상세 / 검색 / 변경 피드를 결정적인 가짜 데이터로 응답한다.
+ */
+@Hidden
+@Profile("tmdb-stub")
+@RestController
+@RequestMapping("/tmdb-stub/3")
+public class TmdbStubController {
+
+    private static final int LIST_PAGE_SIZE = 20;
+    private static final int CHANGES_PAGE_SIZE = 100;
+
+    @Value("${tmdb.stub.catalog-size:1000}")
+    private int catalogSize;
+
+    @Value("${tmdb.stub.change-every:7}")
+    private int changeEvery;          // N 번째 영화마다 "변경됨" 으로 노출
+
+    @Value("${tmdb.stub.latency-ms:0}")
+    private long latencyMs;           // 실제 API 지연 흉내
+
+    @GetMapping("/movie/changes")
+    public Map<String, Object> changes(@RequestParam(defaultValue = "1") int page) {
+        List<Map<String, Object>> all = new ArrayList<>();
+        for (long id = changeEvery; id <= catalogSize; id += changeEvery) {
+            all.add(Map.of("id", id, "adult", false));
+        }
+        return pageOf(all, page, CHANGES_PAGE_SIZE);
+    }
+
+    @GetMapping("/movie/{idOrType}")
+    public Map<String, Object> movie(@PathVariable String idOrType,
+                                     @RequestParam(defaultValue = "1") int page) {
+        delay();
+        if (idOrType.chars().allMatch(Character::isDigit)) {
+            return detail(Long.parseLong(idOrType));
+        }
+        List<Map<String, Object>> all = new ArrayList<>();
+        for (long id = 1; id <= catalogSize; id++) {
+            all.add(listItem(id));
+        }
+        return pageOf(all, page, LIST_PAGE_SIZE);
+    }
+
+    @GetMapping("/search/movie")
+    public Map<String, Object> search(@RequestParam String query) {
+        delay();
+        long id = Math.floorMod(query.hashCode(), catalogSize) + 1L;
+        return pageOf(List.of(listItem(id)), 1, LIST_PAGE_SIZE);
+    }
+
+    private Map<String, Object> listItem(long id) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", id);
+        m.put("title", "테스트 영화 " + id);
+        m.put("overview", "테스트 영화 " + id + " 줄거리");
+        m.put("poster_path", "/poster" + id + ".jpg");
+        m.put("backdrop_path", "/backdrop" + id + ".jpg");
+        m.put("vote_average", 5.0 + (id % 50) / 10.0);
+        m.put("vote_count", id * 3);
+        m.put("release_date", "2024-01-" + String.format("%02d", id % 28 + 1));
+        m.put("original_language", id % 2 == 0 ? "ko" : "en");
+        m.put("popularity", (double) (catalogSize - id));
+        m.put("adult", false);
+        return m;
+    }
+
+    private Map<String, Object> detail(long id) {
+        Map<String, Object> m = listItem(id);
+        m.put("original_title", "Stub Movie " + id);
+        m.put("runtime", 90 + (int) (id % 60));
+        m.put("status", "Released");
+        m.put("genres", List.of(Map.of("id", 28, "name", "액션"), Map.of("id", 18, "name", "드라마")));
+        m.put("credits", Map.of(
+                "cast", List.of(Map.of("id", 1, "name", "배우 " + id, "character", "주연")),
+                "crew", List.of(Map.of("name", "감독 " + id, "job", "Director"))
+        ));
+        m.put("release_dates", Map.of("results", List.of(Map.of(
+                "iso_3166_1", "KR",
+                "release_dates", List.of(Map.of("certification", "12"))
+        ))));
+        m.put("watch/providers", Map.of("results", Map.of(
+                "KR", Map.of("flatrate", List.of(Map.of("provider_id", 8, "provider_name", "Netflix")))
+        )));
+        return m;
+    }
+
+    private Map<String, Object> pageOf(List<Map<String, Object>> all, int page, int pageSize) {
+        int from = Math.min((page - 1) * pageSize, all.size());
+        int to = Math.min(from + pageSize, all.size());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("page", page);
+        body.put("results", all.subList(from, to));
+        body.put("total_pages", (all.size() + pageSize - 1) / pageSize);
+        body.put("total_results", all.size());
+        return body;
+    }
+
+    private void delay() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
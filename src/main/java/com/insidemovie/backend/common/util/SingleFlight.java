@@ -0,0 +1,56 @@
+package com.insidemovie.backend.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합친다.
+ * 먼저 들어온 호출만 loader 를 실행하고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받는다.
+ * 완료되면 키를 비우므로 결과를 캐시하지는 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = calls.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 수
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // 실행한 쪽과 같은 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
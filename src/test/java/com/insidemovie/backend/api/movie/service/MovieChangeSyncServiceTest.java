@@ -0,0 +1,115 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.movie.client.ReactiveTmdbClient;
+import com.insidemovie.backend.api.movie.client.TmdbClient;
+import com.insidemovie.backend.api.movie.dto.tmdb.ChangedMovieDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieChangesDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.MovieDetailDTO;
+import com.insidemovie.backend.api.movie.entity.SyncWatermark;
+import com.insidemovie.backend.api.movie.repository.SyncWatermarkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieChangeSyncServiceTest {
+
+    private static final String ZONE = "Asia/Seoul";
+
+    @Mock
+    private TmdbClient tmdbClient;
+
+    @Mock
+    private ReactiveTmdbClient reactiveTmdbClient;
+
+    @Mock
+    private MovieService movieService;
+
+    @Mock
+    private SyncWatermarkRepository syncWatermarkRepository;
+
+    private MovieChangeSyncService movieChangeSyncService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        MovieIngestionService movieIngestionService =
+                new MovieIngestionService(reactiveTmdbClient, movieService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(movieIngestionService, "fetchConcurrency", 4);
+        ReflectionTestUtils.setField(movieIngestionService, "writeBatchSize", 20);
+        ReflectionTestUtils.setField(movieIngestionService, "bulkWriteEnabled", true);
+
+        movieChangeSyncService = new MovieChangeSyncService(
+                tmdbClient, movieService, movieIngestionService, syncWatermarkRepository);
+        ReflectionTestUtils.setField(movieChangeSyncService, "zone", ZONE);
+
+        today = LocalDate.now(ZoneId.of(ZONE));
+        when(syncWatermarkRepository.findById(MovieChangeSyncService.SYNC_KEY))
+                .thenReturn(Optional.of(SyncWatermark.builder()
+                        .syncKey(MovieChangeSyncService.SYNC_KEY)
+                        .syncedUntil(today.minusDays(1))
+                        .build()));
+        when(tmdbClient.fetchChangedMovies(any(), any(), anyInt()))
+                .thenReturn(Optional.of(new MovieChangesDTO(1, List.of(changed(1L), changed(2L)), 1, 2)));
+        when(movieService.findExistingTmdbIds(anyCollection()))
+                .thenReturn(new LinkedHashSet<>(List.of(1L, 2L)));
+    }
+
+    @Test
+    void removedMovieDoesNotHoldWatermark() {
+        when(reactiveTmdbClient.fetchMovieDetailFresh(1L)).thenReturn(Mono.just(detail(1L)));
+        when(reactiveTmdbClient.fetchMovieDetailFresh(2L)).thenReturn(Mono.empty());   // 404
+        when(movieService.saveMovieDetailsBulk(anyList())).thenReturn(1);
+        when(syncWatermarkRepository.advance(MovieChangeSyncService.SYNC_KEY, today.minusDays(1), today))
+                .thenReturn(1);
+
+        movieChangeSyncService.sync();
+
+        verify(syncWatermarkRepository).advance(MovieChangeSyncService.SYNC_KEY, today.minusDays(1), today);
+    }
+
+    @Test
+    void transientFailureHoldsWatermark() {
+        when(reactiveTmdbClient.fetchMovieDetailFresh(1L)).thenReturn(Mono.just(detail(1L)));
+        when(reactiveTmdbClient.fetchMovieDetailFresh(2L)).thenReturn(Mono.error(
+                WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
+        when(movieService.saveMovieDetailsBulk(anyList())).thenReturn(1);
+
+        movieChangeSyncService.sync();
+
+        verify(syncWatermarkRepository, never()).advance(anyString(), any(), any());
+    }
+
+    private static ChangedMovieDTO changed(Long id) {
+        ChangedMovieDTO dto = new ChangedMovieDTO();
+        dto.setId(id);
+        dto.setAdult(false);
+        return dto;
+    }
+
+    private static MovieDetailDTO detail(Long id) {
+        MovieDetailDTO detail = new MovieDetailDTO();
+        detail.setId(id);
+        return detail;
+    }
+}
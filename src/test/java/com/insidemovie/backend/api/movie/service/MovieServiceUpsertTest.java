@@ -0,0 +1,78 @@
+package com.insidemovie.backend.api.movie.service;
+
+import com.insidemovie.backend.api.constant.GenreType;
+import com.insidemovie.backend.api.movie.dto.MovieCreditsDTO;
+import com.insidemovie.backend.api.movie.dto.MovieUpsertDTO;
+import com.insidemovie.backend.api.movie.dto.tmdb.SearchMovieResponseDTO;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.movie.repository.MovieJdbcRepository;
+import com.insidemovie.backend.api.movie.repository.MovieJdbcRepository.ListFields;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieServiceUpsertTest {
+
+    private static final Long TMDB_ID = 550L;
+
+    @Mock
+    private MovieJdbcRepository movieJdbcRepository;
+
+    @InjectMocks
+    private MovieService movieService;
+
+    @Test
+    void popularityChangeIsSavedWhenDetailFingerprintIsUnchanged() {
+        Movie movie = Movie.builder()
+                .tmdbMovieId(TMDB_ID)
+                .popularity(99.5)
+                .voteCount(1234)
+                .listFingerprint("list-fp")
+                .detailFingerprint("detail-fp")
+                .build();
+        when(movieJdbcRepository.findDetailFingerprints(anyCollection()))
+                .thenReturn(Map.of(TMDB_ID, "detail-fp"));
+
+        int saved = movieService.saveMovieUpserts(List.of(new MovieUpsertDTO(movie, Set.of(GenreType.드라마),
+                new MovieCreditsDTO(List.of(), List.of(), List.of()))));
+
+        assertThat(saved).isZero();
+        verify(movieJdbcRepository, never()).upsertMovies(any());
+        assertThat(capturedListFields())
+                .containsExactly(new ListFields(TMDB_ID, "list-fp", 99.5, 1234));
+    }
+
+    @Test
+    void skippedListEntriesKeepPopularityAndVoteCountFresh() {
+        SearchMovieResponseDTO dto = new SearchMovieResponseDTO();
+        dto.setId(TMDB_ID);
+        dto.setTitle("파이트 클럽");
+        dto.setPopularity(42.0);
+        dto.setVoteCount(30000);
+
+        movieService.updateSkippedListFields(List.of(dto));
+
+        assertThat(capturedListFields())
+                .containsExactly(new ListFields(TMDB_ID, MovieFingerprint.ofList(dto), 42.0, 30000));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ListFields> capturedListFields() {
+        ArgumentCaptor<List<ListFields>> captor = ArgumentCaptor.forClass(List.class);
+        verify(movieJdbcRepository).updateListFields(captor.capture());
+        return captor.getValue();
+    }
+}
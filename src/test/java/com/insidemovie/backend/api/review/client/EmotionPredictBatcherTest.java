@@ -0,0 +1,179 @@
+package com.insidemovie.backend.api.review.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.resilience.Bulkhead;
+import com.insidemovie.backend.common.resilience.CircuitBreaker;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 모델 서버를 MockRestServiceServer 로 흉내 내 배칭 / 결과 분배 / 거절된 배치의 건별 재요청 확인.
+ * 가짜 모델은 "review-{i}" 본문에 joy = i / 100 을 돌려주므로 각 요청이 자기 본문의 결과를 받았는지 알 수 있다.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmotionPredictBatcherTest {
+
+    private static final String BASE_URL = "http://fastapi";
+    private static final int CALLS = 8;
+    private static final String BAD_TEXT = "review-3";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ResilienceRegistry resilienceRegistry;
+
+    private MockRestServiceServer server;
+    private EmotionPredictBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(BASE_URL));
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker("fastapi", new CircuitBreaker.Config(
+                0.5, 1.0, Duration.ofSeconds(10), 10, 5, Duration.ofMinutes(1), 1));
+        ResilienceGuard guard = new ResilienceGuard("fastapi", circuitBreaker,
+                new Bulkhead(4, Duration.ZERO), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        when(resilienceRegistry.guard("fastapi")).thenReturn(guard);
+
+        // max-size 만큼 모이면 바로 전송, 대기 시간은 넉넉히 (한 배치로 모이는지 확인)
+        batcher = new EmotionPredictBatcher(new EmotionPredictClient(restTemplate, resilienceRegistry),
+                new SimpleMeterRegistry(), true, CALLS, Duration.ofSeconds(5), 2, 100);
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+    }
+
+    @Test
+    void concurrentPredictionsShareOneBatchRequest() throws Exception {
+        server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/predict/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(batchResponse());
+
+        List<CompletableFuture<Map<String, Double>>> futures = predictConcurrently();
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).get("joy")).isEqualTo(joyOf("review-" + i));
+        }
+        server.verify();
+    }
+
+    @Test
+    void rejectedBatchFallsBackToSingleRequests() throws Exception {
+        server.expect(ExpectedCount.once(), requestTo(BASE_URL + "/predict/batch"))
+                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        server.expect(ExpectedCount.times(CALLS), requestTo(BASE_URL + "/predict/overall_avg"))
+                .andRespond(singleResponse());
+
+        List<CompletableFuture<Map<String, Double>>> futures = predictConcurrently();
+
+        for (int i = 0; i < CALLS; i++) {
+            String text = "review-" + i;
+            CompletableFuture<Map<String, Double>> future = futures.get(i);
+            if (text.equals(BAD_TEXT)) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(ExternalServiceException.class);
+            } else {
+                assertThat(future.get(5, TimeUnit.SECONDS).get("joy")).isEqualTo(joyOf(text));
+            }
+        }
+        server.verify();
+    }
+
+    // 스레드마다 predict 를 하나씩 호출, 결과는 본문 번호 순서로 반환
+    private List<CompletableFuture<Map<String, Double>>> predictConcurrently() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLS);
+        try {
+            List<Future<CompletableFuture<Map<String, Double>>>> submitted = new ArrayList<>();
+            for (int i = 0; i < CALLS; i++) {
+                String text = "review-" + i;
+                submitted.add(callers.submit(() -> batcher.predict(text)));
+            }
+            List<CompletableFuture<Map<String, Double>>> futures = new ArrayList<>();
+            for (Future<CompletableFuture<Map<String, Double>>> f : submitted) {
+                futures.add(f.get(5, TimeUnit.SECONDS));
+            }
+            return futures;
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    // 요청 texts 순서대로 결과를 돌려주는 가짜 /predict/batch
+    private ResponseCreator batchResponse() {
+        return request -> {
+            Map<String, List<String>> body = objectMapper.readValue(
+                    ((MockClientHttpRequest) request).getBodyAsString(), new TypeReference<>() {});
+            List<Map<String, Object>> results = body.get("texts").stream().map(this::result).toList();
+            return withSuccess(objectMapper.writeValueAsString(Map.of("results", results)),
+                    MediaType.APPLICATION_JSON).createResponse(request);
+        };
+    }
+
+    // BAD_TEXT 에만 422 를 돌려주는 가짜 /predict/overall_avg
+    private ResponseCreator singleResponse() {
+        return request -> {
+            Map<String, String> body = objectMapper.readValue(
+                    ((MockClientHttpRequest) request).getBodyAsString(), new TypeReference<>() {});
+            String text = body.get("text");
+            if (BAD_TEXT.equals(text)) {
+                return withStatus(HttpStatus.UNPROCESSABLE_ENTITY).createResponse(request);
+            }
+            return withSuccess(objectMapper.writeValueAsString(result(text)),
+                    MediaType.APPLICATION_JSON).createResponse(request);
+        };
+    }
+
+    private Map<String, Object> result(String text) {
+        double joy = joyOf(text);
+        return Map.of("text", text, "probabilities", Map.of(
+                "joy", joy, "sadness", (1 - joy) / 4, "anger", (1 - joy) / 4,
+                "fear", (1 - joy) / 4, "disgust", (1 - joy) / 4));
+    }
+
+    private static double joyOf(String text) {
+        return Integer.parseInt(text.substring("review-".length())) / 100.0;
+    }
+}
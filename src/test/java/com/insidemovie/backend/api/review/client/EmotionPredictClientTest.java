@@ -0,0 +1,81 @@
+package com.insidemovie.backend.api.review.client;
+
+import com.insidemovie.backend.api.review.dto.PredictResponseDTO;
+import com.insidemovie.backend.common.exception.ExternalServiceException;
+import com.insidemovie.backend.common.resilience.Bulkhead;
+import com.insidemovie.backend.common.resilience.CircuitBreaker;
+import com.insidemovie.backend.common.resilience.ResilienceGuard;
+import com.insidemovie.backend.common.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionPredictClientTest {
+
+    private static final int CALLS = 10;
+
+    @Mock
+    private RestTemplate fastApiRestTemplate;
+
+    @Mock
+    private ResilienceRegistry resilienceRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    private EmotionPredictClient emotionPredictClient;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker("fastapi", new CircuitBreaker.Config(
+                0.5, 1.0, Duration.ofSeconds(10), CALLS, 5, Duration.ofMinutes(1), 1));
+        ResilienceGuard guard = new ResilienceGuard("fastapi", circuitBreaker,
+                new Bulkhead(4, Duration.ZERO), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        when(resilienceRegistry.guard("fastapi")).thenReturn(guard);
+        emotionPredictClient = new EmotionPredictClient(fastApiRestTemplate, resilienceRegistry);
+    }
+
+    @Test
+    void unprocessableRequestDoesNotOpenBreaker() {
+        when(fastApiRestTemplate.postForObject(anyString(), any(), eq(PredictResponseDTO.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Unprocessable Entity", null, null, null));
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThatThrownBy(() -> emotionPredictClient.predict("리뷰"))
+                    .isInstanceOf(ExternalServiceException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void serverErrorsOpenBreaker() {
+        when(fastApiRestTemplate.postForObject(anyString(), any(), eq(PredictResponseDTO.class)))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Service Unavailable", null, null, null));
+
+        for (int i = 0; i < CALLS; i++) {
+            assertThatThrownBy(() -> emotionPredictClient.predict("리뷰"))
+                    .isInstanceOf(ExternalServiceException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,132 @@
+package com.insidemovie.backend.api.review.service;
+
+import com.insidemovie.backend.api.constant.Authority;
+import com.insidemovie.backend.api.constant.EmotionType;
+import com.insidemovie.backend.api.constant.ReportReason;
+import com.insidemovie.backend.api.constant.ReportStatus;
+import com.insidemovie.backend.api.member.entity.Member;
+import com.insidemovie.backend.api.member.entity.MemberEmotionSummary;
+import com.insidemovie.backend.api.movie.entity.Movie;
+import com.insidemovie.backend.api.report.entity.Report;
+import com.insidemovie.backend.api.review.dto.ReviewResponseDTO;
+import com.insidemovie.backend.api.review.entity.Emotion;
+import com.insidemovie.backend.api.review.entity.Review;
+import com.insidemovie.backend.api.review.entity.ReviewLike;
+import com.insidemovie.backend.api.review.repository.ReviewLikeJdbcRepository;
+import com.insidemovie.backend.api.review.repository.ReviewRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 목록 한 페이지(조회 + 응답 생성)에 나가는 SQL 수가 리뷰 / 작성자 수와 무관하게 고정인지 확인.
+ * 페이지 조회 1(작성자 / 작성자 감정 요약 / 감정 포함) + 내 좋아요 1 + 신고 상태 1 = 3회.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ReviewPageAssembler.class, ReviewLikeBuffer.class, ReviewLikeJdbcRepository.class})
+class ReviewPageAssemblerTest {
+
+    private static final long EXPECTED_STATEMENTS = 3;
+
+    // BackendApplication 의 관리자 계정 초기화 빈이 요구
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewPageAssembler reviewPageAssembler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void pageStatementCountIsFixed(int reviewCount) {
+        Movie movie = em.persist(Movie.builder().title("movie").tmdbMovieId(100L).build());
+        Member viewer = em.persist(member("viewer"));
+
+        // 리뷰마다 작성자가 다르고, 작성자마다 감정 요약, 리뷰마다 감정이 있음
+        // 짝수 리뷰는 viewer 가 좋아요, 홀수 리뷰는 viewer 가 신고
+        for (int i = 1; i <= reviewCount; i++) {
+            Member writer = em.persist(member("writer" + i));
+            em.persist(MemberEmotionSummary.builder()
+                    .member(writer)
+                    .joy(0.5f).sadness(0.1f).fear(0.1f).anger(0.2f).disgust(0.1f)
+                    .repEmotionType(EmotionType.JOY)
+                    .build());
+            Review review = em.persist(Review.builder()
+                    .content("review " + i)
+                    .rating(4.0)
+                    .member(writer)
+                    .movie(movie)
+                    .isReported(i % 2 == 1)
+                    .build());
+            em.persist(Emotion.builder()
+                    .joy(0.6).sadness(0.1).anger(0.1).fear(0.1).disgust(0.1)
+                    .review(review)
+                    .build());
+            if (i % 2 == 0) {
+                em.persist(ReviewLike.builder().review(review).member(viewer).build());
+            } else {
+                em.persist(Report.builder()
+                        .review(review)
+                        .reporter(viewer)
+                        .reportedMember(writer)
+                        .reason(ReportReason.SPOILER)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        List<Review> page = reviewRepository.findByMovie_IdAndIsConcealedFalse(
+                movie.getId(), Sort.by(Sort.Direction.DESC, "id"), Limit.of(20));
+        List<ReviewResponseDTO> result = reviewPageAssembler.assemble(page, viewer.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+
+        assertThat(result).hasSize(reviewCount);
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.getEmotion()).isNotNull();
+            assertThat(dto.getMemberEmotion()).isEqualTo(EmotionType.JOY.name());
+            assertThat(dto.isMyReview()).isFalse();
+        });
+        assertThat(result).filteredOn(ReviewResponseDTO::isMyLike).hasSize(reviewCount / 2);
+        assertThat(result).filteredOn(dto -> dto.getReportStatus() == ReportStatus.UNPROCESSED)
+                .hasSize((reviewCount + 1) / 2);
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .authority(Authority.ROLE_USER)
+                .build();
+    }
+}